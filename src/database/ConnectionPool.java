@@ -0,0 +1,130 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A small pool of connections to a database. Each connection is used by one caller at a time and is kept open when
+ * it is returned, so later callers don't need to connect again.
+ */
+public class ConnectionPool {
+
+	/** The URL of the database. */
+	private String url;
+	/** Limits the number of connections that can be in use at once. */
+	private Semaphore permits;
+	/** Connections that are open and not being used. */
+	private Deque<Connection> idle = new ArrayDeque<>();
+	/** Whether the pool has been closed. */
+	private boolean closed = false;
+
+	/**
+	 * Initializes a pool.
+	 * @param url The URL of the database.
+	 * @param maxConnections The largest number of connections that can be in use at once.
+	 */
+	public ConnectionPool(String url, int maxConnections) {
+		if (maxConnections < 1) {
+			throw new IllegalArgumentException("A connection pool needs at least one connection.");
+		}
+		this.url = url;
+		permits = new Semaphore(maxConnections, true);
+	}
+
+	/**
+	 * Takes a connection from the pool, waiting if every connection is in use.
+	 * @return An open connection to the database.
+	 * @throws SQLException If a connection can't be made.
+	 */
+	public Connection borrow() throws SQLException {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a database connection.", e);
+		}
+		try {
+			Connection connection;
+			while ((connection = pollIdle()) != null) {
+				if (!connection.isClosed()) {
+					return connection;
+				}
+			}
+			return DriverManager.getConnection(url);
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Takes an idle connection from the pool.
+	 * @return An idle connection, or null if there are none.
+	 * @throws IllegalStateException If the pool has been closed.
+	 */
+	private synchronized Connection pollIdle() {
+		if (closed) {
+			throw new IllegalStateException("The connection pool has been closed.");
+		}
+		return idle.poll();
+	}
+
+	/**
+	 * Returns a connection to the pool so that it can be used again.
+	 * @param connection The connection to return.
+	 */
+	public void release(Connection connection) {
+		boolean poolClosed;
+		synchronized (this) {
+			poolClosed = closed;
+			if (!poolClosed) {
+				idle.push(connection);
+			}
+		}
+		if (poolClosed) {
+			closeConnection(connection);
+		}
+		permits.release();
+	}
+
+	/**
+	 * Closes every idle connection. Connections that are still in use are closed when they are returned.
+	 */
+	public void close() {
+		List<Connection> connections;
+		synchronized (this) {
+			closed = true;
+			connections = new ArrayList<>(idle);
+			idle.clear();
+		}
+		for (Connection connection : connections) {
+			closeConnection(connection);
+		}
+	}
+
+	/**
+	 * Checks if the pool has been closed.
+	 * @return Whether the pool has been closed.
+	 */
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Closes a connection.
+	 * @param connection The connection to close.
+	 */
+	private static void closeConnection(Connection connection) {
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+	}
+}
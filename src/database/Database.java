@@ -3,7 +3,7 @@ package database;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -11,6 +11,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import miner.storage.DexNumberContainer;
 import util.FileIO;
@@ -20,14 +22,19 @@ import util.FileIO;
  */
 public class Database {
 
-	/** The connection to the Pixelmon database. */
-	private Connection connection = null;
-	/** A statement to query the database with. */
-	private Statement statement = null;
-	/** The result of a database query. */
-	private ResultSet resultSet = null;
-	/** Whether a connection has been made to the database. */
-	private boolean madeConnection = false;
+	/** The URL of the Pixelmon database. */
+	private static final String DATABASE_URL = "jdbc:h2:file:Pixelmon2";
+	/** The default number of connections to the database that can be in use at once. */
+	private static final int DEFAULT_POOL_SIZE = 4;
+
+	/** The pool of connections to the Pixelmon database. */
+	private ConnectionPool pool;
+	/** The connection, statement and last result used by each thread. */
+	private ThreadLocal<ThreadConnection> threadConnections = new ThreadLocal<>();
+	/** Every connection currently held by a thread. */
+	private Set<ThreadConnection> heldConnections = ConcurrentHashMap.newKeySet();
+	/** Whether a connection has been made since the database was opened. */
+	private AtomicBoolean madeFirstConnection = new AtomicBoolean();
 
 	/** A map from type names to their database indices. */
 	private Map<String, Integer> typeMap;
@@ -41,6 +48,8 @@ public class Database {
 	
 	/** Indexes Pokémon by Pokédex number. */
 	private DexNumberContainer dexContainer;
+	/** An in-memory copy of the Pokémon tables. */
+	private PixelmonSnapshot snapshot;
 	
 	/** Maps lang keys to text strings. */
 	private Map<String, String> langMap;
@@ -55,68 +64,93 @@ public class Database {
 	 * Connects to the database.
 	 */
 	private Database() {
-		getConnection();
+		openPool();
 	}
-	
+
 	/**
-	 * Gets the singleton instance of the database.
+	 * Gets the singleton instance of the database. Reconnects if the database was closed.
 	 * @return The singleton instance of the database.
 	 */
-	public static Database getDatabase() {
+	public static synchronized Database getDatabase() {
 		if (instance == null) {
 			instance = new Database();
 		}
-		instance.getConnection();
+		instance.openPool();
 		return instance;
 	}
 
 	/**
-	 * Gets the connection to the path.
+	 * Closes the database if it has been opened.
 	 */
-	public void getConnection() {
-		try {
-			if (!madeConnection || connection.isClosed()) {
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.closeConnection();
+		}
+	}
+
+	/**
+	 * Creates the connection pool if it hasn't been created or was closed. The pool size is read from the
+	 * miner.db.poolSize property.
+	 */
+	private synchronized void openPool() {
+		if (pool == null || pool.isClosed()) {
+			try {
 				Class.forName("org.h2.Driver");
-				connection = DriverManager.getConnection("jdbc:h2:file:Pixelmon2");
-				madeConnection = true;
-				statement = connection.createStatement();
-				System.out.println("Database connection successful.");
+			} catch (ClassNotFoundException e) {
+				System.out.println("Could not get a connection to database.");
+				e.printStackTrace();
 			}
-		} catch (Exception e) {
-			System.out.println("Could not get a connection to database.");
-			e.printStackTrace();
+			pool = new ConnectionPool(DATABASE_URL, Integer.getInteger("miner.db.poolSize", DEFAULT_POOL_SIZE));
 		}
 	}
 
 	/**
-	 * Closes the database connection and all related fields.
+	 * Gets the connection used by the current thread, taking one from the pool if the thread doesn't have one. The
+	 * connection stays with the thread until closeConnection is called.
+	 * @return The connection used by the current thread.
+	 * @throws SQLException If a connection can't be made.
 	 */
-	public void closeConnection() {
-		try {
-			if (connection != null) {
-				connection.close();
+	public Connection getConnection() throws SQLException {
+		return getThreadConnection().connection;
+	}
+
+	/**
+	 * Gets the connection held by the current thread, taking one from the pool if the thread doesn't have one.
+	 * @return The connection held by the current thread.
+	 * @throws SQLException If a connection can't be made.
+	 */
+	private ThreadConnection getThreadConnection() throws SQLException {
+		ThreadConnection current = threadConnections.get();
+		if (current == null || current.released) {
+			ConnectionPool currentPool;
+			synchronized (this) {
+				currentPool = pool;
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
-		}
-		try {
-			if (statement != null) {
-				statement.close();
+			current = new ThreadConnection(currentPool, currentPool.borrow());
+			threadConnections.set(current);
+			heldConnections.add(current);
+			if (madeFirstConnection.compareAndSet(false, true)) {
+				System.out.println("Database connection successful.");
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
 		}
-		try {
-			if (resultSet != null && !resultSet.isClosed()) {
-				resultSet.close();
+		return current;
+	}
+
+	/**
+	 * Closes every connection to the database and all related fields.
+	 */
+	public void closeConnection() {
+		threadConnections.remove();
+		for (ThreadConnection held : heldConnections) {
+			heldConnections.remove(held);
+			held.release();
+		}
+		synchronized (this) {
+			if (pool != null) {
+				pool.close();
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
 		}
-		connection = null;
-		statement = null;
-		resultSet = null;
-		madeConnection = false;
+		madeFirstConnection.set(false);
 	}
 
 	/**
@@ -127,86 +161,92 @@ public class Database {
 	public ResultSet executeQuery(StringBuilder query) {
 		return executeQuery(query.toString());
 	}
-	
+
 	/**
-	 * Gets a result from a database query.
+	 * Gets a result from a database query using the current thread's shared statement. The result is closed by the
+	 * next query on the same thread, so nested queries should use query instead.
 	 * @param query The database query to get a result from.
 	 * @return The result of the database query.
 	 */
 	public ResultSet executeQuery(String query) {
 		try {
-			if (resultSet != null && !resultSet.isClosed()) {
-				resultSet.close();
-			}
-			resultSet = statement.executeQuery(query);
-			return resultSet;
+			ThreadConnection current = getThreadConnection();
+			current.closeResult();
+			current.resultSet = current.getStatement().executeQuery(query);
+			return current.resultSet;
 		} catch (SQLException e) {
 			e.printStackTrace();
 		}
 		return null;
 	}
-	
-	/**
-	 * Gets a result from a database query.
-	 * @param query The database query to get a result from.
-	 * @param currentStatement The statement to query the database with.
-	 * @return The result of the database query.
-	 */
-	public ResultSet executeQuery(StringBuilder query, Statement currentStatement) {
-		return executeQuery(query.toString(), currentStatement);
-	}
-	
+
 	/**
-	 * Gets a result from a database query.
-	 * @param query The database query to get a result from.
-	 * @param currentStatement The statement to query the database with.
-	 * @return The result of the database query.
+	 * Runs a database query with its own statement, so the result stays open while other queries are made. The
+	 * query should be closed with try-with-resources.
+	 * @param query The database query to run.
+	 * @return The query handle holding the result.
+	 * @throws SQLException If the query fails.
 	 */
-	public ResultSet executeQuery(String query, Statement currentStatement) {
+	public Query query(CharSequence query) throws SQLException {
+		Statement statement = getConnection().createStatement();
 		try {
-			ResultSet currentResultSet = currentStatement.executeQuery(query);
-			return currentResultSet;
+			return new Query(statement, statement.executeQuery(query.toString()));
 		} catch (SQLException e) {
-			e.printStackTrace();
+			closeStatement(statement, null);
+			throw e;
 		}
-		return null;
 	}
-	
+
 	/**
-	 * Creates a new database statement.
-	 * @return The database statement to create.
+	 * Gets a prepared statement by name for the current thread. Each statement is prepared once per connection and
+	 * reused by later calls with the same name, so the database doesn't need to parse the query again. If the
+	 * statement's result is still open, such as in a recursive lookup, a separate statement is prepared for this
+	 * query. The returned query should be executed, and its result closed with try-with-resources.
+	 * @param name The name of the statement.
+	 * @param sql The SQL of the statement, with ? for each parameter.
+	 * @return The statement, ready for its parameters to be bound.
+	 * @throws SQLException If the statement can't be prepared.
+	 * @throws IllegalArgumentException If the name was already used for different SQL.
 	 */
-	public Statement createNewStatement() {
-		try {
-			return connection.createStatement();
-		} catch (SQLException e) {
-			e.printStackTrace();
-			return null;
+	public PreparedQuery prepare(String name, String sql) throws SQLException {
+		ThreadConnection current = getThreadConnection();
+		CachedStatement cached = current.prepared.get(name);
+		if (cached == null) {
+			cached = new CachedStatement(sql, current.connection.prepareStatement(sql));
+			current.prepared.put(name, cached);
+		} else if (!cached.sql.equals(sql)) {
+			throw new IllegalArgumentException("Statement " + name + " was already prepared with different SQL.");
+		}
+		if (cached.inUse) {
+			return new PreparedQuery(current.connection.prepareStatement(sql), null);
 		}
+		cached.inUse = true;
+		cached.statement.clearParameters();
+		return new PreparedQuery(cached.statement, cached);
 	}
-	
+
 	/**
 	 * Closes a statement and a result set.
 	 * @param currentStatement The statement to close.
 	 * @param currentResultSet The result set to close.
 	 */
-	public void closeStatement(Statement currentStatement, ResultSet currentResultSet) {
+	private static void closeStatement(Statement currentStatement, ResultSet currentResultSet) {
 		try {
-			if (currentStatement != null && !currentStatement.isClosed()) {
-				currentStatement.close();
+			if (currentResultSet != null && !currentResultSet.isClosed()) {
+				currentResultSet.close();
 			}
 		} catch (SQLException e) {
 			e.printStackTrace();
 		}
 		try {
-			if (currentResultSet != null && !currentResultSet.isClosed()) {
-				currentResultSet.close();
+			if (currentStatement != null && !currentStatement.isClosed()) {
+				currentStatement.close();
 			}
 		} catch (SQLException e) {
 			e.printStackTrace();
 		}
 	}
-	
+
 	/**
 	 * Loads a table into a map.
 	 * @param map The map to load into.
@@ -216,7 +256,7 @@ public class Database {
 	 */
 	public void loadMap(Map<String, Integer> map, String id, String name, String table) {
 		try {
-			resultSet = executeQuery("SELECT " + id + ", " + name + " FROM " + table);
+			ResultSet resultSet = executeQuery("SELECT " + id + ", " + name + " FROM " + table);
 			while (resultSet.next()) {
 				map.put(resultSet.getString(name), resultSet.getInt(id));
 			}
@@ -229,7 +269,7 @@ public class Database {
 	 * Gets the Pokémon map from the database.
 	 * @return The Pokémon map from the database.
 	 */
-	public Map<String, Integer> getPokemonMap() {
+	public synchronized Map<String, Integer> getPokemonMap() {
 		if (pokemonMap == null) {
 			pokemonMap = new HashMap<>();
 			loadMap(pokemonMap, "PIXELMONID", "PIXELMONNAME", "PIXELMON");
@@ -246,7 +286,7 @@ public class Database {
 	 * Gets the move map from the database.
 	 * @return The move map from the database.
 	 */
-	public Map<String, Integer> getMoveMap() {
+	public synchronized Map<String, Integer> getMoveMap() {
 		if (moveMap == null) {
 			moveMap = new HashMap<>();
 			loadMap(moveMap, "MOVEID", "NAME", "MOVES");
@@ -279,7 +319,7 @@ public class Database {
 	 * Gets the type map from the database.
 	 * @return The type map from the database.
 	 */
-	public Map<String, Integer> getTypeMap() {
+	public synchronized Map<String, Integer> getTypeMap() {
 		if (typeMap == null) {
 			typeMap = new HashMap<>();
 			loadMap(typeMap, "TYPEID", "NAME", "TYPES");
@@ -332,12 +372,12 @@ public class Database {
 	/**
 	 * Gets the TM moves in Pixelmon.
 	 */
-	public Set<String> getTMMoves() {
+	public synchronized Set<String> getTMMoves() {
 		if (tmMoves == null) {
 			tmMoves = new HashSet<String>();
 			String nameKey = "NAME";
 			try {
-				resultSet = executeQuery("SELECT " + nameKey + " FROM MOVES WHERE TMID IS NOT NULL OR HMID IS NOT NULL;");
+				ResultSet resultSet = executeQuery("SELECT " + nameKey + " FROM MOVES WHERE TMID IS NOT NULL OR HMID IS NOT NULL;");
 				while (resultSet.next()) {
 					tmMoves.add(resultSet.getString(nameKey));
 				}
@@ -352,18 +392,35 @@ public class Database {
 	 * Gets the Pokédex number mapping container.
 	 * @return The Pokédex number mapping container.
 	 */
-	public DexNumberContainer getDexContainer() {
+	public synchronized DexNumberContainer getDexContainer() {
 		if (dexContainer == null) {
 			dexContainer = new DexNumberContainer();
 		}
 		return dexContainer;
 	}
 	
+	/**
+	 * Gets an in-memory copy of the Pokémon tables, loading it the first time it is needed. The copy doesn't change
+	 * afterwards, so it can be read by any number of threads.
+	 * @return An in-memory copy of the Pokémon tables.
+	 * @throws IllegalStateException If the tables can't be read.
+	 */
+	public synchronized PixelmonSnapshot getSnapshot() {
+		if (snapshot == null) {
+			try {
+				snapshot = new PixelmonSnapshot(this);
+			} catch (SQLException e) {
+				throw new IllegalStateException("Could not load the Pixelmon database.", e);
+			}
+		}
+		return snapshot;
+	}
+
 	/**
 	 * Fills the lang key map and returns it.
 	 * @return The lang key map.
 	 */
-	public Map<String, String> getLangMap() {
+	public synchronized Map<String, String> getLangMap() {
 		if (langMap == null) {
 			langMap = new HashMap<>();
 			FileIO.getInstance().initializeReader(LANG_FILE);
@@ -402,4 +459,226 @@ public class Database {
 		}
 		return -1;
 	}
+
+	/**
+	 * A query with its own statement. Closing the query closes its result and statement.
+	 */
+	public static class Query implements AutoCloseable {
+
+		/** The statement that ran the query. */
+		private Statement statement;
+		/** The result of the query. */
+		private ResultSet result;
+		/** The cached statement that ran the query, or null if the statement is closed with the query. */
+		private CachedStatement cached;
+
+		/**
+		 * Initializes a query handle.
+		 * @param statement The statement that ran the query.
+		 * @param result The result of the query.
+		 */
+		private Query(Statement statement, ResultSet result) {
+			this(statement, result, null);
+		}
+
+		/**
+		 * Initializes a query handle.
+		 * @param statement The statement that ran the query.
+		 * @param result The result of the query.
+		 * @param cached The cached statement that ran the query, or null if the statement is closed with the query.
+		 */
+		private Query(Statement statement, ResultSet result, CachedStatement cached) {
+			this.statement = statement;
+			this.result = result;
+			this.cached = cached;
+		}
+
+		/**
+		 * Gets the result of the query.
+		 * @return The result of the query.
+		 */
+		public ResultSet getResult() {
+			return result;
+		}
+
+		@Override
+		public void close() {
+			if (cached == null) {
+				closeStatement(statement, result);
+			} else {
+				closeStatement(null, result);
+				cached.inUse = false;
+			}
+		}
+	}
+
+	/**
+	 * A prepared statement whose parameters are being bound. Parameters are bound in order.
+	 */
+	public static class PreparedQuery {
+
+		/** The statement to run. */
+		private PreparedStatement statement;
+		/** The cached statement being used, or null if the statement is closed after it runs. */
+		private CachedStatement cached;
+		/** The index of the next parameter to bind. */
+		private int parameter = 1;
+
+		/**
+		 * Initializes a prepared query.
+		 * @param statement The statement to run.
+		 * @param cached The cached statement being used, or null if the statement is closed after it runs.
+		 */
+		private PreparedQuery(PreparedStatement statement, CachedStatement cached) {
+			this.statement = statement;
+			this.cached = cached;
+		}
+
+		/**
+		 * Binds an integer to the next parameter.
+		 * @param value The value to bind.
+		 * @return This query.
+		 * @throws SQLException If the parameter can't be bound.
+		 */
+		public PreparedQuery bind(int value) throws SQLException {
+			try {
+				statement.setInt(parameter++, value);
+			} catch (SQLException e) {
+				release();
+				throw e;
+			}
+			return this;
+		}
+
+		/**
+		 * Binds a string to the next parameter. The string doesn't need to be escaped.
+		 * @param value The value to bind.
+		 * @return This query.
+		 * @throws SQLException If the parameter can't be bound.
+		 */
+		public PreparedQuery bind(String value) throws SQLException {
+			try {
+				statement.setString(parameter++, value);
+			} catch (SQLException e) {
+				release();
+				throw e;
+			}
+			return this;
+		}
+
+		/**
+		 * Runs the query.
+		 * @return The query handle holding the result.
+		 * @throws SQLException If the query fails.
+		 */
+		public Query execute() throws SQLException {
+			ResultSet result;
+			try {
+				result = statement.executeQuery();
+			} catch (SQLException e) {
+				release();
+				throw e;
+			}
+			return new Query(statement, result, cached);
+		}
+
+		/**
+		 * Releases the statement after binding or running it fails, so a cached statement can be used again.
+		 */
+		private void release() {
+			new Query(statement, null, cached).close();
+		}
+	}
+
+	/**
+	 * A prepared statement kept open for reuse by a thread.
+	 */
+	private static class CachedStatement {
+
+		/** The SQL of the statement. */
+		private String sql;
+		/** The prepared statement. */
+		private PreparedStatement statement;
+		/** Whether the statement has a query that hasn't been closed yet. */
+		private boolean inUse = false;
+
+		/**
+		 * Initializes a cached statement.
+		 * @param sql The SQL of the statement.
+		 * @param statement The prepared statement.
+		 */
+		private CachedStatement(String sql, PreparedStatement statement) {
+			this.sql = sql;
+			this.statement = statement;
+		}
+	}
+
+	/**
+	 * A connection held by a single thread, along with the statement used by executeQuery on that thread.
+	 */
+	private static class ThreadConnection {
+
+		/** The pool that the connection was taken from. */
+		private ConnectionPool pool;
+		/** The connection held by the thread. */
+		private Connection connection;
+		/** The statement shared by queries from executeQuery, or null if it hasn't been created. */
+		private Statement statement;
+		/** The result of the last query from executeQuery. */
+		private ResultSet resultSet;
+		/** The prepared statements used by the thread, by name. */
+		private Map<String, CachedStatement> prepared = new HashMap<>();
+		/** Whether the connection has been returned to the pool. */
+		private volatile boolean released = false;
+
+		/**
+		 * Initializes a thread connection.
+		 * @param pool The pool that the connection was taken from.
+		 * @param connection The connection held by the thread.
+		 */
+		private ThreadConnection(ConnectionPool pool, Connection connection) {
+			this.pool = pool;
+			this.connection = connection;
+		}
+
+		/**
+		 * Gets the shared statement, creating it if needed.
+		 * @return The shared statement.
+		 * @throws SQLException If the statement can't be created.
+		 */
+		private Statement getStatement() throws SQLException {
+			if (statement == null) {
+				statement = connection.createStatement();
+			}
+			return statement;
+		}
+
+		/**
+		 * Closes the result of the last query from executeQuery.
+		 * @throws SQLException If the result can't be closed.
+		 */
+		private void closeResult() throws SQLException {
+			if (resultSet != null && !resultSet.isClosed()) {
+				resultSet.close();
+			}
+		}
+
+		/**
+		 * Closes the shared statement and returns the connection to the pool.
+		 */
+		private synchronized void release() {
+			if (released) {
+				return;
+			}
+			released = true;
+			closeStatement(statement, resultSet);
+			for (CachedStatement cached : prepared.values()) {
+				closeStatement(cached.statement, null);
+			}
+			statement = null;
+			resultSet = null;
+			prepared.clear();
+			pool.release(connection);
+		}
+	}
 }
@@ -0,0 +1,201 @@
+package database;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The evolution families of every Pokémon, built once from a snapshot of the database. Evolutions that the database
+ * only gives by name, or doesn't give at all, are added from a table of extra evolutions. Ancestors, descendants and
+ * families are worked out when the graph is built, so looking them up doesn't walk the graph. Pokémon are referred to
+ * by their row in the snapshot.
+ */
+public class EvolutionGraph {
+
+	/**
+	 * Evolutions that can't be read from the database's evolution IDs or conditions, as pairs of pre-evolution and
+	 * evolution names.
+	 */
+	private static final String[][] EXTRA_EVOLUTIONS = { { "Tyrogue", "Hitmonlee" }, { "Tyrogue", "Hitmonchan" },
+			{ "Tyrogue", "Hitmontop" }, { "Burmy", "Wormadam" }, { "Burmy", "Mothim" }, { "Mantyke", "Mantine" },
+			{ "Nincada", "Shedinja" }, { "Wurmple", "Cascoon" }, { "Silcoon", "Beautifly" },
+			{ "Cascoon", "Dustox" } };
+
+	/** An empty list of rows. */
+	private static final int[] NO_ROWS = new int[0];
+
+	/** The direct evolutions of each Pokémon. */
+	private int[][] children;
+	/** The direct pre-evolution of each Pokémon, or -1 if it doesn't evolve from anything. */
+	private int[] parents;
+	/** The pre-evolutions of each Pokémon, nearest first. */
+	private int[][] ancestors;
+	/** The evolutions of each Pokémon, each followed by its own evolutions. */
+	private int[][] descendants;
+	/** The evolutions of each Pokémon as a set of rows. */
+	private BitSet[] descendantSets;
+	/** The evolution line of each Pokémon. */
+	private int[][] families;
+
+	/**
+	 * Builds the graph.
+	 * @param snapshot The snapshot to read evolutions from.
+	 */
+	EvolutionGraph(PixelmonSnapshot snapshot) {
+		int numPokemon = snapshot.getPokemonCount();
+		int[][] childLists = new int[numPokemon][];
+		Arrays.fill(childLists, NO_ROWS);
+		parents = new int[numPokemon];
+		Arrays.fill(parents, -1);
+
+		for (int evolution = 0; evolution < snapshot.getEvolutionCount(); evolution++) {
+			int source = snapshot.getEvolutionSource(evolution);
+			int target = snapshot.getEvolutionTarget(evolution);
+			if (target == -1) {
+				String condition = snapshot.getEvolutionCondition(evolution);
+				int colonIndex = condition == null ? -1 : condition.lastIndexOf(':');
+				if (colonIndex > -1) {
+					target = snapshot.getRow(condition.substring(colonIndex + 1), -1);
+				}
+			}
+			addEvolution(childLists, source, target);
+		}
+		for (String[] extra : EXTRA_EVOLUTIONS) {
+			addEvolution(childLists, snapshot.getRow(extra[0], -1), snapshot.getRow(extra[1], -1));
+		}
+		children = childLists;
+
+		ancestors = new int[numPokemon][];
+		descendants = new int[numPokemon][];
+		descendantSets = new BitSet[numPokemon];
+		families = new int[numPokemon][];
+		int[] found = new int[numPokemon];
+		for (int row = 0; row < numPokemon; row++) {
+			ancestors[row] = findAncestors(row);
+			BitSet visited = new BitSet(numPokemon);
+			int numFound = addDescendants(row, visited, found, 0);
+			descendants[row] = numFound == 0 ? NO_ROWS : Arrays.copyOf(found, numFound);
+			visited.clear(row);
+			descendantSets[row] = visited;
+			families[row] = buildFamily(row);
+		}
+	}
+
+	/**
+	 * Links a Pokémon to one of its evolutions. The first pre-evolution added for a Pokémon is used as its parent.
+	 * @param childLists The evolutions of each Pokémon.
+	 * @param source The row of the Pokémon that evolves, or -1 if it isn't in the database.
+	 * @param target The row of the evolution, or -1 if it isn't in the database.
+	 */
+	private void addEvolution(int[][] childLists, int source, int target) {
+		if (source == -1 || target == -1 || source == target) {
+			return;
+		}
+		int[] current = childLists[source];
+		for (int child : current) {
+			if (child == target) {
+				return;
+			}
+		}
+		int[] added = Arrays.copyOf(current, current.length + 1);
+		added[current.length] = target;
+		childLists[source] = added;
+		if (parents[target] == -1) {
+			parents[target] = source;
+		}
+	}
+
+	/**
+	 * Follows parents up from a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The pre-evolutions of the Pokémon, nearest first.
+	 */
+	private int[] findAncestors(int row) {
+		int count = 0;
+		int[] found = NO_ROWS;
+		BitSet visited = new BitSet();
+		visited.set(row);
+		for (int parent = parents[row]; parent != -1 && !visited.get(parent); parent = parents[parent]) {
+			visited.set(parent);
+			if (count == found.length) {
+				found = Arrays.copyOf(found, Math.max(4, count * 2));
+			}
+			found[count++] = parent;
+		}
+		return count == 0 ? NO_ROWS : Arrays.copyOf(found, count);
+	}
+
+	/**
+	 * Adds the evolutions of a Pokémon depth-first, each followed by its own evolutions.
+	 * @param row The row of the Pokémon.
+	 * @param visited The Pokémon that have already been added.
+	 * @param found Receives the evolutions.
+	 * @param numFound The number of evolutions already in found.
+	 * @return The number of evolutions in found after adding.
+	 */
+	private int addDescendants(int row, BitSet visited, int[] found, int numFound) {
+		visited.set(row);
+		for (int child : children[row]) {
+			if (!visited.get(child)) {
+				found[numFound++] = child;
+				numFound = addDescendants(child, visited, found, numFound);
+			}
+		}
+		return numFound;
+	}
+
+	/**
+	 * Gets the pre-evolutions of a Pokémon. The returned array is shared and must not be changed.
+	 * @param row The row of the Pokémon, or -1 if it isn't in the database.
+	 * @return The rows of the Pokémon's pre-evolutions, nearest first.
+	 */
+	public int[] getAncestors(int row) {
+		return row < 0 ? NO_ROWS : ancestors[row];
+	}
+
+	/**
+	 * Gets the evolutions of a Pokémon, including evolutions of evolutions. The returned array is shared and must
+	 * not be changed.
+	 * @param row The row of the Pokémon, or -1 if it isn't in the database.
+	 * @return The rows of the Pokémon's evolutions, each followed by its own evolutions.
+	 */
+	public int[] getDescendants(int row) {
+		return row < 0 ? NO_ROWS : descendants[row];
+	}
+
+	/**
+	 * Checks if a Pokémon evolves into another Pokémon, directly or through other evolutions.
+	 * @param row The row of the Pokémon, or -1 if it isn't in the database.
+	 * @param other The row of the other Pokémon, or -1 if it isn't in the database.
+	 * @return Whether the other Pokémon is an evolution of the Pokémon.
+	 */
+	public boolean isDescendant(int row, int other) {
+		return row >= 0 && other >= 0 && descendantSets[row].get(other);
+	}
+
+	/**
+	 * Gets the evolution line of a Pokémon. The returned array is shared and must not be changed.
+	 * @param row The row of the Pokémon, or -1 if it isn't in the database.
+	 * @return The rows of the Pokémon's pre-evolutions from the earliest, then the Pokémon, then its evolutions.
+	 *         Empty if the Pokémon isn't in the database.
+	 */
+	public int[] getFamily(int row) {
+		return row < 0 ? NO_ROWS : families[row];
+	}
+
+	/**
+	 * Puts together the evolution line of a Pokémon once its ancestors and descendants are known.
+	 * @param row The row of the Pokémon.
+	 * @return The rows of the Pokémon's pre-evolutions from the earliest, then the Pokémon, then its evolutions.
+	 */
+	private int[] buildFamily(int row) {
+		int[] rowAncestors = ancestors[row];
+		int[] rowDescendants = descendants[row];
+		int[] family = new int[rowAncestors.length + 1 + rowDescendants.length];
+		for (int i = 0; i < rowAncestors.length; i++) {
+			family[i] = rowAncestors[rowAncestors.length - 1 - i];
+		}
+		family[rowAncestors.length] = row;
+		System.arraycopy(rowDescendants, 0, family, rowAncestors.length + 1, rowDescendants.length);
+		return family;
+	}
+}
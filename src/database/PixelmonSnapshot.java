@@ -0,0 +1,764 @@
+package database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable copy of the Pixelmon tables that articles and lists are generated from. Each table is read with a
+ * single query and stored as parallel arrays, with foreign keys resolved to array indices, so lookups don't need to
+ * go through SQL. Pokémon are referred to by their row, which is their position in the PIXELMON table.
+ */
+public class PixelmonSnapshot {
+
+	/** The EV columns of the PIXELMON table, in the order used by getEVGain. */
+	public static final String[] EV_STATS = { "HP", "ATK", "DEF", "SPATK", "SPDEF", "SPD" };
+
+	/** The database ID of each Pokémon. */
+	private int[] pixelmonIDs;
+	/** The name of each Pokémon. */
+	private String[] names;
+	/** The form of each Pokémon, or -1 if it has no form. */
+	private int[] forms;
+	/** The Pokédex number of each Pokémon. */
+	private int[] dexNumbers;
+	/** The database ID of the primary type of each Pokémon, or -1 if it has none. */
+	private int[] type1s;
+	/** The database ID of the secondary type of each Pokémon, or -1 if it has none. */
+	private int[] type2s;
+	/** The database ID of the first ability of each Pokémon, or -1 if it has none. */
+	private int[] ability1s;
+	/** The database ID of the second ability of each Pokémon, or -1 if it has none. */
+	private int[] ability2s;
+	/** The database ID of the hidden ability of each Pokémon, or -1 if it has none. */
+	private int[] hiddenAbilities;
+	/** The database ID of the first Egg Group of each Pokémon. */
+	private int[] eggGroup1IDs;
+	/** The database ID of the second Egg Group of each Pokémon, or -1 if it has one Egg Group. */
+	private int[] eggGroup2IDs;
+	/** The chance of each Pokémon being male. */
+	private int[] malePercents;
+	/** The EVs given by each Pokémon, indexed by stat and then by row. */
+	private int[][] evGains;
+	/** The row of each Pokémon by database ID, or -1 for unused IDs. */
+	private int[] rowsByID;
+	/** The rows of the Pokémon with each name, by lowercase name. */
+	private Map<String, int[]> rowsByName;
+	/** The rows of every Pokémon, ordered by Pokédex number and then by form. */
+	private int[] rowsByDexNumber;
+
+	/** The name of each type, indexed by database ID. */
+	private String[] typeNames;
+	/** The name of each ability, indexed by database ID. */
+	private String[] abilityNames;
+
+	/** The start of each Pokémon's level-up moves in levelUpMoveIDs. */
+	private int[] levelUpStarts;
+	/** The database IDs of the moves that each Pokémon learns by level-up. */
+	private int[] levelUpMoveIDs;
+
+	/** The start of each Pokémon's spawn biomes in spawnBiomes. */
+	private int[] biomeStarts;
+	/** The biomes that each Pokémon spawns in. */
+	private String[] spawnBiomes;
+	/** The start of each Pokémon's spawn locations in spawnLocations. */
+	private int[] locationStarts;
+	/** The spawn locations of each Pokémon. */
+	private String[] spawnLocations;
+
+	/** The row of the Pokémon that each evolution starts from, or -1 if it isn't in the database. */
+	private int[] evolutionSources;
+	/** The row of the Pokémon that each evolution leads to, or -1 if it is only given by the condition. */
+	private int[] evolutionTargets;
+	/** The condition of each evolution. */
+	private String[] evolutionConditions;
+
+	/** The database ID of each move. */
+	private int[] moveIDs;
+	/** The name of each move. */
+	private String[] moveNames;
+	/** The tutor type of each move, or -1 if it isn't taught by a tutor. */
+	private int[] tutorTypes;
+	/** Move indices ordered by name. */
+	private int[] movesByName;
+
+	/** The evolution families of every Pokémon. */
+	private EvolutionGraph evolutionGraph;
+
+	/**
+	 * Loads the snapshot from the database.
+	 * @param database The database to load from.
+	 * @throws SQLException If a table can't be read.
+	 */
+	PixelmonSnapshot(Database database) throws SQLException {
+		typeNames = loadNames(database, "SELECT TYPEID, NAME FROM TYPES");
+		abilityNames = loadNames(database, "SELECT ABILITYID, NAME FROM ABILITIES");
+		loadPokemon(database);
+		loadLevelUpMoves(database);
+		loadSpawns(database);
+		loadEvolutions(database);
+		loadMoves(database);
+		evolutionGraph = new EvolutionGraph(this);
+	}
+
+	/**
+	 * Loads a table of names.
+	 * @param database The database to load from.
+	 * @param sql A query that selects the ID and name of each row.
+	 * @return The names indexed by ID. Unused IDs are null.
+	 * @throws SQLException If the table can't be read.
+	 */
+	private static String[] loadNames(Database database, String sql) throws SQLException {
+		String[] names = new String[0];
+		try (Database.Query query = database.query(sql)) {
+			ResultSet result = query.getResult();
+			while (result.next()) {
+				int id = result.getInt(1);
+				if (id >= names.length) {
+					names = Arrays.copyOf(names, Math.max(id + 1, names.length * 2));
+				}
+				names[id] = result.getString(2);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Loads the PIXELMON table.
+	 * @param database The database to load from.
+	 * @throws SQLException If the table can't be read.
+	 */
+	private void loadPokemon(Database database) throws SQLException {
+		IntColumn idColumn = new IntColumn();
+		List<String> nameColumn = new ArrayList<>();
+		IntColumn formColumn = new IntColumn();
+		IntColumn dexColumn = new IntColumn();
+		IntColumn type1Column = new IntColumn();
+		IntColumn type2Column = new IntColumn();
+		IntColumn ability1Column = new IntColumn();
+		IntColumn ability2Column = new IntColumn();
+		IntColumn hiddenColumn = new IntColumn();
+		IntColumn egg1Column = new IntColumn();
+		IntColumn egg2Column = new IntColumn();
+		IntColumn maleColumn = new IntColumn();
+		IntColumn[] evColumns = new IntColumn[EV_STATS.length];
+		StringBuilder sql = new StringBuilder("SELECT PIXELMONID, PIXELMONNAME, FORM, NATIONALPOKEDEXNUMBER, "
+				+ "PIXELMONTYPE1ID, PIXELMONTYPE2ID, ABILITY1ID, ABILITY2ID, ABILITYHIDDENID, EGGGROUP1ID, "
+				+ "EGGGROUP2ID, MALEPERCENT");
+		for (int i = 0; i < EV_STATS.length; i++) {
+			evColumns[i] = new IntColumn();
+			sql.append(", EVGAIN");
+			sql.append(EV_STATS[i]);
+		}
+		sql.append(" FROM PIXELMON");
+		try (Database.Query query = database.query(sql)) {
+			ResultSet result = query.getResult();
+			while (result.next()) {
+				idColumn.add(result.getInt("PIXELMONID"));
+				nameColumn.add(result.getString("PIXELMONNAME"));
+				formColumn.add(Database.getIntNull(result, "FORM"));
+				dexColumn.add(result.getInt("NATIONALPOKEDEXNUMBER"));
+				type1Column.add(getForeignKey(result, "PIXELMONTYPE1ID", typeNames));
+				type2Column.add(getForeignKey(result, "PIXELMONTYPE2ID", typeNames));
+				ability1Column.add(getForeignKey(result, "ABILITY1ID", abilityNames));
+				ability2Column.add(getForeignKey(result, "ABILITY2ID", abilityNames));
+				hiddenColumn.add(getForeignKey(result, "ABILITYHIDDENID", abilityNames));
+				egg1Column.add(result.getInt("EGGGROUP1ID"));
+				egg2Column.add(Database.getIntNull(result, "EGGGROUP2ID"));
+				maleColumn.add(result.getInt("MALEPERCENT"));
+				for (int i = 0; i < EV_STATS.length; i++) {
+					evColumns[i].add(result.getInt("EVGAIN" + EV_STATS[i]));
+				}
+			}
+		}
+		pixelmonIDs = idColumn.toArray();
+		names = nameColumn.toArray(new String[nameColumn.size()]);
+		forms = formColumn.toArray();
+		dexNumbers = dexColumn.toArray();
+		type1s = type1Column.toArray();
+		type2s = type2Column.toArray();
+		ability1s = ability1Column.toArray();
+		ability2s = ability2Column.toArray();
+		hiddenAbilities = hiddenColumn.toArray();
+		eggGroup1IDs = egg1Column.toArray();
+		eggGroup2IDs = egg2Column.toArray();
+		malePercents = maleColumn.toArray();
+		evGains = new int[EV_STATS.length][];
+		for (int i = 0; i < EV_STATS.length; i++) {
+			evGains[i] = evColumns[i].toArray();
+		}
+
+		rowsByID = indexByID(pixelmonIDs);
+		Map<String, IntColumn> nameRows = new HashMap<>();
+		for (int row = 0; row < names.length; row++) {
+			if (names[row] != null) {
+				nameRows.computeIfAbsent(names[row].toLowerCase(), key -> new IntColumn()).add(row);
+			}
+		}
+		rowsByName = new HashMap<>();
+		for (Map.Entry<String, IntColumn> entry : nameRows.entrySet()) {
+			rowsByName.put(entry.getKey(), entry.getValue().toArray());
+		}
+		Integer[] sortedRows = new Integer[names.length];
+		for (int row = 0; row < sortedRows.length; row++) {
+			sortedRows[row] = row;
+		}
+		Arrays.sort(sortedRows, (row1, row2) -> dexNumbers[row1] != dexNumbers[row2]
+				? Integer.compare(dexNumbers[row1], dexNumbers[row2]) : Integer.compare(forms[row1], forms[row2]));
+		rowsByDexNumber = new int[sortedRows.length];
+		for (int i = 0; i < sortedRows.length; i++) {
+			rowsByDexNumber[i] = sortedRows[i];
+		}
+	}
+
+	/**
+	 * Loads the PIXELMONLEVELSKILLS table.
+	 * @param database The database to load from.
+	 * @throws SQLException If the table can't be read.
+	 */
+	private void loadLevelUpMoves(Database database) throws SQLException {
+		IntColumn rowColumn = new IntColumn();
+		IntColumn moveColumn = new IntColumn();
+		try (Database.Query query = database.query("SELECT PIXELMONID, MOVEID FROM PIXELMONLEVELSKILLS")) {
+			ResultSet result = query.getResult();
+			while (result.next()) {
+				int row = lookUp(rowsByID, result.getInt(1));
+				if (row != -1) {
+					rowColumn.add(row);
+					moveColumn.add(result.getInt(2));
+				}
+			}
+		}
+		int[] rows = rowColumn.toArray();
+		levelUpStarts = groupStarts(rows, names.length);
+		levelUpMoveIDs = groupValues(rows, levelUpStarts, moveColumn.toArray());
+	}
+
+	/**
+	 * Loads the PIXELMONSPAWNBIOMES and PIXELMONSPAWNLOCATIONS tables.
+	 * @param database The database to load from.
+	 * @throws SQLException If a table can't be read.
+	 */
+	private void loadSpawns(Database database) throws SQLException {
+		List<String> biomes = new ArrayList<>();
+		IntColumn biomeRows = new IntColumn();
+		loadPokemonStrings(database, "SELECT PIXELMONID, BIOMENAME FROM PIXELMONSPAWNBIOMES", biomeRows, biomes);
+		biomeStarts = groupStarts(biomeRows.toArray(), names.length);
+		spawnBiomes = groupStrings(biomeRows.toArray(), biomeStarts, biomes);
+
+		List<String> locations = new ArrayList<>();
+		IntColumn locationRows = new IntColumn();
+		loadPokemonStrings(database, "SELECT PIXELMONID, LOCATION FROM PIXELMONSPAWNLOCATIONS", locationRows,
+				locations);
+		locationStarts = groupStarts(locationRows.toArray(), names.length);
+		spawnLocations = groupStrings(locationRows.toArray(), locationStarts, locations);
+	}
+
+	/**
+	 * Loads a table that gives Pokémon a list of strings.
+	 * @param database The database to load from.
+	 * @param sql A query that selects the Pokémon ID and string of each row.
+	 * @param rows Receives the Pokémon row of each string.
+	 * @param strings Receives the strings.
+	 * @throws SQLException If the table can't be read.
+	 */
+	private void loadPokemonStrings(Database database, String sql, IntColumn rows, List<String> strings)
+			throws SQLException {
+		try (Database.Query query = database.query(sql)) {
+			ResultSet result = query.getResult();
+			while (result.next()) {
+				int row = lookUp(rowsByID, result.getInt(1));
+				if (row != -1) {
+					rows.add(row);
+					strings.add(result.getString(2));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Loads the PIXELMONEVOLUTIONS table.
+	 * @param database The database to load from.
+	 * @throws SQLException If the table can't be read.
+	 */
+	private void loadEvolutions(Database database) throws SQLException {
+		IntColumn sourceColumn = new IntColumn();
+		IntColumn targetColumn = new IntColumn();
+		List<String> conditionColumn = new ArrayList<>();
+		try (Database.Query query = database.query(
+				"SELECT PIXELMONFROMID, PIXELMONTOID, EVOLVECONDITION FROM PIXELMONEVOLUTIONS")) {
+			ResultSet result = query.getResult();
+			while (result.next()) {
+				sourceColumn.add(lookUp(rowsByID, result.getInt(1)));
+				targetColumn.add(lookUp(rowsByID, result.getInt(2)));
+				conditionColumn.add(result.getString(3));
+			}
+		}
+		evolutionSources = sourceColumn.toArray();
+		evolutionTargets = targetColumn.toArray();
+		evolutionConditions = conditionColumn.toArray(new String[conditionColumn.size()]);
+	}
+
+	/**
+	 * Loads the MOVES table.
+	 * @param database The database to load from.
+	 * @throws SQLException If the table can't be read.
+	 */
+	private void loadMoves(Database database) throws SQLException {
+		IntColumn idColumn = new IntColumn();
+		List<String> nameColumn = new ArrayList<>();
+		IntColumn tutorColumn = new IntColumn();
+		try (Database.Query query = database.query("SELECT MOVEID, NAME, TUTORTYPE FROM MOVES")) {
+			ResultSet result = query.getResult();
+			while (result.next()) {
+				idColumn.add(result.getInt("MOVEID"));
+				nameColumn.add(result.getString("NAME"));
+				tutorColumn.add(Database.getIntNull(result, "TUTORTYPE"));
+			}
+		}
+		moveIDs = idColumn.toArray();
+		moveNames = nameColumn.toArray(new String[nameColumn.size()]);
+		tutorTypes = tutorColumn.toArray();
+		Integer[] sortedMoves = new Integer[moveNames.length];
+		for (int i = 0; i < sortedMoves.length; i++) {
+			sortedMoves[i] = i;
+		}
+		Arrays.sort(sortedMoves, (move1, move2) -> String.CASE_INSENSITIVE_ORDER.compare(moveNames[move1],
+				moveNames[move2]));
+		movesByName = new int[sortedMoves.length];
+		for (int i = 0; i < sortedMoves.length; i++) {
+			movesByName[i] = sortedMoves[i];
+		}
+	}
+
+	/**
+	 * Gets a column that refers to a table of names.
+	 * @param result The row to read from.
+	 * @param column The name of the column.
+	 * @param table The names indexed by ID.
+	 * @return The ID in the column, or -1 if it is null or isn't in the table.
+	 */
+	private static int getForeignKey(ResultSet result, String column, String[] table) {
+		int id = Database.getIntNull(result, column);
+		return id >= 0 && id < table.length && table[id] != null ? id : -1;
+	}
+
+	/**
+	 * Makes an array that maps database IDs to array indices.
+	 * @param ids The database ID at each index.
+	 * @return The index of each database ID, or -1 for unused IDs.
+	 */
+	private static int[] indexByID(int[] ids) {
+		int maxID = -1;
+		for (int id : ids) {
+			maxID = Math.max(maxID, id);
+		}
+		int[] index = new int[maxID + 1];
+		Arrays.fill(index, -1);
+		for (int i = ids.length - 1; i >= 0; i--) {
+			if (ids[i] >= 0) {
+				index[ids[i]] = i;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Resolves a database ID to an array index.
+	 * @param index The array made by indexByID.
+	 * @param id The database ID, or -1 for none.
+	 * @return The array index of the ID, or -1 if the ID isn't used.
+	 */
+	private static int lookUp(int[] index, int id) {
+		return id >= 0 && id < index.length ? index[id] : -1;
+	}
+
+	/**
+	 * Counts the values that belong to each Pokémon.
+	 * @param rows The Pokémon row of each value.
+	 * @param numRows The number of Pokémon.
+	 * @return The start of each Pokémon's values once they are grouped, with the total number of values at the end.
+	 */
+	private static int[] groupStarts(int[] rows, int numRows) {
+		int[] starts = new int[numRows + 1];
+		for (int row : rows) {
+			starts[row + 1]++;
+		}
+		for (int i = 0; i < numRows; i++) {
+			starts[i + 1] += starts[i];
+		}
+		return starts;
+	}
+
+	/**
+	 * Groups values by Pokémon, keeping their table order within each Pokémon.
+	 * @param rows The Pokémon row of each value.
+	 * @param starts The start of each Pokémon's values, from groupStarts.
+	 * @param values The values to group.
+	 * @return The grouped values.
+	 */
+	private static int[] groupValues(int[] rows, int[] starts, int[] values) {
+		int[] next = Arrays.copyOf(starts, starts.length - 1);
+		int[] grouped = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			grouped[next[rows[i]]++] = values[i];
+		}
+		return grouped;
+	}
+
+	/**
+	 * Groups strings by Pokémon, keeping their table order within each Pokémon.
+	 * @param rows The Pokémon row of each string.
+	 * @param starts The start of each Pokémon's strings, from groupStarts.
+	 * @param values The strings to group.
+	 * @return The grouped strings.
+	 */
+	private static String[] groupStrings(int[] rows, int[] starts, List<String> values) {
+		int[] next = Arrays.copyOf(starts, starts.length - 1);
+		String[] grouped = new String[values.size()];
+		for (int i = 0; i < grouped.length; i++) {
+			grouped[next[rows[i]]++] = values.get(i);
+		}
+		return grouped;
+	}
+
+	/**
+	 * Gets the number of rows in the PIXELMON table.
+	 * @return The number of Pokémon rows.
+	 */
+	public int getPokemonCount() {
+		return names.length;
+	}
+
+	/**
+	 * Gets the row of a Pokémon.
+	 * @param pixelmonID The database ID of the Pokémon.
+	 * @return The row of the Pokémon, or -1 if there is no Pokémon with the ID.
+	 */
+	public int getRow(int pixelmonID) {
+		return lookUp(rowsByID, pixelmonID);
+	}
+
+	/**
+	 * Gets the row of a Pokémon by name. Names are matched ignoring case.
+	 * @param name The name of the Pokémon.
+	 * @param form The form of the Pokémon, or -1 for the first row with the name.
+	 * @return The row of the Pokémon, or -1 if there is no matching Pokémon.
+	 */
+	public int getRow(String name, int form) {
+		int[] rows = rowsByName.get(name.toLowerCase());
+		if (rows != null) {
+			for (int row : rows) {
+				if (form == -1 || forms[row] == form) {
+					return row;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the rows of every Pokémon ordered by Pokédex number and then by form.
+	 * @return The rows of every Pokémon.
+	 */
+	public int[] getRowsByDexNumber() {
+		return rowsByDexNumber.clone();
+	}
+
+	/**
+	 * Gets the database ID of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The database ID of the Pokémon.
+	 */
+	public int getPixelmonID(int row) {
+		return pixelmonIDs[row];
+	}
+
+	/**
+	 * Gets the name of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The name of the Pokémon.
+	 */
+	public String getName(int row) {
+		return names[row];
+	}
+
+	/**
+	 * Gets the form of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The form of the Pokémon, or 0 if it has no form.
+	 */
+	public int getForm(int row) {
+		return Math.max(forms[row], 0);
+	}
+
+	/**
+	 * Gets the Pokédex number of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The Pokédex number of the Pokémon.
+	 */
+	public int getDexNumber(int row) {
+		return dexNumbers[row];
+	}
+
+	/**
+	 * Gets the primary type of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The name of the Pokémon's primary type, or null if it has none.
+	 */
+	public String getType1(int row) {
+		return getName(typeNames, type1s[row]);
+	}
+
+	/**
+	 * Gets the secondary type of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The name of the Pokémon's secondary type, or null if it has one type.
+	 */
+	public String getType2(int row) {
+		return getName(typeNames, type2s[row]);
+	}
+
+	/**
+	 * Gets the first ability of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The name of the Pokémon's first ability, or null if it has none.
+	 */
+	public String getAbility1(int row) {
+		return getName(abilityNames, ability1s[row]);
+	}
+
+	/**
+	 * Gets the second ability of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The name of the Pokémon's second ability, or null if it has none.
+	 */
+	public String getAbility2(int row) {
+		return getName(abilityNames, ability2s[row]);
+	}
+
+	/**
+	 * Gets the hidden ability of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The name of the Pokémon's hidden ability, or null if it has none.
+	 */
+	public String getHiddenAbility(int row) {
+		return getName(abilityNames, hiddenAbilities[row]);
+	}
+
+	/**
+	 * Gets a name from a table of names.
+	 * @param table The names indexed by ID.
+	 * @param id The ID of the name, or -1 for none.
+	 * @return The name with the ID, or null if the ID is -1.
+	 */
+	private static String getName(String[] table, int id) {
+		return id == -1 ? null : table[id];
+	}
+
+	/**
+	 * Gets the first Egg Group of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The database ID of the Pokémon's first Egg Group.
+	 */
+	public int getEggGroup1ID(int row) {
+		return eggGroup1IDs[row];
+	}
+
+	/**
+	 * Gets the second Egg Group of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The database ID of the Pokémon's second Egg Group, or -1 if it has one Egg Group.
+	 */
+	public int getEggGroup2ID(int row) {
+		return eggGroup2IDs[row];
+	}
+
+	/**
+	 * Gets the chance of a Pokémon being male.
+	 * @param row The row of the Pokémon.
+	 * @return The percent chance of the Pokémon being male.
+	 */
+	public int getMalePercent(int row) {
+		return malePercents[row];
+	}
+
+	/**
+	 * Gets the EVs given for defeating a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @param stat The index of the stat in EV_STATS.
+	 * @return The number of EVs given for the stat.
+	 */
+	public int getEVGain(int row, int stat) {
+		return evGains[stat][row];
+	}
+
+	/**
+	 * Checks if a Pokémon learns a move by level-up.
+	 * @param row The row of the Pokémon.
+	 * @param moveID The database ID of the move.
+	 * @return Whether the Pokémon learns the move by level-up.
+	 */
+	public boolean learnsByLevelUp(int row, int moveID) {
+		for (int i = levelUpStarts[row]; i < levelUpStarts[row + 1]; i++) {
+			if (levelUpMoveIDs[i] == moveID) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the Pokémon that can pass down a move by breeding with a Pokémon.
+	 * @param eggGroup1ID The database ID of the Pokémon's first Egg Group.
+	 * @param eggGroup2ID The database ID of the Pokémon's second Egg Group, or -1 if it only has one.
+	 * @param moveID The database ID of the move.
+	 * @return The rows of the Pokémon that can be male, share an Egg Group and learn the move by level-up, ordered
+	 *         by Pokédex number.
+	 */
+	public int[] getEggParents(int eggGroup1ID, int eggGroup2ID, int moveID) {
+		int otherEggGroupID = eggGroup2ID > -1 ? eggGroup2ID : eggGroup1ID;
+		IntColumn parents = new IntColumn();
+		for (int row : rowsByDexNumber) {
+			boolean sharesEggGroup = eggGroup1IDs[row] == eggGroup1ID || eggGroup2IDs[row] == eggGroup1ID
+					|| eggGroup1IDs[row] == otherEggGroupID || eggGroup2IDs[row] == otherEggGroupID;
+			if (sharesEggGroup && malePercents[row] > 0 && learnsByLevelUp(row, moveID)) {
+				parents.add(row);
+			}
+		}
+		return parents.toArray();
+	}
+
+	/**
+	 * Gets the biomes that a Pokémon spawns in.
+	 * @param row The row of the Pokémon.
+	 * @return The names of the biomes that the Pokémon spawns in.
+	 */
+	public List<String> getSpawnBiomes(int row) {
+		return Collections.unmodifiableList(
+				Arrays.asList(spawnBiomes).subList(biomeStarts[row], biomeStarts[row + 1]));
+	}
+
+	/**
+	 * Gets the spawn locations of a Pokémon.
+	 * @param row The row of the Pokémon.
+	 * @return The spawn locations of the Pokémon, such as land or water.
+	 */
+	public List<String> getSpawnLocations(int row) {
+		return Collections.unmodifiableList(
+				Arrays.asList(spawnLocations).subList(locationStarts[row], locationStarts[row + 1]));
+	}
+
+	/**
+	 * Gets the number of rows in the PIXELMONEVOLUTIONS table.
+	 * @return The number of evolutions.
+	 */
+	public int getEvolutionCount() {
+		return evolutionSources.length;
+	}
+
+	/**
+	 * Gets the Pokémon that an evolution starts from.
+	 * @param evolution The index of the evolution.
+	 * @return The row of the Pokémon that evolves, or -1 if it isn't in the database.
+	 */
+	public int getEvolutionSource(int evolution) {
+		return evolutionSources[evolution];
+	}
+
+	/**
+	 * Gets the Pokémon that an evolution leads to.
+	 * @param evolution The index of the evolution.
+	 * @return The row of the evolved Pokémon, or -1 if it is only given by the evolution condition.
+	 */
+	public int getEvolutionTarget(int evolution) {
+		return evolutionTargets[evolution];
+	}
+
+	/**
+	 * Gets the condition of an evolution.
+	 * @param evolution The index of the evolution.
+	 * @return The condition of the evolution.
+	 */
+	public String getEvolutionCondition(int evolution) {
+		return evolutionConditions[evolution];
+	}
+
+	/**
+	 * Gets the evolution families of every Pokémon.
+	 * @return The evolution graph built from this snapshot.
+	 */
+	public EvolutionGraph getEvolutionGraph() {
+		return evolutionGraph;
+	}
+
+	/**
+	 * Gets the move indices ordered by move name.
+	 * @return The indices of every move, ordered by name.
+	 */
+	public int[] getMovesByName() {
+		return movesByName.clone();
+	}
+
+	/**
+	 * Gets the database ID of a move.
+	 * @param move The index of the move.
+	 * @return The database ID of the move.
+	 */
+	public int getMoveID(int move) {
+		return moveIDs[move];
+	}
+
+	/**
+	 * Gets the name of a move.
+	 * @param move The index of the move.
+	 * @return The name of the move.
+	 */
+	public String getMoveName(int move) {
+		return moveNames[move];
+	}
+
+	/**
+	 * Gets the tutor type of a move.
+	 * @param move The index of the move.
+	 * @return 1 for tutor moves, 2 for event tutor moves, or -1 if the move isn't taught by a tutor.
+	 */
+	public int getTutorType(int move) {
+		return tutorTypes[move];
+	}
+
+	/**
+	 * A growable column of ints used while loading tables.
+	 */
+	private static class IntColumn {
+
+		/** The values in the column. */
+		private int[] values = new int[64];
+		/** The number of values in the column. */
+		private int size;
+
+		/**
+		 * Adds a value to the column.
+		 * @param value The value to add.
+		 */
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		/**
+		 * Copies the column into an array.
+		 * @return The values in the column.
+		 */
+		int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
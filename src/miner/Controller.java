@@ -56,6 +56,7 @@ class Controller {
 			} while (repeat && !name.equals("q"));
 		} while (repeat && !name.equals("q"));
 		input.close();
+		Database.shutdown();
 	}
 	
 	/**
@@ -69,7 +70,7 @@ class Controller {
 		FileIO fileIO = new FileIO();
 		String data = "";
 		try {
-			Database database = Database.getDatabase();
+			Database.getDatabase();
 			PokemonMiner miner = new PokemonMiner();
 			LangMiner langMiner = new LangMiner();
 			PokemonArticleMiner pokemonArticleMiner = new PokemonArticleMiner();
@@ -194,8 +195,6 @@ class Controller {
 				}
 			} catch (Exception e) {
 				e.printStackTrace();
-			} finally {
-				database.closeConnection();
 			}
 
 			fileIO.write(data);
@@ -1,17 +1,25 @@
 package miner;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import util.APIConnection;
+import util.CharSlice;
+import util.ParseContext;
+import util.ParsedArticleCache;
 import util.StringUtil;
+import util.WikitextStripper;
 
 /**
  * Mines data for language files.
  */
 public class LangMiner {
 
+	/** The version of the Pokédex entry parser. Increase this when the text read from Pokémon articles changes. */
+	private static final int POKEDEX_VERSION = 1;
+
 	/**
 	 * Gets translated attack names and descriptions.
 	 * @return Translated attack names and descriptions.
@@ -19,6 +27,7 @@ public class LangMiner {
 	@SuppressWarnings({ "null", "unused" })
 	public String getAttackDetails() {
 		StringBuilder builder = new StringBuilder();
+		WikitextStripper stripper = new WikitextStripper();
 		List<String> moveList = APIConnection.getGenerationItems("moves", StringUtil.ALL_GENERATIONS);
 		String debugMove = "";
 		if (!debugMove.isEmpty()) {
@@ -33,15 +42,15 @@ public class LangMiner {
 					continue;
 				}
 				String raw = APIConnection.getArticleSource(move);
-				String currentRaw = StringUtil.getSubstringBetween(raw, "{{movedesc", "|}");
-				StringUtil.currentRaw = raw;
-				if (move.contains("Shadow") && "Shadow".equals(StringUtil.getTableEntry("type"))) {
+				CharSlice currentRaw = StringUtil.getSliceBetween(raw, "{{movedesc", "|}");
+				ParseContext context = new ParseContext(raw);
+				if (move.contains("Shadow") && "Shadow".equals(context.getTableEntry("type"))) {
 					continue;
 				}
 
-				String description = StringUtil.getSubstringBetween(currentRaw, "ORAS}}|", null);
-				description = description.substring(0, description.lastIndexOf("}}"));
-				description = StringUtil.excludeStrings(description, "{{m|", "}}", "<!--[sic]-->", "[", "]", "{{t|", "{{type|", "{{a|");
+				CharSlice descriptionSlice = StringUtil.getSliceBetween(currentRaw, "ORAS}}|", null);
+				String description = stripper
+						.strip(descriptionSlice.subSequence(0, descriptionSlice.lastIndexOf("}}")));
 				if (description.contains("{{gameabbrev7|SM")) {
 					description = StringUtil.getSubstringBetween(description, "{{gameabbrev7|SM", null);
 					description = description.substring(description.lastIndexOf('|') + 1);
@@ -79,57 +88,45 @@ public class LangMiner {
 		List<String> pokemonList = APIConnection.getGenerationPokemon(StringUtil.ALL_GENERATIONS);
 		String debugPokemon = "";
 		if (!debugPokemon.isEmpty()) {
-			debugPokemon += " (Pokémon)";
+			pokemonList = Collections.singletonList(debugPokemon + " (Pokémon)");
 		}
+		WikitextStripper stripper = new WikitextStripper();
 		Pattern endPattern = Pattern.compile("(\"|\\.|!) ?\\}\\}");
-		Pattern mPattern = Pattern.compile("\\{\\{m\\|.*\\|(.*)\\}\\}");
-		Pattern ttPattern = Pattern.compile("\\{\\{tt\\|(.*)\\|(.*)\\}\\}");
-		Matcher matcher;
-		for (String pokemon : pokemonList) {
+		List<String> entries = APIConnection.getParsedArticles(pokemonList, "pokedex", POKEDEX_VERSION,
+				ParsedArticleCache.STRING, raw -> readPokedexEntry(raw, stripper, endPattern));
+		for (int i = 0; i < pokemonList.size(); i++) {
+			String pokemonName = StringUtil.shortenString(pokemonList.get(i), 10);
+			String entry = entries.get(i);
+			String pokemonLower = StringUtil.convertPokemonSpelling(pokemonName).toLowerCase();
+			builder.append("pixelmon.");
+			builder.append(pokemonLower);
+			builder.append(".name=");
+			builder.append(pokemonName);
+			builder.append("\npixelmon.");
+			builder.append(pokemonLower);
+			builder.append(".description=");
+			builder.append(entry);
+			builder.append('\n');
 			if (!debugPokemon.isEmpty()) {
-				pokemon = debugPokemon;
-			}
-			String pokemonName = StringUtil.shortenString(pokemon, 10);
-			try {
-				String raw = APIConnection.getArticleSource(pokemon);
-				String entry = StringUtil.getSubstringBetween(raw, "Dex/Gen|gen=VI", "Dex/Footer");
-				entry = StringUtil.getSubstringBetween(entry, "Omega Ruby", null);
-				matcher = endPattern.matcher(entry);
-				matcher.find();
-				String matcher0 = matcher.group(0);
-				entry = StringUtil.getSubstringBetween(entry, "entry=", matcher0) + matcher0;
-				entry = entry.replace(matcher0, matcher.group(1));
-				
-				matcher = mPattern.matcher(entry);
-				while (matcher.find()) {
-					entry = entry.replace(matcher.group(0), matcher.group(1));
-				}
-				
-				matcher = ttPattern.matcher(entry);
-				while (matcher.find()) {
-					entry = entry.replace(matcher.group(0), matcher.group(2));
-				}
-				
-				entry = StringUtil.excludeStrings(entry, "{{wp|", "{{m|", "{{p|", "{{type|", "}}", "[[", "]]");
-				String pokemonLower = StringUtil.convertPokemonSpelling(pokemonName).toLowerCase();
-				builder.append("pixelmon.");
-				builder.append(pokemonLower);
-				builder.append(".name=");
-				builder.append(pokemonName);
-				builder.append("\npixelmon.");
-				builder.append(pokemonLower);
-				builder.append(".description=");
-				builder.append(entry);
-				builder.append('\n');
-				if (!debugPokemon.isEmpty()) {
-					System.out.println(entry);
-					break;
-				}
-			} catch (Exception e) {
-				System.out.println(pokemonName);
-				throw e;
+				System.out.println(entry);
 			}
 		}
 		return builder.toString();
 	}
+
+	/**
+	 * Reads the Omega Ruby Pokédex entry from a Pokémon article.
+	 * @param raw The source of the Pokémon article.
+	 * @param stripper Converts the entry into plain text.
+	 * @param endPattern Matches the end of the entry.
+	 * @return The Pokédex entry as plain text.
+	 */
+	private static String readPokedexEntry(String raw, WikitextStripper stripper, Pattern endPattern) {
+		CharSlice entrySlice = StringUtil.getSliceBetween(raw, "Dex/Gen|gen=VI", "Dex/Footer");
+		entrySlice = StringUtil.getSliceBetween(entrySlice, "Omega Ruby", null);
+		Matcher matcher = endPattern.matcher(entrySlice);
+		matcher.find();
+		String matcher0 = matcher.group(0);
+		return stripper.strip(StringUtil.getSliceBetween(entrySlice, "entry=", matcher0)) + matcher.group(1);
+	}
 }
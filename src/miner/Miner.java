@@ -1,6 +1,7 @@
 package miner;
 
 import database.Database;
+import util.CharSlice;
 
 /**
  * Base class for all data miners.
@@ -42,7 +43,7 @@ public abstract class Miner {
 				endIndex = totalRaw.length();
 			}
 			builder.append('\n');
-			builder.append(totalRaw.substring(startIndex, endIndex).trim());
+			new CharSlice(totalRaw, startIndex, endIndex).trim().appendTo(builder);
 			return true;
 		}
 		return false;
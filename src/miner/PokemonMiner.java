@@ -5,18 +5,29 @@ import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import database.Database;
+import miner.storage.LearnsetRow;
+import miner.storage.LearnsetRow.Method;
 import miner.storage.Move;
 import miner.storage.Pokemon;
 import util.APIConnection;
+import util.CharSlice;
 import util.FileIO;
+import util.LearnsetParser;
+import util.ParseContext;
+import util.ParsedArticleCache;
+import util.Pipeline;
+import util.SqlRowWriter;
 import util.StringUtil;
 
 /**
@@ -24,6 +35,31 @@ import util.StringUtil;
  */
 public class PokemonMiner extends Miner {
 
+	/** The infobox entries read from Pokémon articles. */
+	private static final String[] INFOBOX_ENTRIES = { "ndex", "type1", "type2", "ability1", "ability2", "abilityd",
+			"egggroup1", "egggroup2", "eggcycles", "height-m", "weight-kg", "gendercode", "catchrate", "expyield",
+			"lv100exp", "evhp", "evat", "evde", "evsa", "evsd", "evsp" };
+	/** The base stat entries read from Pokémon articles. */
+	private static final String[] BASE_STAT_ENTRIES = { "HP", "Attack", "Defense", "SpAtk", "SpDef", "Speed",
+			"Friendship" };
+	/** The suffix of the Generation 6 learnset article for a Pokémon. */
+	private static final String GEN_6_LEARNSET = "/Generation_VI_learnset";
+	/** The version of the entries read from Pokémon articles. Increase this when the entries change. */
+	private static final int ENTRY_VERSION = 2;
+	/** Gets the moves that a Pokémon already learns by any method, by its full name bound once for each method. */
+	private static final String EXISTING_MOVES_QUERY = "SELECT c.NAME FROM PIXELMONLEVELSKILLS a "
+			+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) JOIN MOVES c ON (a.MOVEID = c.MOVEID) "
+			+ "WHERE b.PIXELMONFULLNAME = ? UNION SELECT c.NAME FROM PIXELMONTMHMSKILLS a "
+			+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) JOIN MOVES c ON (a.MOVEID = c.MOVEID) "
+			+ "WHERE b.PIXELMONFULLNAME = ? UNION SELECT c.NAME FROM PIXELMONEGGSKILLS a "
+			+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) JOIN MOVES c ON (a.MOVEID = c.MOVEID) "
+			+ "WHERE b.PIXELMONFULLNAME = ? UNION SELECT c.NAME FROM PIXELMONTUTORSKILLS a "
+			+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) JOIN MOVES c ON (a.MOVEID = c.MOVEID) "
+			+ "WHERE b.PIXELMONFULLNAME = ?";
+	/** Gets the data that Mega Evolutions copy from their base Pokémon, by the name of the base Pokémon. */
+	private static final String MEGA_DATA_QUERY = "SELECT SPAWNTIMEID, PERCENTTIMID, PERCENTAGRESSIVE, ISRIDEABLE, "
+			+ "CANFLY, CANSWIM, DOESHOVER FROM PIXELMON WHERE PIXELMONNAME = ?";
+
 	/**
 	 * Gets new Pokémon data from Bulbapedia.
 	 * @return The database query for the new Pokémon data.
@@ -38,19 +74,21 @@ public class PokemonMiner extends Miner {
 		database.loadMap(abilityMap, "ABILITYID", "NAME", "ABILITIES");
 
 		StringBuilder baseQuery = new StringBuilder();
-		baseQuery.append("INSERT INTO PIXELMON (");
-		StringUtil.addCommaSeparated(baseQuery, false, "NATIONALPOKEDEXNUMBER", "PIXELMONFULLNAME", "PIXELMONNAME",
-				"PIXELMONTYPE1ID", "PIXELMONTYPE2ID", "ABILITY1ID", "ABILITY2ID", "ABILITYHIDDENID", "EGGGROUP1ID",
-				"EGGGROUP2ID", "EGGCYCLES", "POKEDEXHEIGHT", "POKEDEXWIDTH", "POKEDEXLENGTH", "POKEDEXWEIGHT",
-				"POKEDEXDESCRIPTION", "MALEPERCENT", "CATCHRATE", "SPAWNTIMEID", "MINGROUPSIZE", "MAXGROUPSIZE",
-				"BASEEXP", "EXPERIENCEGROUP", "BASEHP", "BASEATK", "BASEDEF", "BASESPATK", "BASESPDEF", "BASESPD",
-				"EVGAINHP", "EVGAINATK", "EVGAINDEF", "EVGAINSPATK", "EVGAINSPDEF", "EVGAINSPD", "MINSPAWNLEVEL",
-				"MAXSPAWNLEVEL", "MODELSCALE", "PERCENTTIMID", "PERCENTAGRESSIVE", "ISRIDEABLE", "CANFLY", "CANSWIM",
-				"DOESHOVER", "BASEFRIENDSHIP");
-		baseQuery.append(") VALUES \n");
+		SqlRowWriter writer = new SqlRowWriter(baseQuery);
+		baseQuery.append("INSERT INTO PIXELMON ");
+		writer.columns("NATIONALPOKEDEXNUMBER", "PIXELMONFULLNAME", "PIXELMONNAME", "PIXELMONTYPE1ID",
+				"PIXELMONTYPE2ID", "ABILITY1ID", "ABILITY2ID", "ABILITYHIDDENID", "EGGGROUP1ID", "EGGGROUP2ID",
+				"EGGCYCLES", "POKEDEXHEIGHT", "POKEDEXWIDTH", "POKEDEXLENGTH", "POKEDEXWEIGHT", "POKEDEXDESCRIPTION",
+				"MALEPERCENT", "CATCHRATE", "SPAWNTIMEID", "MINGROUPSIZE", "MAXGROUPSIZE", "BASEEXP", "EXPERIENCEGROUP",
+				"BASEHP", "BASEATK", "BASEDEF", "BASESPATK", "BASESPDEF", "BASESPD", "EVGAINHP", "EVGAINATK",
+				"EVGAINDEF", "EVGAINSPATK", "EVGAINSPDEF", "EVGAINSPD", "MINSPAWNLEVEL", "MAXSPAWNLEVEL", "MODELSCALE",
+				"PERCENTTIMID", "PERCENTAGRESSIVE", "ISRIDEABLE", "CANFLY", "CANSWIM", "DOESHOVER", "BASEFRIENDSHIP");
+		baseQuery.append(" VALUES \n");
 
 		String[] gen6Array = APIConnection.getGen6Pokemon();
 		int numPokemon = gen6Array.length;
+		List<List<Map<String, String>>> entries = APIConnection.getParsedSections(Arrays.asList(gen6Array),
+				"pokemon", ENTRY_VERSION, ParsedArticleCache.STRING_MAP, PokemonMiner::readPokemonEntries);
 
 		for (int i = 0; i < numPokemon; i++) {
 			String pokemonName = gen6Array[i];
@@ -58,22 +96,25 @@ public class PokemonMiner extends Miner {
 			pokemon.truncateName();
 			System.out.println(pokemon.name);
 
-			String totalRaw = APIConnection.getArticleSource(pokemonName);
-			StringUtil.currentRaw = totalRaw.substring(0, totalRaw.indexOf("Biology"));
-
-			pokemon.nationalPokedexNumber = StringUtil.getTableEntryInt("ndex");
-			pokemon.type1 = StringUtil.getTableEntry("type1");
-			pokemon.type2 = StringUtil.getTableEntry("type2");
-			pokemon.ability1 = StringUtil.removeSpaces(StringUtil.getTableEntry("ability1"));
-			pokemon.ability2 = StringUtil.removeSpaces(StringUtil.getTableEntry("ability2"));
-			pokemon.abilityHidden = StringUtil.removeSpaces(StringUtil.getTableEntry("abilityd"));
-			pokemon.eggGroup1 = StringUtil.removeSpaces(StringUtil.getTableEntry("egggroup1"));
-			pokemon.eggGroup2 = StringUtil.removeSpaces(StringUtil.getTableEntry("egggroup2"));
-			pokemon.eggCycles = StringUtil.getTableEntryInt("eggcycles");
-			pokemon.height = StringUtil.getTableEntryFloat("height-m");
-			pokemon.weight = StringUtil.getTableEntryFloat("weight-kg");
-
-			int genderCode = StringUtil.getTableEntryInt("gendercode");
+			Map<String, String> pokemonEntries = new HashMap<>();
+			for (Map<String, String> sectionEntries : entries.get(i)) {
+				sectionEntries.forEach(pokemonEntries::putIfAbsent);
+			}
+			ParseContext context = new ParseContext(pokemonEntries);
+
+			pokemon.nationalPokedexNumber = context.getTableEntryInt("ndex");
+			pokemon.type1 = context.getTableEntry("type1");
+			pokemon.type2 = context.getTableEntry("type2");
+			pokemon.ability1 = StringUtil.removeSpaces(context.getTableEntry("ability1"));
+			pokemon.ability2 = StringUtil.removeSpaces(context.getTableEntry("ability2"));
+			pokemon.abilityHidden = StringUtil.removeSpaces(context.getTableEntry("abilityd"));
+			pokemon.eggGroup1 = StringUtil.removeSpaces(context.getTableEntry("egggroup1"));
+			pokemon.eggGroup2 = StringUtil.removeSpaces(context.getTableEntry("egggroup2"));
+			pokemon.eggCycles = context.getTableEntryInt("eggcycles");
+			pokemon.height = context.getTableEntryFloat("height-m");
+			pokemon.weight = context.getTableEntryFloat("weight-kg");
+
+			int genderCode = context.getTableEntryInt("gendercode");
 			switch (genderCode) {
 			case 256:
 			case 255:
@@ -102,10 +143,10 @@ public class PokemonMiner extends Miner {
 				break;
 			}
 
-			pokemon.catchRate = StringUtil.getTableEntryInt("catchrate");
-			pokemon.expYield = StringUtil.getTableEntryInt("expyield");
+			pokemon.catchRate = context.getTableEntryInt("catchrate");
+			pokemon.expYield = context.getTableEntryInt("expyield");
 
-			int maxExp = StringUtil.getTableEntryInt("lv100exp");
+			int maxExp = context.getTableEntryInt("lv100exp");
 			switch (maxExp) {
 			case 600000:
 				pokemon.expGroup = "Erratic";
@@ -127,41 +168,57 @@ public class PokemonMiner extends Miner {
 				break;
 			}
 
-			pokemon.evHP = StringUtil.getTableEntryInt("evhp");
-			pokemon.evAtk = StringUtil.getTableEntryInt("evat");
-			pokemon.evDef = StringUtil.getTableEntryInt("evde");
-			pokemon.evSpAtk = StringUtil.getTableEntryInt("evsa");
-			pokemon.evSpDef = StringUtil.getTableEntryInt("evsd");
-			pokemon.evSpd = StringUtil.getTableEntryInt("evsp");
-
-			StringUtil.currentRaw = StringUtil.getSubstringBetween(totalRaw, "=Base stats=", "=Type effectiveness=");
-			pokemon.baseHP = StringUtil.getTableEntryInt("HP");
-			pokemon.baseAtk = StringUtil.getTableEntryInt("Attack");
-			pokemon.baseDef = StringUtil.getTableEntryInt("Defense");
-			pokemon.baseSpAtk = StringUtil.getTableEntryInt("SpAtk");
-			pokemon.baseSpDef = StringUtil.getTableEntryInt("SpDef");
-			pokemon.baseSpd = StringUtil.getTableEntryInt("Speed");
-
-			pokemon.baseFriendship = StringUtil.getTableEntryInt("Friendship");
-
-			baseQuery.append("(");
-
-			StringUtil.addCommaSeparated(baseQuery, true, pokemon.nationalPokedexNumber, pokemon.name, pokemon.name,
-					typeMap.get(pokemon.type1), typeMap.get(pokemon.type2), abilityMap.get(pokemon.ability1),
-					abilityMap.get(pokemon.ability2), abilityMap.get(pokemon.abilityHidden),
-					eggGroupMap.get(pokemon.eggGroup1), eggGroupMap.get(pokemon.eggGroup2), pokemon.eggCycles,
-					pokemon.height, pokemon.height, pokemon.height, pokemon.weight, "", pokemon.genderRatio,
-					pokemon.catchRate, 1, 1, 1, pokemon.expYield, pokemon.expGroup, pokemon.baseHP, pokemon.baseAtk,
-					pokemon.baseDef, pokemon.baseSpAtk, pokemon.baseSpDef, pokemon.baseSpd, pokemon.evHP, pokemon.evAtk,
-					pokemon.evDef, pokemon.evSpAtk, pokemon.evSpDef, pokemon.evSpd, 1, 100, 1.0, 80, 20, false, false,
-					false, false, pokemon.baseFriendship);
-			baseQuery.append(")");
+			pokemon.evHP = context.getTableEntryInt("evhp");
+			pokemon.evAtk = context.getTableEntryInt("evat");
+			pokemon.evDef = context.getTableEntryInt("evde");
+			pokemon.evSpAtk = context.getTableEntryInt("evsa");
+			pokemon.evSpDef = context.getTableEntryInt("evsd");
+			pokemon.evSpd = context.getTableEntryInt("evsp");
+
+			pokemon.baseHP = context.getTableEntryInt("HP");
+			pokemon.baseAtk = context.getTableEntryInt("Attack");
+			pokemon.baseDef = context.getTableEntryInt("Defense");
+			pokemon.baseSpAtk = context.getTableEntryInt("SpAtk");
+			pokemon.baseSpDef = context.getTableEntryInt("SpDef");
+			pokemon.baseSpd = context.getTableEntryInt("Speed");
+
+			pokemon.baseFriendship = context.getTableEntryInt("Friendship");
+
+			writer.begin().add(pokemon.nationalPokedexNumber).add(pokemon.name).add(pokemon.name)
+					.add(typeMap.get(pokemon.type1)).add(typeMap.get(pokemon.type2))
+					.add(abilityMap.get(pokemon.ability1)).add(abilityMap.get(pokemon.ability2))
+					.add(abilityMap.get(pokemon.abilityHidden)).add(eggGroupMap.get(pokemon.eggGroup1))
+					.add(eggGroupMap.get(pokemon.eggGroup2)).add(pokemon.eggCycles).add(pokemon.height)
+					.add(pokemon.height).add(pokemon.height).add(pokemon.weight).add("").add(pokemon.genderRatio)
+					.add(pokemon.catchRate).add(1).add(1).add(1).add(pokemon.expYield).add(pokemon.expGroup)
+					.add(pokemon.baseHP).add(pokemon.baseAtk).add(pokemon.baseDef).add(pokemon.baseSpAtk)
+					.add(pokemon.baseSpDef).add(pokemon.baseSpd).add(pokemon.evHP).add(pokemon.evAtk).add(pokemon.evDef)
+					.add(pokemon.evSpAtk).add(pokemon.evSpDef).add(pokemon.evSpd).add(1).add(100).add(1.0).add(80)
+					.add(20).add(false).add(false).add(false).add(false).add(pokemon.baseFriendship).end();
 			baseQuery.append(i < numPokemon - 1 ? ",\n" : ";\n");
 		}
 
 		return baseQuery.toString();
 	}
 
+	/**
+	 * Reads the infobox entries from the lead section of a Pokémon article, or the base stat entries from the
+	 * section that contains them.
+	 * @param heading The heading of the section, or null for the lead section.
+	 * @param section The text of the section.
+	 * @return A map from the entry names to their values. Empty if the section doesn't contain any entries.
+	 */
+	private static Map<String, String> readPokemonEntries(String heading, CharSlice section) {
+		Map<String, String> entries = new HashMap<>();
+		if (heading == null) {
+			new ParseContext(section.toString()).getTableEntries(entries, INFOBOX_ENTRIES);
+		} else if (section.contains("=Base stats=")) {
+			CharSlice baseStats = StringUtil.getSliceBetween(section, "=Base stats=", "=Type effectiveness=");
+			new ParseContext(baseStats.toString()).getTableEntries(entries, BASE_STAT_ENTRIES);
+		}
+		return entries;
+	}
+
 	/**
 	 * Gets data about new Generation 6 moves.
 	 * @return The database query for adding new moves.
@@ -173,72 +230,79 @@ public class PokemonMiner extends Miner {
 		database.loadMap(moveCategoryMap, "MOVECATEGORYID", "NAME", "MOVECATEGORIES");
 
 		StringBuilder baseQuery = new StringBuilder();
-		baseQuery.append("INSERT INTO MOVES (");
-		StringUtil.addCommaSeparated(baseQuery, false, "NAME", "TYPEID", "MOVECATEGORYID", "POWER", "ACCURACY", "PP",
-				"PPMAX", "EFFECT", "MAKESCONTACT", "HITSALL", "HITSOPPOSITEFOE", "HITSADJACENTFOE", "HITSEXTENDEDFOE",
-				"HITSSELF", "HITSADJACENTALLY", "HITSEXTENDEDALLY", "DESCRIPTION");
-		baseQuery.append(") VALUES \n");
-
-		String[] gen6Moves = APIConnection.getCategoryMembers("Generation_VI_moves");
-		int numMoves = gen6Moves.length;
-		for (int i = 0; i < numMoves; i++) {
-			String moveName = gen6Moves[i];
-			String movePage = APIConnection.getArticleSource(moveName);
-			Move move = new Move(moveName);
-			move.truncateName();
-			System.out.println(move.name);
-
-			StringUtil.currentRaw = movePage.substring(0, movePage.indexOf("==Effect=="));
-
-			move.type = StringUtil.removeSpaces(StringUtil.getTableEntry("type"));
-			move.category = StringUtil.removeSpaces(StringUtil.getTableEntry("damagecategory"));
-			move.power = StringUtil.getTableEntryInteger("power");
-			move.accuracy = StringUtil.getTableEntryInteger("accuracy");
-			move.pp = StringUtil.getTableEntryInt("basepp");
-			move.ppMax = StringUtil.getTableEntryInt("maxpp");
-			move.contact = StringUtil.getTableEntryBoolean("touches");
-
-			String moveRange = StringUtil.removeSpaces(StringUtil.getTableEntry("target"));
-			switch (moveRange) {
-			case "adjacentally":
-				move.hitsAdjacentAlly = true;
-				break;
-			case "adjacentfoes":
-				move.hitsAll = move.hitsAdjacentFoe = move.hitsOpposite = true;
-				break;
-			case "alladjacent":
-				move.hitsAll = move.hitsAdjacentAlly = move.hitsOpposite = move.hitsAdjacentFoe = true;
-				break;
-			case "anyadjacent":
-				move.hitsAdjacentAlly = move.hitsAdjacentFoe = move.hitsOpposite = true;
-				break;
-			case "any":
-				move.hitsAdjacentAlly = move.hitsAdjacentFoe = move.hitsExtendedAlly = move.hitsExtendedFoe = move.hitsOpposite = true;
-				break;
-			case "foes":
-				move.hitsAll = move.hitsAdjacentFoe = move.hitsExtendedFoe = move.hitsOpposite = true;
-				break;
-			case "all":
-			case "self":
-				move.hitsSelf = true;
-				break;
-			case "team":
-				move.hitsAll = move.hitsAdjacentAlly = move.hitsExtendedAlly = move.hitsSelf = true;
-				break;
-			default:
-				throw new IllegalArgumentException(moveRange + " not found.");
-			}
-
-			baseQuery.append("(");
+		SqlRowWriter writer = new SqlRowWriter(baseQuery);
+		baseQuery.append("INSERT INTO MOVES ");
+		writer.columns("NAME", "TYPEID", "MOVECATEGORYID", "POWER", "ACCURACY", "PP", "PPMAX", "EFFECT", "MAKESCONTACT",
+				"HITSALL", "HITSOPPOSITEFOE", "HITSADJACENTFOE", "HITSEXTENDEDFOE", "HITSSELF", "HITSADJACENTALLY",
+				"HITSEXTENDEDALLY", "DESCRIPTION");
+		baseQuery.append(" VALUES \n");
+
+		List<String> gen6Moves = Arrays.asList(APIConnection.getCategoryMembers("Generation_VI_moves"));
+		int numMoves = gen6Moves.size();
+		Pipeline.run(gen6Moves, APIConnection::getArticleSource,
+				(i, moveName, movePage) -> parseMove(moveName, movePage), (i, move) -> {
+					writer.begin().add(move.name).add(typeMap.get(move.type))
+							.add(moveCategoryMap.get(move.category)).add(move.power).add(move.accuracy).add(move.pp)
+							.add(move.ppMax).add("None").add(move.contact).add(move.hitsAll).add(move.hitsOpposite)
+							.add(move.hitsAdjacentFoe).add(move.hitsExtendedFoe).add(move.hitsSelf)
+							.add(move.hitsAdjacentAlly).add(move.hitsExtendedAlly).add("").end();
+					baseQuery.append(i < numMoves - 1 ? ",\n" : ";\n");
+				});
+		return baseQuery.toString();
+	}
 
-			StringUtil.addCommaSeparated(baseQuery, true, move.name.replace("'", "''"), typeMap.get(move.type),
-					moveCategoryMap.get(move.category), move.power, move.accuracy, move.pp, move.ppMax, "None",
-					move.contact, move.hitsAll, move.hitsOpposite, move.hitsAdjacentFoe, move.hitsExtendedFoe,
-					move.hitsSelf, move.hitsAdjacentAlly, move.hitsExtendedAlly, "");
-			baseQuery.append(")");
-			baseQuery.append(i < numMoves - 1 ? ",\n" : ";\n");
+	/**
+	 * Parses a move article.
+	 * @param moveName The name of the move article.
+	 * @param movePage The source of the move article.
+	 * @return The parsed move.
+	 */
+	private Move parseMove(String moveName, String movePage) {
+		Move move = new Move(moveName);
+		move.truncateName();
+		System.out.println(move.name);
+
+		ParseContext context = new ParseContext(movePage.substring(0, movePage.indexOf("==Effect==")));
+
+		move.type = StringUtil.removeSpaces(context.getTableEntry("type"));
+		move.category = StringUtil.removeSpaces(context.getTableEntry("damagecategory"));
+		move.power = context.getTableEntryInteger("power");
+		move.accuracy = context.getTableEntryInteger("accuracy");
+		move.pp = context.getTableEntryInt("basepp");
+		move.ppMax = context.getTableEntryInt("maxpp");
+		move.contact = context.getTableEntryBoolean("touches");
+
+		String moveRange = StringUtil.removeSpaces(context.getTableEntry("target"));
+		switch (moveRange) {
+		case "adjacentally":
+			move.hitsAdjacentAlly = true;
+			break;
+		case "adjacentfoes":
+			move.hitsAll = move.hitsAdjacentFoe = move.hitsOpposite = true;
+			break;
+		case "alladjacent":
+			move.hitsAll = move.hitsAdjacentAlly = move.hitsOpposite = move.hitsAdjacentFoe = true;
+			break;
+		case "anyadjacent":
+			move.hitsAdjacentAlly = move.hitsAdjacentFoe = move.hitsOpposite = true;
+			break;
+		case "any":
+			move.hitsAdjacentAlly = move.hitsAdjacentFoe = move.hitsExtendedAlly = move.hitsExtendedFoe = move.hitsOpposite = true;
+			break;
+		case "foes":
+			move.hitsAll = move.hitsAdjacentFoe = move.hitsExtendedFoe = move.hitsOpposite = true;
+			break;
+		case "all":
+		case "self":
+			move.hitsSelf = true;
+			break;
+		case "team":
+			move.hitsAll = move.hitsAdjacentAlly = move.hitsExtendedAlly = move.hitsSelf = true;
+			break;
+		default:
+			throw new IllegalArgumentException(moveRange + " not found.");
 		}
-		return baseQuery.toString();
+		return move;
 	}
 
 	/**
@@ -249,46 +313,25 @@ public class PokemonMiner extends Miner {
 		StringBuilder builder = new StringBuilder();
 
 		List<String> pokemonList = APIConnection.getGenerationPokemon(StringUtil.ALL_GENERATIONS);
+		List<List<List<LearnsetRow>>> learnsets = APIConnection.getParsedSections(getLearnsetArticles(pokemonList),
+				"learnset", LearnsetParser.VERSION, LearnsetParser.ROW_CODEC,
+				(heading, section) -> LearnsetParser.getAllRows(section.toString()));
 
 		int numPokemon = pokemonList.size();
 		for (int i = 0; i < numPokemon; i++) {
 			String pokemon = pokemonList.get(i);
-			String totalRaw = APIConnection.getArticleSource(pokemon + "/Generation_VI_learnset");
 			pokemon = pokemon.substring(0, pokemon.length() - 10);
 
-			String currentRaw = StringUtil.getSubstringBetween(totalRaw, "levelh", "levelf");
-			if (currentRaw.contains("level6")) {
-				String[] moveSplit = currentRaw.split("level6\\|");
-				for (int j = 1; j < moveSplit.length; j++) {
-					String moveRow = moveSplit[j];
-					int pipeIndex1 = moveRow.indexOf('|');
-					int pipeIndex2 = moveRow.indexOf('|', pipeIndex1 + 1);
-
-					int level;
-					try {
-						level = Integer.parseInt(moveRow.substring(0, pipeIndex1));
-					} catch (NumberFormatException e) {
-						continue;
+			// Each section counts its own tables, so only the first section with level-up rows is used.
+			for (List<LearnsetRow> sectionRows : learnsets.get(i)) {
+				List<LearnsetRow> levelRows = LearnsetParser.getRows(sectionRows, Method.LEVEL, 6);
+				for (LearnsetRow row : levelRows) {
+					if (row.level >= 0) {
+						addLevelUpEntry(builder, pokemon, row.move, row.level);
 					}
-					String move = moveRow.substring(pipeIndex1 + 1, pipeIndex2);
-					addLevelUpEntry(builder, pokemon, move, level);
 				}
-			} else {
-				String[] moveSplit = currentRaw.split("levelVI\\|");
-				for (int j = 1; j < moveSplit.length; j++) {
-					String moveRow = moveSplit[j];
-					int pipeIndex1 = moveRow.indexOf('|');
-					int pipeIndex2 = moveRow.indexOf('|', pipeIndex1 + 1);
-					int pipeIndex3 = moveRow.indexOf('|', pipeIndex2 + 1);
-
-					int level;
-					try {
-						level = Integer.parseInt(moveRow.substring(pipeIndex1 + 1, pipeIndex2));
-					} catch (NumberFormatException e) {
-						continue;
-					}
-					String move = moveRow.substring(pipeIndex2 + 1, pipeIndex3);
-					addLevelUpEntry(builder, pokemon, move, level);
+				if (!levelRows.isEmpty()) {
+					break;
 				}
 			}
 		}
@@ -296,6 +339,41 @@ public class PokemonMiner extends Miner {
 		return builder.toString();
 	}
 
+	/**
+	 * Gets the Generation 6 learnset articles for Pokémon, downloading them in parallel.
+	 * @param pokemonList The article names of the Pokémon.
+	 * @return The learnset article sources, in the same order as the Pokémon.
+	 */
+	private List<String> getLearnsetSources(List<String> pokemonList) {
+		return APIConnection.fetchArticleSources(getLearnsetArticles(pokemonList));
+	}
+
+	/**
+	 * Gets the names of the Generation 6 learnset articles for Pokémon.
+	 * @param pokemonList The article names of the Pokémon.
+	 * @return The learnset article names, in the same order as the Pokémon.
+	 */
+	private List<String> getLearnsetArticles(List<String> pokemonList) {
+		List<String> articles = new ArrayList<>(pokemonList.size());
+		for (String pokemon : pokemonList) {
+			articles.add(pokemon + GEN_6_LEARNSET);
+		}
+		return articles;
+	}
+
+	/**
+	 * Reads the Generation 6 learnset of every Generation 6 Pokémon. Learnsets start downloading as the category
+	 * members are read, instead of after the whole category has been listed.
+	 * @param consumer Receives the name of each Pokémon and the source of its learnset article, in category order.
+	 */
+	private void forEachGen6Learnset(BiConsumer<String, String> consumer) {
+		APIConnection.forEachArticleSource(APIConnection.getCategoryMemberStream("Generation_VI_Pokémon")
+				.map(pokemon -> pokemon + GEN_6_LEARNSET).iterator(), (article, totalRaw) -> {
+					String pokemon = article.substring(0, article.length() - GEN_6_LEARNSET.length());
+					consumer.accept(pokemon.substring(0, pokemon.length() - 10), totalRaw);
+				});
+	}
+
 	/**
 	 * Adds a level up entry database query to a string builder.
 	 * @param builder The string builder to add to.
@@ -304,14 +382,14 @@ public class PokemonMiner extends Miner {
 	 * @param level The level that the move is learned at.
 	 */
 	private void addLevelUpEntry(StringBuilder builder, String pokemon, String move, int level) {
-		builder.append("INSERT INTO PIXELMONLEVELSKILLS (PIXELMONID, LEARNLEVEL, MOVEID) VALUES (");
+		builder.append("INSERT INTO PIXELMONLEVELSKILLS (PIXELMONID, LEARNLEVEL, MOVEID) VALUES ");
 		Integer pokemonID = database.getPokemonIndex(pokemon);
 		Integer moveID = database.getMoveIndex(move);
 		if (level == 1) {
 			level = 0;
 		}
-		StringUtil.addCommaSeparated(builder, true, pokemonID, level, moveID);
-		builder.append(");\n");
+		new SqlRowWriter(builder).begin().add(pokemonID).add(level).add(moveID).end();
+		builder.append(";\n");
 	}
 
 	/**
@@ -321,28 +399,16 @@ public class PokemonMiner extends Miner {
 	public String getTMData() {
 
 		StringBuilder query = new StringBuilder();
-		String[] gen6 = APIConnection.getGen6Pokemon();
-
-		int numPokemon = gen6.length;
-		for (int i = 0; i < numPokemon; i++) {
-			String pokemon = gen6[i];
-			String totalRaw = APIConnection.getArticleSource(pokemon + "/Generation_VI_learnset");
-			pokemon = pokemon.substring(0, pokemon.length() - 10);
+		forEachGen6Learnset((pokemon, totalRaw) -> {
 			System.out.println(pokemon);
 
-			String[] moveSplit = StringUtil.getTMSplit6(totalRaw);
-			if (moveSplit.length == 1) {
-				continue;
-			}
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				if (line.contains("TM94|Rock Smash")) {
+			for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.TM, 6)) {
+				if ("TM94".equals(row.tmNumber) && "Rock Smash".equals(row.move)) {
 					continue;
 				}
-				String move = StringUtil.getTMMoveFromLine(line);
-				addTMEntry(query, pokemon, move);
+				addTMEntry(query, pokemon, row.move);
 			}
-		}
+		});
 
 		return query.toString();
 	}
@@ -355,22 +421,11 @@ public class PokemonMiner extends Miner {
 		Set<String> tmMoves = database.getTMMoves();
 
 		StringBuilder query = new StringBuilder();
-		String[] gen6 = APIConnection.getGen6Pokemon();
-
-		int numPokemon = gen6.length;
-		for (int i = 0; i < numPokemon; i++) {
-			String pokemon = gen6[i];
-			String totalRaw = APIConnection.getArticleSource(pokemon + "/Generation_VI_learnset");
-			pokemon = pokemon.substring(0, pokemon.length() - 10);
+		forEachGen6Learnset((pokemon, totalRaw) -> {
 			System.out.println(pokemon);
 
-			String[] moveSplit = StringUtil.getTutorSplit6(totalRaw);
-			if (moveSplit.length == 1) {
-				continue;
-			}
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				String move = StringUtil.getTutorMoveFromLine(line);
+			for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.TUTOR, 6)) {
+				String move = row.move;
 				if (tmMoves.contains(move)) {
 					addTMEntry(query, pokemon, move);
 				} else {
@@ -378,7 +433,7 @@ public class PokemonMiner extends Miner {
 				}
 				// System.out.println(move);
 			}
-		}
+		});
 
 		return query.toString();
 	}
@@ -390,29 +445,14 @@ public class PokemonMiner extends Miner {
 	public String getEggMoveData() {
 
 		StringBuilder query = new StringBuilder();
-		String[] gen6 = APIConnection.getGen6Pokemon();
-
-		int numPokemon = gen6.length;
-		for (int i = 0; i < numPokemon; i++) {
-			String pokemon = gen6[i];
-			String totalRaw = APIConnection.getArticleSource(pokemon + "/Generation_VI_learnset");
-			pokemon = pokemon.substring(0, pokemon.length() - 10);
+		forEachGen6Learnset((pokemon, totalRaw) -> {
 			System.out.println(pokemon);
 
-			String currentRaw = StringUtil.getSubstringBetween(totalRaw, "breedh/6", "breedf/6");
-			String[] moveSplit = currentRaw.split("breed6\\|");
-			if (moveSplit.length == 1) {
-				continue;
+			for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.BREED, 6)) {
+				// System.out.println(row.move);
+				addLearnMoveEntry(query, "PIXELMONEGGSKILLS", pokemon, row.move);
 			}
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				int pipeIndex1 = line.indexOf("}}|") + 3;
-				int pipeIndex2 = line.indexOf('|', pipeIndex1);
-				String move = line.substring(pipeIndex1, pipeIndex2);
-				// System.out.println(move);
-				addLearnMoveEntry(query, "PIXELMONEGGSKILLS", pokemon, move);
-			}
-		}
+		});
 
 		return query.toString();
 	}
@@ -426,28 +466,18 @@ public class PokemonMiner extends Miner {
 		StringBuilder query = new StringBuilder();
 		List<String> pokemonList = APIConnection.getGenerationPokemon(new String[] { "I", "II", "III", "IV", "V" });
 
-		String[] gen6Moves = APIConnection.getCategoryMembers("Generation_VI_moves");
-		Set<String> moveSet = new HashSet<>();
-		for (String move : gen6Moves) {
-			moveSet.add(move.replace(" (move)", ""));
-		}
+		Set<String> moveSet = APIConnection.getCategoryMemberStream("Generation_VI_moves")
+				.map(move -> move.replace(" (move)", "")).collect(Collectors.toSet());
 
+		List<String> learnsets = getLearnsetSources(pokemonList);
 		int numPokemon = pokemonList.size();
 		for (int i = 0; i < numPokemon; i++) {
 			String pokemon = pokemonList.get(i);
-			String totalRaw = APIConnection.getArticleSource(pokemon + "/Generation_VI_learnset");
+			String totalRaw = learnsets.get(i);
 			pokemon = pokemon.substring(0, pokemon.length() - 10);
 
-			String currentRaw = StringUtil.getSubstringBetween(totalRaw, "breedh/6", "breedf/6");
-			String[] moveSplit = currentRaw.split("breed6\\|");
-			if (moveSplit.length == 1) {
-				continue;
-			}
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				int pipeIndex1 = line.indexOf("}}|") + 3;
-				int pipeIndex2 = line.indexOf('|', pipeIndex1);
-				String move = line.substring(pipeIndex1, pipeIndex2);
+			for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.BREED, 6)) {
+				String move = row.move;
 				if (moveSet.contains(move)) {
 					System.out.println(pokemon + " " + move);
 					addLearnMoveEntry(query, "PIXELMONEGGSKILLS", pokemon, move);
@@ -476,42 +506,31 @@ public class PokemonMiner extends Miner {
 			// System.out.println(pokemon);
 			pokemon = StringUtil.convertPokemonSpelling(pokemon);
 
-			String[] moveSplit = StringUtil.getSplit6(totalRaw, "tmh", "tmf", "tm5\\|");
+			List<LearnsetRow> gen5TMs = LearnsetParser.getRows(totalRaw, Method.TM, 5);
 			Set<String> gen5Moves = new HashSet<>();
 			StringUtil.addMultipleToSet(gen5Moves, "Confide", "Dazzling Gleam", "Focus Punch", "Infestation",
 					"Nature Power", "Power-Up Punch", "Roost", "Secret Power", "Shock Wave", "Steel Wing",
 					"Water Pulse");
-			if (moveSplit.length < 10) {
+			if (gen5TMs.size() < 9) {
 				continue;
 			}
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				String move = StringUtil.getTMMoveFromLine(line);
-				gen5Moves.add(move);
+			for (LearnsetRow row : gen5TMs) {
+				gen5Moves.add(row.move);
 			}
-			moveSplit = StringUtil.getSplit6(totalRaw, "tutorh", "tutorf", "tutor5\\|");
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				String move = StringUtil.getTutorMoveFromLine(line);
-				gen5Moves.add(move);
+			for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.TUTOR, 5)) {
+				gen5Moves.add(row.move);
 			}
 
 			totalRaw = APIConnection.getArticleSource(pokemonArticle);
-			moveSplit = StringUtil.getTMSplit6(totalRaw);
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				String move = StringUtil.getTMMoveFromLine(line);
-				move = StringUtil.convertMoveSpelling(move);
+			for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.TM, 6)) {
+				String move = StringUtil.convertMoveSpelling(row.move);
 				if (!gen5Moves.contains(move)) {
 					System.out.println(pokemon + " " + move);
 					addTMEntry(query, pokemon, move);
 				}
 			}
-			moveSplit = StringUtil.getTutorSplit6(totalRaw);
-			for (int j = 1; j < moveSplit.length; j++) {
-				String line = moveSplit[j];
-				String move = StringUtil.getTutorMoveFromLine(line);
-				move = StringUtil.convertMoveSpelling(move);
+			for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.TUTOR, 6)) {
+				String move = StringUtil.convertMoveSpelling(row.move);
 				if (!gen5Moves.contains(move)) {
 					System.out.println(pokemon + " " + move);
 					try {
@@ -565,34 +584,18 @@ public class PokemonMiner extends Miner {
 					currentArticle = pokemonArticle + articles[k];
 					String totalRaw = APIConnection.getArticleSource(currentArticle);
 
-					String currentRaw = StringUtil.getSubstringBetween(totalRaw, "By {{pkmn2|event}}s", "eventf");
-					if (!currentRaw.isEmpty()) {
-						String[] moveSplit = currentRaw.split("event[3-6]\\|");
-						for (int j = 1; j < moveSplit.length; j++) {
-							String moveRow = moveSplit[j];
-							String move = StringUtil.getTMMoveFromLine(moveRow);
-							move = StringUtil.convertMoveSpelling(move);
-							eventMoves.add(move);
-						}
+					for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.EVENT, 0)) {
+						eventMoves.add(StringUtil.convertMoveSpelling(row.move));
 					}
 				}
 				if (!eventMoves.isEmpty()) {
-					ResultSet resultSet = database.executeQuery("SELECT c.NAME FROM PIXELMONLEVELSKILLS a "
-							+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) "
-							+ "JOIN MOVES c ON (a.MOVEID = c.MOVEID) " + "WHERE b.PIXELMONFULLNAME = '" + pokemon + "' "
-							+ "UNION " + "SELECT c.NAME FROM PIXELMONTMHMSKILLS a "
-							+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) "
-							+ "JOIN MOVES c ON (a.MOVEID = c.MOVEID) " + "WHERE b.PIXELMONFULLNAME = '" + pokemon + "' "
-							+ "UNION " + "SELECT c.NAME FROM PIXELMONEGGSKILLS a "
-							+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) "
-							+ "JOIN MOVES c ON (a.MOVEID = c.MOVEID) " + "WHERE b.PIXELMONFULLNAME = '" + pokemon + "' "
-							+ "UNION " + "SELECT c.NAME FROM PIXELMONTUTORSKILLS a "
-							+ "JOIN PIXELMON b ON (a.PIXELMONID = b.PIXELMONID) "
-							+ "JOIN MOVES c ON (a.MOVEID = c.MOVEID) " + "WHERE b.PIXELMONFULLNAME = '" + pokemon
-							+ "' ");
 					Set<String> existingMoves = new HashSet<>();
-					while (resultSet.next()) {
-						existingMoves.add(resultSet.getString("NAME"));
+					try (Database.Query query = database.prepare("existingMoves", EXISTING_MOVES_QUERY).bind(pokemon)
+							.bind(pokemon).bind(pokemon).bind(pokemon).execute()) {
+						ResultSet resultSet = query.getResult();
+						while (resultSet.next()) {
+							existingMoves.add(resultSet.getString("NAME"));
+						}
 					}
 					for (String move : eventMoves) {
 						if (!existingMoves.contains(move)) {
@@ -628,8 +631,7 @@ public class PokemonMiner extends Miner {
 			}
 
 			List<String> pokemonList = APIConnection.getGenerationPokemon(StringUtil.ALL_GENERATIONS);
-			String availableRaw = APIConnection
-					.getURL("http://pixelmonmod.com/wiki/index.php?action=raw&title=Available_Pok%C3%A9mon");
+			String availableRaw = APIConnection.getArticleSourcePixelmon("Available Pokémon");
 			Set<String> availableList = new HashSet<>();
 			String[] availableSplit = availableRaw.split("\\{\\{p\\|");
 			for (int i = 1; i < availableSplit.length; i++) {
@@ -644,15 +646,11 @@ public class PokemonMiner extends Miner {
 					pokemon = StringUtil.convertPokemonSpelling(pokemon);
 
 					try {
-						String[] moveLines = StringUtil.getPrevoSplit6(totalRaw);
-						if (moveLines.length > 1) {
-							for (int i = 1; i < moveLines.length; i++) {
-								String moveLine = moveLines[i];
-								String move = StringUtil.getPrevoMoveFromLine(moveLine);
-								if (eventTutorMoves.contains(move)) {
-									addTutorEntry(builder, pokemon, move);
-									System.out.println(pokemon + " " + move);
-								}
+						for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.PREVO, 6)) {
+							String move = row.move;
+							if (eventTutorMoves.contains(move)) {
+								addTutorEntry(builder, pokemon, move);
+								System.out.println(pokemon + " " + move);
 							}
 						}
 					} catch (Exception e) {
@@ -695,15 +693,11 @@ public class PokemonMiner extends Miner {
 				pokemon = StringUtil.convertPokemonSpelling(pokemon);
 
 				try {
-					String[] moveLines = StringUtil.getPrevoSplit6(totalRaw);
-					if (moveLines.length > 1) {
-						for (int i = 1; i < moveLines.length; i++) {
-							String moveLine = moveLines[i];
-							String move = StringUtil.getPrevoMoveFromLine(moveLine);
-							if (newTutorMoves.contains(move)) {
-								addTutorEntry(builder, pokemon, move);
-								System.out.println(pokemon + " " + move);
-							}
+					for (LearnsetRow row : LearnsetParser.getRows(totalRaw, Method.PREVO, 6)) {
+						String move = row.move;
+						if (newTutorMoves.contains(move)) {
+							addTutorEntry(builder, pokemon, move);
+							System.out.println(pokemon + " " + move);
 						}
 					}
 				} catch (Exception e) {
@@ -754,11 +748,11 @@ public class PokemonMiner extends Miner {
 	 * @param move The name of the move.
 	 */
 	private void addLearnMoveEntry(StringBuilder builder, String tableName, String pokemon, String move) {
-		builder.append("INSERT INTO " + tableName + " (PIXELMONID, MOVEID) VALUES (");
+		builder.append("INSERT INTO " + tableName + " (PIXELMONID, MOVEID) VALUES ");
 		Integer pokemonID = database.getPokemonIndex(pokemon);
 		Integer moveID = database.getMoveIndex(move);
-		StringUtil.addCommaSeparated(builder, true, pokemonID, moveID);
-		builder.append(");\n");
+		new SqlRowWriter(builder).begin().add(pokemonID).add(moveID).end();
+		builder.append(";\n");
 	}
 
 	/**
@@ -776,16 +770,17 @@ public class PokemonMiner extends Miner {
 		abilityMap.put("ShellArmor", abilityMap.get("ShellArmour"));
 
 		StringBuilder baseQuery = new StringBuilder();
-		baseQuery.append("INSERT INTO PIXELMON (");
-		StringUtil.addCommaSeparated(baseQuery, false, "NATIONALPOKEDEXNUMBER", "PIXELMONFULLNAME", "PIXELMONNAME",
-				"PIXELMONTYPE1ID", "PIXELMONTYPE2ID", "ABILITY1ID", "ABILITY2ID", "ABILITYHIDDENID", "EGGGROUP1ID",
-				"EGGGROUP2ID", "EGGCYCLES", "POKEDEXHEIGHT", "POKEDEXWIDTH", "POKEDEXLENGTH", "POKEDEXWEIGHT",
-				"POKEDEXDESCRIPTION", "MALEPERCENT", "CATCHRATE", "SPAWNTIMEID", "MINGROUPSIZE", "MAXGROUPSIZE",
-				"BASEEXP", "EXPERIENCEGROUP", "BASEHP", "BASEATK", "BASEDEF", "BASESPATK", "BASESPDEF", "BASESPD",
-				"EVGAINHP", "EVGAINATK", "EVGAINDEF", "EVGAINSPATK", "EVGAINSPDEF", "EVGAINSPD", "MINSPAWNLEVEL",
-				"MAXSPAWNLEVEL", "MODELSCALE", "PERCENTTIMID", "PERCENTAGRESSIVE", "ISRIDEABLE", "CANFLY", "CANSWIM",
-				"DOESHOVER", "BASEFRIENDSHIP", "FORM");
-		baseQuery.append(") VALUES \n");
+		SqlRowWriter writer = new SqlRowWriter(baseQuery);
+		baseQuery.append("INSERT INTO PIXELMON ");
+		writer.columns("NATIONALPOKEDEXNUMBER", "PIXELMONFULLNAME", "PIXELMONNAME", "PIXELMONTYPE1ID",
+				"PIXELMONTYPE2ID", "ABILITY1ID", "ABILITY2ID", "ABILITYHIDDENID", "EGGGROUP1ID", "EGGGROUP2ID",
+				"EGGCYCLES", "POKEDEXHEIGHT", "POKEDEXWIDTH", "POKEDEXLENGTH", "POKEDEXWEIGHT", "POKEDEXDESCRIPTION",
+				"MALEPERCENT", "CATCHRATE", "SPAWNTIMEID", "MINGROUPSIZE", "MAXGROUPSIZE", "BASEEXP", "EXPERIENCEGROUP",
+				"BASEHP", "BASEATK", "BASEDEF", "BASESPATK", "BASESPDEF", "BASESPD", "EVGAINHP", "EVGAINATK",
+				"EVGAINDEF", "EVGAINSPATK", "EVGAINSPDEF", "EVGAINSPD", "MINSPAWNLEVEL", "MAXSPAWNLEVEL", "MODELSCALE",
+				"PERCENTTIMID", "PERCENTAGRESSIVE", "ISRIDEABLE", "CANFLY", "CANSWIM", "DOESHOVER", "BASEFRIENDSHIP",
+				"FORM");
+		baseQuery.append(" VALUES \n");
 
 		String[] megaArray = APIConnection.getCategoryMembers("Pokémon_with_Mega_Evolutions");
 		List<String> megaList = new ArrayList<>();
@@ -798,143 +793,155 @@ public class PokemonMiner extends Miner {
 		megaList.add("Kyogre (Pokémon)");
 		int numPokemon = megaList.size();
 
-		for (int i = 0; i < numPokemon; i++) {
-			boolean secondMega = i >= origNumPokemon && i < numMega;
-			boolean primal = i >= numMega;
-			String pokemonName = megaList.get(i);
-			Pokemon pokemon = new Pokemon(pokemonName);
-			pokemon.truncateName();
-			System.out.println(pokemon.name);
-
-			String totalRaw = APIConnection.getArticleSource(pokemonName);
-			StringUtil.currentRaw = totalRaw.substring(0, totalRaw.indexOf("Biology"));
-
-			pokemon.nationalPokedexNumber = StringUtil.getTableEntryInt("ndex");
-
-			pokemon.type1 = StringUtil.getTableEntryFallback(secondMega ? "form3type1" : "form2type1", "type1");
-			pokemon.type2 = StringUtil.getTableEntryFallback(secondMega ? "form3type2" : "form2type2", "type2");
-			pokemon.ability1 = StringUtil.removeSpaces(
-					StringUtil.getTableEntryFallback(secondMega ? "abilitym2" : "abilitym", "ability2-1", "ability1"));
-			pokemon.ability2 = null;
-			pokemon.abilityHidden = null;
-			pokemon.eggGroup1 = StringUtil.removeSpaces(StringUtil.getTableEntry("egggroup1"));
-			pokemon.eggGroup2 = StringUtil.removeSpaces(StringUtil.getTableEntry("egggroup2"));
-			pokemon.eggCycles = StringUtil.getTableEntryInt("eggcycles");
-			pokemon.height = StringUtil.getTableEntryFloat(secondMega ? "height-m3" : "height-m2");
-			pokemon.weight = StringUtil.getTableEntryFloat(secondMega ? "weight-kg3" : "weight-kg2");
-
-			int genderCode = StringUtil.getTableEntryInt("gendercode");
-			switch (genderCode) {
-			case 256:
-			case 255:
-				pokemon.genderRatio = -1;
-				break;
-			case 254:
-				pokemon.genderRatio = 0;
-				break;
-			case 223:
-				pokemon.genderRatio = 12;
-				break;
-			case 191:
-				pokemon.genderRatio = 25;
-				break;
-			case 127:
-				pokemon.genderRatio = 50;
-				break;
-			case 63:
-				pokemon.genderRatio = 75;
-				break;
-			case 31:
-				pokemon.genderRatio = 87;
-				break;
-			case 0:
-				pokemon.genderRatio = 100;
-				break;
-			}
-
-			pokemon.catchRate = StringUtil.getTableEntryInt("catchrate");
-			try {
-				pokemon.expYield = StringUtil.getTableEntryInt("expyield");
-			} catch (NumberFormatException e) {
-				String expYieldString = StringUtil.getTableEntry("expyield");
-				expYieldString = StringUtil.getSubstringBetween(expYieldString, "--", "in");
-				expYieldString = expYieldString.trim();
-				pokemon.expYield = Integer.parseInt(expYieldString);
-			}
-
-			int maxExp = StringUtil.getTableEntryInt("lv100exp");
-			switch (maxExp) {
-			case 600000:
-				pokemon.expGroup = "Erratic";
-				break;
-			case 800000:
-				pokemon.expGroup = "Fast";
-				break;
-			case 1000000:
-				pokemon.expGroup = "MediumFast";
-				break;
-			case 1059860:
-				pokemon.expGroup = "MediumSlow";
-				break;
-			case 1250000:
-				pokemon.expGroup = "Slow";
-				break;
-			case 1640000:
-				pokemon.expGroup = "Fluctuating";
-				break;
-			}
-
-			pokemon.evHP = StringUtil.getTableEntryInt("evhp");
-			pokemon.evAtk = StringUtil.getTableEntryInt("evat");
-			pokemon.evDef = StringUtil.getTableEntryInt("evde");
-			pokemon.evSpAtk = StringUtil.getTableEntryInt("evsa");
-			pokemon.evSpDef = StringUtil.getTableEntryInt("evsd");
-			pokemon.evSpd = StringUtil.getTableEntryInt("evsp");
-
-			StringUtil.currentRaw = StringUtil.getSubstringBetween(totalRaw, "==Base stats", "ness=");
-			if (secondMega) {
-				StringUtil.currentRaw = StringUtil.getSubstringBetween(StringUtil.currentRaw, "==Mega", "effective");
-				StringUtil.currentRaw = StringUtil.getSubstringBetween(StringUtil.currentRaw, "===Mega", "=Type ");
-			} else {
-				StringUtil.currentRaw = StringUtil.getSubstringBetween(StringUtil.currentRaw,
-						primal ? "==Primal" : "==Mega", "=Type effective");
-			}
-			pokemon.baseHP = StringUtil.getTableEntryInt("HP");
-			pokemon.baseAtk = StringUtil.getTableEntryInt("Attack");
-			pokemon.baseDef = StringUtil.getTableEntryInt("Defense");
-			pokemon.baseSpAtk = StringUtil.getTableEntryInt("SpAtk");
-			pokemon.baseSpDef = StringUtil.getTableEntryInt("SpDef");
-			pokemon.baseSpd = StringUtil.getTableEntryInt("Speed");
+		Pipeline.run(megaList, APIConnection::getArticleSource,
+				(i, pokemonName, totalRaw) -> parseMega(pokemonName, totalRaw, i >= origNumPokemon && i < numMega,
+						i >= numMega),
+				(i, pokemon) -> {
+					writer.begin();
+
+					int form = i >= origNumPokemon && i < numMega ? 2 : 1;
+
+					try (Database.Query query = database.prepare("megaData", MEGA_DATA_QUERY).bind(pokemon.name)
+							.execute()) {
+						ResultSet result = query.getResult();
+						result.next();
+						writer.add(pokemon.nationalPokedexNumber).add(pokemon.name)
+								.add(pokemon.name).add(typeMap.get(pokemon.type1)).add(typeMap.get(pokemon.type2))
+								.add(abilityMap.get(pokemon.ability1)).add(abilityMap.get(pokemon.ability2))
+								.add(abilityMap.get(pokemon.abilityHidden)).add(eggGroupMap.get(pokemon.eggGroup1))
+								.add(eggGroupMap.get(pokemon.eggGroup2)).add(pokemon.eggCycles).add(pokemon.height)
+								.add(pokemon.height).add(pokemon.height).add(pokemon.weight).add("")
+								.add(pokemon.genderRatio).add(pokemon.catchRate).add(result.getInt("SPAWNTIMEID"))
+								.add(1).add(1).add(pokemon.expYield).add(pokemon.expGroup).add(pokemon.baseHP)
+								.add(pokemon.baseAtk).add(pokemon.baseDef).add(pokemon.baseSpAtk).add(pokemon.baseSpDef)
+								.add(pokemon.baseSpd).add(pokemon.evHP).add(pokemon.evAtk).add(pokemon.evDef)
+								.add(pokemon.evSpAtk).add(pokemon.evSpDef).add(pokemon.evSpd).add(1).add(100).add(1.0)
+								.add(result.getInt("PERCENTTIMID")).add(result.getInt("PERCENTAGRESSIVE"))
+								.add(result.getBoolean("ISRIDEABLE")).add(result.getBoolean("CANFLY"))
+								.add(result.getBoolean("CANSWIM")).add(result.getBoolean("DOESHOVER"))
+								.add(pokemon.baseFriendship).add(form);
+					} catch (SQLException e) {
+						e.printStackTrace();
+					}
+					writer.end();
+					baseQuery.append(i < numPokemon - 1 ? ",\n" : ";\n");
+				});
 
-			pokemon.baseFriendship = StringUtil.getTableEntryInt("Friendship");
+		return baseQuery.toString();
+	}
 
-			baseQuery.append("(");
+	/**
+	 * Parses the Mega Evolution or Primal Reversion data in a Pokémon article.
+	 * @param pokemonName The name of the Pokémon article.
+	 * @param totalRaw The source of the Pokémon article.
+	 * @param secondMega Whether to parse the Pokémon's second Mega Evolution.
+	 * @param primal Whether to parse the Pokémon's Primal Reversion.
+	 * @return The parsed Pokémon.
+	 */
+	private Pokemon parseMega(String pokemonName, String totalRaw, boolean secondMega, boolean primal) {
+		Pokemon pokemon = new Pokemon(pokemonName);
+		pokemon.truncateName();
+		System.out.println(pokemon.name);
+
+		ParseContext context = new ParseContext(totalRaw.substring(0, totalRaw.indexOf("Biology")));
+
+		pokemon.nationalPokedexNumber = context.getTableEntryInt("ndex");
+
+		pokemon.type1 = context.getTableEntryFallback(secondMega ? "form3type1" : "form2type1", "type1");
+		pokemon.type2 = context.getTableEntryFallback(secondMega ? "form3type2" : "form2type2", "type2");
+		pokemon.ability1 = StringUtil.removeSpaces(
+				context.getTableEntryFallback(secondMega ? "abilitym2" : "abilitym", "ability2-1", "ability1"));
+		pokemon.ability2 = null;
+		pokemon.abilityHidden = null;
+		pokemon.eggGroup1 = StringUtil.removeSpaces(context.getTableEntry("egggroup1"));
+		pokemon.eggGroup2 = StringUtil.removeSpaces(context.getTableEntry("egggroup2"));
+		pokemon.eggCycles = context.getTableEntryInt("eggcycles");
+		pokemon.height = context.getTableEntryFloat(secondMega ? "height-m3" : "height-m2");
+		pokemon.weight = context.getTableEntryFloat(secondMega ? "weight-kg3" : "weight-kg2");
+
+		int genderCode = context.getTableEntryInt("gendercode");
+		switch (genderCode) {
+		case 256:
+		case 255:
+			pokemon.genderRatio = -1;
+			break;
+		case 254:
+			pokemon.genderRatio = 0;
+			break;
+		case 223:
+			pokemon.genderRatio = 12;
+			break;
+		case 191:
+			pokemon.genderRatio = 25;
+			break;
+		case 127:
+			pokemon.genderRatio = 50;
+			break;
+		case 63:
+			pokemon.genderRatio = 75;
+			break;
+		case 31:
+			pokemon.genderRatio = 87;
+			break;
+		case 0:
+			pokemon.genderRatio = 100;
+			break;
+		}
 
-			int form = secondMega ? 2 : 1;
+		pokemon.catchRate = context.getTableEntryInt("catchrate");
+		try {
+			pokemon.expYield = context.getTableEntryInt("expyield");
+		} catch (NumberFormatException e) {
+			String expYieldString = context.getTableEntry("expyield");
+			expYieldString = StringUtil.getSubstringBetween(expYieldString, "--", "in");
+			expYieldString = expYieldString.trim();
+			pokemon.expYield = Integer.parseInt(expYieldString);
+		}
 
-			ResultSet result = database.executeQuery(
-					"SELECT SPAWNTIMEID, PERCENTTIMID, PERCENTAGRESSIVE, ISRIDEABLE, CANFLY, CANSWIM, DOESHOVER FROM PIXELMON WHERE PIXELMONNAME = '"
-							+ pokemon.name + "'");
-			try {
-				result.next();
-				StringUtil.addCommaSeparated(baseQuery, true, pokemon.nationalPokedexNumber, pokemon.name, pokemon.name,
-						typeMap.get(pokemon.type1), typeMap.get(pokemon.type2), abilityMap.get(pokemon.ability1),
-						abilityMap.get(pokemon.ability2), abilityMap.get(pokemon.abilityHidden),
-						eggGroupMap.get(pokemon.eggGroup1), eggGroupMap.get(pokemon.eggGroup2), pokemon.eggCycles,
-						pokemon.height, pokemon.height, pokemon.height, pokemon.weight, "", pokemon.genderRatio,
-						pokemon.catchRate, result.getInt("SPAWNTIMEID"), 1, 1, pokemon.expYield, pokemon.expGroup,
-						pokemon.baseHP, pokemon.baseAtk, pokemon.baseDef, pokemon.baseSpAtk, pokemon.baseSpDef,
-						pokemon.baseSpd, pokemon.evHP, pokemon.evAtk, pokemon.evDef, pokemon.evSpAtk, pokemon.evSpDef,
-						pokemon.evSpd, 1, 100, 1.0, result.getInt("PERCENTTIMID"), result.getInt("PERCENTAGRESSIVE"),
-						result.getBoolean("ISRIDEABLE"), result.getBoolean("CANFLY"), result.getBoolean("CANSWIM"),
-						result.getBoolean("DOESHOVER"), pokemon.baseFriendship, form);
-			} catch (SQLException e) {
-				e.printStackTrace();
-			}
-			baseQuery.append(")");
-			baseQuery.append(i < numPokemon - 1 ? ",\n" : ";\n");
+		int maxExp = context.getTableEntryInt("lv100exp");
+		switch (maxExp) {
+		case 600000:
+			pokemon.expGroup = "Erratic";
+			break;
+		case 800000:
+			pokemon.expGroup = "Fast";
+			break;
+		case 1000000:
+			pokemon.expGroup = "MediumFast";
+			break;
+		case 1059860:
+			pokemon.expGroup = "MediumSlow";
+			break;
+		case 1250000:
+			pokemon.expGroup = "Slow";
+			break;
+		case 1640000:
+			pokemon.expGroup = "Fluctuating";
+			break;
 		}
 
-		return baseQuery.toString();
+		pokemon.evHP = context.getTableEntryInt("evhp");
+		pokemon.evAtk = context.getTableEntryInt("evat");
+		pokemon.evDef = context.getTableEntryInt("evde");
+		pokemon.evSpAtk = context.getTableEntryInt("evsa");
+		pokemon.evSpDef = context.getTableEntryInt("evsd");
+		pokemon.evSpd = context.getTableEntryInt("evsp");
+
+		context.setRaw(StringUtil.getSubstringBetween(totalRaw, "==Base stats", "ness="));
+		if (secondMega) {
+			context.narrow("==Mega", "effective");
+			context.narrow("===Mega", "=Type ");
+		} else {
+			context.narrow(primal ? "==Primal" : "==Mega", "=Type effective");
+		}
+		pokemon.baseHP = context.getTableEntryInt("HP");
+		pokemon.baseAtk = context.getTableEntryInt("Attack");
+		pokemon.baseDef = context.getTableEntryInt("Defense");
+		pokemon.baseSpAtk = context.getTableEntryInt("SpAtk");
+		pokemon.baseSpDef = context.getTableEntryInt("SpDef");
+		pokemon.baseSpd = context.getTableEntryInt("Speed");
+
+		pokemon.baseFriendship = context.getTableEntryInt("Friendship");
+		return pokemon;
 	}
 }
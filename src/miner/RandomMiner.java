@@ -7,8 +7,13 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import miner.storage.LearnsetRow;
+import miner.storage.LearnsetRow.Method;
 import miner.storage.Pokemon;
 import util.APIConnection;
+import util.LearnsetParser;
+import util.ParseContext;
+import util.SqlRowWriter;
 import util.StringUtil;
 
 /**
@@ -22,6 +27,7 @@ public class RandomMiner extends Miner {
 	 */
 	public String getNewForms() {
 		builder = new StringBuilder();
+		SqlRowWriter writer = new SqlRowWriter(builder);
 
 		int[] castformForms = new int[] { 722, 723, 724 };
 		String query = "SELECT LEARNLEVEL, MOVEID FROM PIXELMONLEVELSKILLS WHERE PIXELMONID = 446";
@@ -31,9 +37,9 @@ public class RandomMiner extends Miner {
 				int learnLevel = result.getInt("LEARNLEVEL");
 				int moveID = result.getInt("MOVEID");
 				for (int castformForm : castformForms) {
-					builder.append("INSERT INTO PIXELMONLEVELSKILLS (PIXELMONID, LEARNLEVEL, MOVEID) values (");
-					StringUtil.addCommaSeparated(builder, true, castformForm, learnLevel, moveID);
-					builder.append(");\n");
+					builder.append("INSERT INTO PIXELMONLEVELSKILLS (PIXELMONID, LEARNLEVEL, MOVEID) values ");
+					writer.begin().add(castformForm).add(learnLevel).add(moveID).end();
+					builder.append(";\n");
 				}
 			}
 			String[] moveTables = new String[] { "PIXELMONTMHMSKILLS", "PIXELMONTUTORSKILLS", "PIXELMONEGGSKILLS" };
@@ -45,9 +51,9 @@ public class RandomMiner extends Miner {
 					for (int castformForm : castformForms) {
 						builder.append("INSERT INTO ");
 						builder.append(moveTable);
-						builder.append(" (PIXELMONID, MOVEID) values (");
-						StringUtil.addCommaSeparated(builder, true, castformForm, moveID);
-						builder.append(");\n");
+						builder.append(" (PIXELMONID, MOVEID) values ");
+						writer.begin().add(castformForm).add(moveID).end();
+						builder.append(";\n");
 					}
 				}
 			}
@@ -97,45 +103,35 @@ public class RandomMiner extends Miner {
 					pokemon.evDef = pokemon.evSpDef = 0;
 					break;
 				}
-				builder.append("INSERT INTO PIXELMON (");
-				StringUtil.addCommaSeparated(builder, false, "NATIONALPOKEDEXNUMBER", "PIXELMONFULLNAME",
-						"PIXELMONNAME", "PIXELMONTYPE1ID", "PIXELMONTYPE2ID", "ABILITY1ID", "ABILITY2ID",
-						"ABILITYHIDDENID", "EGGGROUP1ID", "EGGGROUP2ID", "EGGCYCLES", "POKEDEXHEIGHT", "POKEDEXWIDTH",
-						"POKEDEXLENGTH", "POKEDEXWEIGHT", "POKEDEXDESCRIPTION", "MALEPERCENT", "CATCHRATE",
-						"SPAWNTIMEID", "MINGROUPSIZE", "MAXGROUPSIZE", "BASEEXP", "EXPERIENCEGROUP", "BASEHP",
-						"BASEATK", "BASEDEF", "BASESPATK", "BASESPDEF", "BASESPD", "EVGAINHP", "EVGAINATK", "EVGAINDEF",
-						"EVGAINSPATK", "EVGAINSPDEF", "EVGAINSPD", "MINSPAWNLEVEL", "MAXSPAWNLEVEL", "MODELSCALE",
-						"PERCENTTIMID", "PERCENTAGRESSIVE", "ISRIDEABLE", "CANFLY", "CANSWIM", "DOESHOVER",
-						"BASEFRIENDSHIP", "FORM");
-				builder.append(") VALUES (");
-				StringUtil.addCommaSeparated(builder, true, pokemon.nationalPokedexNumber, pokemon.name, pokemon.name,
-						pokemon.type1, pokemon.type2, pokemon.ability1, pokemon.ability2, pokemon.abilityHidden,
-						pokemon.eggGroup1ID, pokemon.eggGroup2, pokemon.eggCycles, pokemon.height, pokemon.height,
-						pokemon.height, pokemon.weight, "", pokemon.genderRatio, pokemon.catchRate, 2, 1, 1,
-						pokemon.expYield, pokemon.expGroup, pokemon.baseHP, pokemon.baseAtk, pokemon.baseDef,
-						pokemon.baseSpAtk, pokemon.baseSpAtk, pokemon.baseSpd, pokemon.evHP, pokemon.evAtk,
-						pokemon.evDef, pokemon.evSpAtk, pokemon.evSpDef, pokemon.evSpd, 70, 70, 1.0, 80, 20, false,
-						false, false, false, pokemon.baseFriendship, i + 1);
-				builder.append(");\n");
+				builder.append("INSERT INTO PIXELMON ");
+				writer.columns("NATIONALPOKEDEXNUMBER", "PIXELMONFULLNAME", "PIXELMONNAME", "PIXELMONTYPE1ID",
+						"PIXELMONTYPE2ID", "ABILITY1ID", "ABILITY2ID", "ABILITYHIDDENID", "EGGGROUP1ID", "EGGGROUP2ID",
+						"EGGCYCLES", "POKEDEXHEIGHT", "POKEDEXWIDTH", "POKEDEXLENGTH", "POKEDEXWEIGHT",
+						"POKEDEXDESCRIPTION", "MALEPERCENT", "CATCHRATE", "SPAWNTIMEID", "MINGROUPSIZE", "MAXGROUPSIZE",
+						"BASEEXP", "EXPERIENCEGROUP", "BASEHP", "BASEATK", "BASEDEF", "BASESPATK", "BASESPDEF",
+						"BASESPD", "EVGAINHP", "EVGAINATK", "EVGAINDEF", "EVGAINSPATK", "EVGAINSPDEF", "EVGAINSPD",
+						"MINSPAWNLEVEL", "MAXSPAWNLEVEL", "MODELSCALE", "PERCENTTIMID", "PERCENTAGRESSIVE",
+						"ISRIDEABLE", "CANFLY", "CANSWIM", "DOESHOVER", "BASEFRIENDSHIP", "FORM");
+				builder.append(" VALUES ");
+				writer.begin().add(pokemon.nationalPokedexNumber).add(pokemon.name).add(pokemon.name)
+						.add(pokemon.type1).add(pokemon.type2).add(pokemon.ability1).add(pokemon.ability2)
+						.add(pokemon.abilityHidden).add(pokemon.eggGroup1ID).add(pokemon.eggGroup2)
+						.add(pokemon.eggCycles).add(pokemon.height).add(pokemon.height).add(pokemon.height)
+						.add(pokemon.weight).add("").add(pokemon.genderRatio).add(pokemon.catchRate).add(2).add(1)
+						.add(1).add(pokemon.expYield).add(pokemon.expGroup).add(pokemon.baseHP).add(pokemon.baseAtk)
+						.add(pokemon.baseDef).add(pokemon.baseSpAtk).add(pokemon.baseSpAtk).add(pokemon.baseSpd)
+						.add(pokemon.evHP).add(pokemon.evAtk).add(pokemon.evDef).add(pokemon.evSpAtk)
+						.add(pokemon.evSpDef).add(pokemon.evSpd).add(70).add(70).add(1.0).add(80).add(20).add(false)
+						.add(false).add(false).add(false).add(pokemon.baseFriendship).add(i + 1).end();
+				builder.append(";\n");
 			}
 
 			for (int i = 0; i < deoxysFormIDs.length; i++) {
-				String currentRaw = StringUtil.getSubstringBetween(totalRaw, deoxysForms[i + 1], "levelf");
-				String[] moveSplit = currentRaw.split("levelVI\\|");
-				for (int j = 1; j < moveSplit.length; j++) {
-					String moveRow = moveSplit[j];
-					int pipeIndex1 = moveRow.indexOf('|');
-					int pipeIndex2 = moveRow.indexOf('|', pipeIndex1 + 1);
-					int pipeIndex3 = moveRow.indexOf('|', pipeIndex2 + 1);
-
-					int level;
-					try {
-						level = Integer.parseInt(moveRow.substring(pipeIndex1 + 1, pipeIndex2));
-					} catch (NumberFormatException e) {
-						continue;
+				String currentRaw = StringUtil.getSubstringBetween(totalRaw, deoxysForms[i + 1], null);
+				for (LearnsetRow row : LearnsetParser.getRows(currentRaw, Method.LEVEL, 6)) {
+					if (row.level >= 0) {
+						addLevelUpEntry(builder, deoxysFormIDs[i], row.move, row.level);
 					}
-					String move = moveRow.substring(pipeIndex2 + 1, pipeIndex3);
-					addLevelUpEntry(builder, deoxysFormIDs[i], move, level);
 				}
 			}
 
@@ -144,9 +140,9 @@ public class RandomMiner extends Miner {
 			while (result.next()) {
 				int moveID = result.getInt("MOVEID");
 				for (Integer deoxysForm : deoxysFormIDs) {
-					builder.append("INSERT INTO PIXELMONTMHMSKILLS (PIXELMONID, MOVEID) VALUES (");
-					StringUtil.addCommaSeparated(builder, true, deoxysForm, moveID);
-					builder.append(");\n");
+					builder.append("INSERT INTO PIXELMONTMHMSKILLS (PIXELMONID, MOVEID) VALUES ");
+					writer.begin().add(deoxysForm).add(moveID).end();
+					builder.append(";\n");
 				}
 			}
 
@@ -157,13 +153,8 @@ public class RandomMiner extends Miner {
 			String tutorRaw = totalRaw.substring(totalRaw.indexOf("Move Tutor"));
 			for (int i = 0; i < deoxysForms.length; i++) {
 				String currentRaw = tutorRaw.substring(tutorRaw.indexOf(deoxysForms[i]));
-				String[] moveSplit = StringUtil.getTutorSplit6(currentRaw);
-				if (moveSplit.length == 1) {
-					continue;
-				}
-				for (int j = 1; j < moveSplit.length; j++) {
-					String line = moveSplit[j];
-					String move = StringUtil.getTutorMoveFromLine(line);
+				for (LearnsetRow row : LearnsetParser.getRows(currentRaw, Method.TUTOR, 6)) {
+					String move = row.move;
 					if (tmMoves.contains(move)) {
 						continue;
 					}
@@ -203,10 +194,10 @@ public class RandomMiner extends Miner {
 			System.out.println(pokemon.name);
 			
 			String totalRaw = APIConnection.getArticleSource(pokemonName);
-			StringUtil.currentRaw = totalRaw.substring(0, totalRaw.indexOf("Biology"));
-			pokemon.evSpAtk = StringUtil.getTableEntryInt("evsa");
-			StringUtil.currentRaw = StringUtil.getSubstringBetween(totalRaw, "=Base stats=", "=Type effectiveness=");
-			pokemon.baseSpDef = StringUtil.getTableEntryInt("SpDef");
+			ParseContext context = new ParseContext(totalRaw.substring(0, totalRaw.indexOf("Biology")));
+			pokemon.evSpAtk = context.getTableEntryInt("evsa");
+			context.setRaw(StringUtil.getSubstringBetween(totalRaw, "=Base stats=", "=Type effectiveness="));
+			pokemon.baseSpDef = context.getTableEntryInt("SpDef");
 			
 			builder.append("UPDATE PIXELMON SET EVGAINSPATK=");
 			builder.append(pokemon.evSpAtk);
@@ -236,9 +227,9 @@ public class RandomMiner extends Miner {
 			System.out.println(pokemon.name);
 			
 			String totalRaw = APIConnection.getArticleSource(pokemonName);
-			StringUtil.currentRaw = totalRaw.substring(0, totalRaw.indexOf("Biology"));
-			pokemon.eggGroup1 = StringUtil.getTableEntry("egggroup1");
-			pokemon.eggGroup2 = StringUtil.getTableEntry("egggroup2");
+			ParseContext context = new ParseContext(totalRaw.substring(0, totalRaw.indexOf("Biology")));
+			pokemon.eggGroup1 = context.getTableEntry("egggroup1");
+			pokemon.eggGroup2 = context.getTableEntry("egggroup2");
 			if (pokemon.eggGroup1.contains(" ")) {
 				pokemon.eggGroup1 = StringUtil.removeSpaces(pokemon.eggGroup1);
 				Integer eggGroupID = eggGroupMap.get(pokemon.eggGroup1);
@@ -278,13 +269,13 @@ public class RandomMiner extends Miner {
 	 * @param level The level that the move is learned at.
 	 */
 	private void addLevelUpEntry(StringBuilder builder, int pokemonID, String move, int level) {
-		builder.append("INSERT INTO PIXELMONLEVELSKILLS (PIXELMONID, LEARNLEVEL, MOVEID) VALUES (");
+		builder.append("INSERT INTO PIXELMONLEVELSKILLS (PIXELMONID, LEARNLEVEL, MOVEID) VALUES ");
 		Integer moveID = database.getMoveIndex(move);
 		if (level == 1) {
 			level = 0;
 		}
-		StringUtil.addCommaSeparated(builder, true, pokemonID, level, moveID);
-		builder.append(");\n");
+		new SqlRowWriter(builder).begin().add(pokemonID).add(level).add(moveID).end();
+		builder.append(";\n");
 	}
 
 	/**
@@ -304,9 +295,9 @@ public class RandomMiner extends Miner {
 	 * @param move The name of the move.
 	 */
 	private void addLearnMoveEntry(StringBuilder builder, String tableName, int pokemonID, String move) {
-		builder.append("INSERT INTO " + tableName + " (PIXELMONID, MOVEID) VALUES (");
+		builder.append("INSERT INTO " + tableName + " (PIXELMONID, MOVEID) VALUES ");
 		Integer moveID = database.getMoveIndex(move);
-		StringUtil.addCommaSeparated(builder, true, pokemonID, moveID);
-		builder.append(");\n");
+		new SqlRowWriter(builder).begin().add(pokemonID).add(moveID).end();
+		builder.append(";\n");
 	}
 }
@@ -3,22 +3,24 @@ package miner.storage;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import database.Database;
 import pixelmon.EnumPokemon;
+import util.StringIntMap;
 
 /**
  * Holds information about Pokédex numbers of available Pokémon.
  */
 public class DexNumberContainer {
 
-	/** Maps Pokédex numbers to Pokémon. */
-	private Map<Integer, Pokemon> dexMap;
+	/** Gets the Pokédex number of every Pokémon in the database. */
+	private static final String DEX_NUMBER_QUERY = "SELECT PIXELMONNAME, NATIONALPOKEDEXNUMBER FROM PIXELMON";
+
+	/** Pokémon indexed by Pokédex number. Numbers without an available Pokémon are null. */
+	private Pokemon[] dexArray;
 	/** Maps Pokémon names to Pokédex numbers. */
-	private Map<String, Integer> nameMap;
+	private StringIntMap nameMap;
 	/** A list of available Pokémon. */
 	public List<Pokemon> dexList;
 	
@@ -26,31 +28,37 @@ public class DexNumberContainer {
 	 * Initializes the container.
 	 */
 	public DexNumberContainer() {
-		dexMap = new HashMap<>();
-		nameMap = new HashMap<>();
-		dexList = new ArrayList<>();
-		Database database = Database.getDatabase();
-		
-		for (EnumPokemon pokemon : EnumPokemon.values()) {
-			String name = pokemon.name.toLowerCase();
-			int dexNumber = 0;
-			ResultSet result = database.executeQuery("SELECT NATIONALPOKEDEXNUMBER FROM PIXELMON WHERE PIXELMONNAME = '" + name + "'");
-			try {
-				if (result.next()) {
-					dexNumber = result.getInt(1);
+		StringIntMap databaseNumbers = new StringIntMap(EnumPokemon.values().length);
+		try (Database.Query query = Database.getDatabase().query(DEX_NUMBER_QUERY)) {
+			ResultSet result = query.getResult();
+			while (result.next()) {
+				String name = result.getString(1);
+				if (name != null && !databaseNumbers.containsKey(name.toLowerCase())) {
+					databaseNumbers.put(name.toLowerCase(), result.getInt(2));
 				}
-				result.close();
-			} catch (SQLException e) {
-				e.printStackTrace();
 			}
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+
+		EnumPokemon[] allPokemon = EnumPokemon.values();
+		nameMap = new StringIntMap(allPokemon.length);
+		dexList = new ArrayList<>(allPokemon.length);
+		int maxDexNumber = 0;
+		for (EnumPokemon pokemon : allPokemon) {
+			int dexNumber = databaseNumbers.get(pokemon.name.toLowerCase(), 0);
 			if (dexNumber > 0) {
 				Pokemon newPokemon = new Pokemon(pokemon.name);
-				dexMap.put(dexNumber, newPokemon);
 				nameMap.put(pokemon.name, dexNumber);
 				newPokemon.nationalPokedexNumber = dexNumber;
 				dexList.add(newPokemon);
+				maxDexNumber = Math.max(maxDexNumber, dexNumber);
 			}
 		}
+		dexArray = new Pokemon[maxDexNumber + 1];
+		for (Pokemon pokemon : dexList) {
+			dexArray[pokemon.nationalPokedexNumber] = pokemon;
+		}
 		dexList.sort(new DexNumberComparator());
 		for (int i = 0; i < dexList.size(); i++) {
 			dexList.get(i).listIndex = i;
@@ -91,7 +99,8 @@ public class DexNumberContainer {
 	 * @return The Pokémon object with the given name.
 	 */
 	public Pokemon getPokemonFromName(String name) {
-		return dexMap.get(nameMap.get(name)); 
+		int dexNumber = nameMap.get(name, -1);
+		return dexNumber == -1 ? null : dexArray[dexNumber];
 	}
 	
 	/**
@@ -100,12 +109,11 @@ public class DexNumberContainer {
 	 * @return The Pokémon's Pokédex number.
 	 */
 	public int getDexNumber(String pokemon) {
-		if (nameMap.containsKey(pokemon)) {
-			return nameMap.get(pokemon);
-		} else {
+		int dexNumber = nameMap.get(pokemon, -1);
+		if (dexNumber == -1) {
 			System.out.println(pokemon + " not found.");
-			return -1;
 		}
+		return dexNumber;
 	}
 	
 	/**
@@ -114,7 +122,7 @@ public class DexNumberContainer {
 	 * @return The Pokémon corresponding to the Pokédex number.
 	 */
 	public Pokemon getPokemonFromNumber(int dexNumber) {
-		return dexMap.get(dexNumber);
+		return hasDexNumber(dexNumber) ? dexArray[dexNumber] : null;
 	}
 	
 	/**
@@ -123,6 +131,6 @@ public class DexNumberContainer {
 	 * @return Whether the Pokédex number corresponds to an available Pokémon.
 	 */
 	public boolean hasDexNumber(int dexNumber) {
-		return dexMap.containsKey(dexNumber);
+		return dexNumber >= 0 && dexNumber < dexArray.length && dexArray[dexNumber] != null;
 	}
 }
@@ -0,0 +1,40 @@
+package miner.storage;
+
+/**
+ * A row in one of the move tables on a Pokémon's learnset page.
+ */
+public class LearnsetRow {
+
+	/**
+	 * The ways that a Pokémon can learn a move, named after their learnlist templates.
+	 */
+	public enum Method {
+		LEVEL("level"), TM("tm"), TUTOR("tutor"), BREED("breed"), PREVO("prevo"), EVENT("event");
+
+		/** The name of the method in learnlist templates. */
+		public final String templateName;
+
+		/**
+		 * Initializes a method.
+		 * @param templateName The name of the method in learnlist templates.
+		 */
+		private Method(String templateName) {
+			this.templateName = templateName;
+		}
+	}
+
+	/** The way the move is learned. */
+	public Method method;
+	/** The generation of the table the row is in, or 0 if the table doesn't specify one. */
+	public int generation;
+	/** The level the move is learned at, or -1 if the move isn't learned at a specific level. */
+	public int level = -1;
+	/** The TM or HM that teaches the move, or null if the move isn't learned from a TM. */
+	public String tmNumber;
+	/** The name of the move. */
+	public String move;
+	/** The number of tables with the same method that come before this row's table on the page. */
+	public int table;
+	/** The heading that the table is under, or null if the table isn't under a heading. */
+	public String form;
+}
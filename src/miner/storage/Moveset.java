@@ -1,7 +1,5 @@
 package miner.storage;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -10,6 +8,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import database.Database;
+import database.PixelmonSnapshot;
 import util.StringUtil;
 
 /**
@@ -66,46 +65,23 @@ public class Moveset implements Comparable<Moveset> {
 		natures = getSortedStringList(set, "nature");
 		heldItems = getStringList(set, "heldItem");
 		
-		try {
-			StringBuilder query = new StringBuilder();
-			query.append("SELECT ");
-			StringUtil.addCommaSeparated(query, false, "b.NAME AS ABILITY1NAME", "c.NAME AS ABILITY2NAME",
-			"d.NAME AS ABILITYHIDDENNAME", "e.NAME AS PIXELMONTYPE1NAME",
-			"f.NAME AS PIXELMONTYPE2NAME");
-			query.append(" FROM PIXELMON a ");
-			query.append("LEFT JOIN ABILITIES b ON a.ABILITY1ID = b.ABILITYID ");
-			query.append("LEFT JOIN ABILITIES c ON a.ABILITY2ID = c.ABILITYID ");
-			query.append("LEFT JOIN ABILITIES d ON a.ABILITYHIDDENID = d.ABILITYID ");
-			query.append("LEFT JOIN TYPES e ON a.PIXELMONTYPE1ID = e.TYPEID ");
-			query.append("LEFT JOIN TYPES f ON a.PIXELMONTYPE2ID = f.TYPEID ");
-			query.append("WHERE a.PIXELMONNAME = '");
-			query.append(unlocalizedName);
-			query.append("'");
-			if (form != -1) {
-				query.append(" AND FORM = ");
-				query.append(form);
+		PixelmonSnapshot snapshot = Database.getDatabase().getSnapshot();
+		int row = snapshot.getRow(unlocalizedName, form);
+		if (row != -1) {
+			types.add(snapshot.getType1(row));
+			String type2 = snapshot.getType2(row);
+			if (type2 != null) {
+				types.add(type2);
 			}
-			ResultSet result = Database.getDatabase().executeQuery(query);
-			
-			if (result.next()) {
-				types.add(result.getString("PIXELMONTYPE1NAME"));
-				String type2 = result.getString("PIXELMONTYPE2NAME");
-				if (type2 != null) {
-					types.add(type2);
-				}
-	
-				if (abilities.isEmpty()) {
-					String[] abilityRows = new String[] { "ABILITY1NAME", "ABILITY2NAME", "ABILITYHIDDENNAME" };
-					for (String row : abilityRows) {
-						String ability = result.getString(row);
-						if (ability != null) {
-							abilities.add(ability);
-						}
+
+			if (abilities.isEmpty()) {
+				for (String ability : new String[] { snapshot.getAbility1(row), snapshot.getAbility2(row),
+						snapshot.getHiddenAbility(row) }) {
+					if (ability != null) {
+						abilities.add(ability);
 					}
 				}
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
 		}
 		for (int i = 0; i < abilities.size(); i++) {
 			String ability = StringUtil.translateAbility(abilities.get(i));
@@ -1,19 +1,20 @@
 package miner.wiki;
 
 import java.io.File;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
+import database.PixelmonSnapshot;
 import miner.Miner;
 import miner.storage.DexNumberContainer;
 import miner.storage.Move;
 import miner.storage.Pokemon;
 import pixelmon.EnumPokemon;
 import util.APIConnection;
+import util.ParseContext;
 import util.StringUtil;
 
 /**
@@ -248,9 +249,8 @@ public class ListMiner extends Miner {
 				currentNumber = pokemon.nationalPokedexNumber;
 				if (currentNumber <= generationEnd[i]) {
 					String translatedName = pokemon.getTranslatedName();
-					StringUtil.currentRaw = APIConnection.getArticleSourcePixelmon(translatedName);
-					totalRaw = StringUtil.currentRaw;
-					String imageName = StringUtil.getTableEntry("shinyimage");
+					totalRaw = APIConnection.getArticleSourcePixelmon(translatedName);
+					String imageName = new ParseContext(totalRaw).getTableEntry("shinyimage");
 					if (imageName == null) {
 						imageName = translatedName + "S.png";
 					}
@@ -294,39 +294,30 @@ public class ListMiner extends Miner {
 		builder.append("! style=\"text-align:center;width:90px\"| Total");
 
 		DexNumberContainer dexContainer = database.getDexContainer();
-		String query = "SELECT NATIONALPOKEDEXNUMBER, PIXELMONNAME, FORM, EVGAINHP, EVGAINATK, EVGAINDEF, EVGAINSPATK, EVGAINSPDEF, EVGAINSPD FROM PIXELMON"
-				+ " ORDER BY NATIONALPOKEDEXNUMBER, FORM";
-		ResultSet result = database.executeQuery(query);
-		String[] evs = { "HP", "ATK", "DEF", "SPATK", "SPDEF", "SPD" };
-		try {
-			Set<String> usedNames = new HashSet<>();
-			while (result.next()) {
-				int dexNumber = result.getInt("NATIONALPOKEDEXNUMBER");
-				if (dexContainer.hasDexNumber(dexNumber)) {
-					String translatedName = StringUtil.getFormName(result.getString("PIXELMONNAME"),
-							result.getInt("FORM"));
-					if (!translatedName.isEmpty()) {
-						if (usedNames.contains(translatedName)) {
-							continue;
-						}
-						usedNames.add(translatedName);
-						builder.append("\n{{EVList|");
-						builder.append(translatedName);
-						for (String ev : evs) {
-							int evGain = result.getInt("EVGAIN" + ev);
-							if (evGain > 0) {
-								builder.append('|');
-								builder.append(ev.toLowerCase());
-								builder.append('=');
-								builder.append(evGain);
-							}
+		PixelmonSnapshot snapshot = database.getSnapshot();
+		Set<String> usedNames = new HashSet<>();
+		for (int row : snapshot.getRowsByDexNumber()) {
+			if (dexContainer.hasDexNumber(snapshot.getDexNumber(row))) {
+				String translatedName = StringUtil.getFormName(snapshot.getName(row), snapshot.getForm(row));
+				if (!translatedName.isEmpty()) {
+					if (usedNames.contains(translatedName)) {
+						continue;
+					}
+					usedNames.add(translatedName);
+					builder.append("\n{{EVList|");
+					builder.append(translatedName);
+					for (int i = 0; i < PixelmonSnapshot.EV_STATS.length; i++) {
+						int evGain = snapshot.getEVGain(row, i);
+						if (evGain > 0) {
+							builder.append('|');
+							builder.append(PixelmonSnapshot.EV_STATS[i].toLowerCase());
+							builder.append('=');
+							builder.append(evGain);
 						}
-						builder.append("}}");
 					}
+					builder.append("}}");
 				}
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
 		}
 
 		builder.append("\n|}");
@@ -386,28 +377,24 @@ public class ListMiner extends Miner {
 		builder.append("|-\n");
 		builder.append("!Move\n");
 		builder.append("!ID");
-		ResultSet result = database.executeQuery("SELECT MOVEID, NAME FROM MOVES ORDER BY NAME");
+		PixelmonSnapshot snapshot = database.getSnapshot();
 		Set<String> unavailable = StringUtil.getUnavailableMoves();
 		Set<String> link = new HashSet<>();
 		link.addAll(Arrays.asList("Growth", "Metronome", "Psychic", "Wood Hammer"));
-		try {
-			while (result.next()) {
-				String name = Move.translate(result.getString("NAME"));
-				builder.append("\n{{MoveID|");
-				builder.append(result.getInt("MOVEID"));
-				builder.append('|');
+		for (int move : snapshot.getMovesByName()) {
+			String name = Move.translate(snapshot.getMoveName(move));
+			builder.append("\n{{MoveID|");
+			builder.append(snapshot.getMoveID(move));
+			builder.append('|');
+			builder.append(name);
+			if (unavailable.contains(name)) {
+				builder.append("|1");
+			} else if (link.contains(name)) {
+				builder.append("|link=");
 				builder.append(name);
-				if (unavailable.contains(name)) {
-					builder.append("|1");
-				} else if (link.contains(name)) {
-					builder.append("|link=");
-					builder.append(name);
-					builder.append(" (move)");
-				}
-				builder.append("}}");
+				builder.append(" (move)");
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
+			builder.append("}}");
 		}
 		builder.append("\n|}");
 
@@ -422,32 +409,28 @@ public class ListMiner extends Miner {
 		builder = new StringBuilder();
 		Set<String> unavailable = StringUtil.getUnavailableMoves();
 
-		try {
-			ResultSet result = database.executeQuery("SELECT NAME FROM MOVES WHERE TUTORTYPE = 1 ORDER BY NAME");
-			builder.append("===Tutor moves===");
-			while (result.next()) {
-				String name = Move.translate(result.getString("NAME"));
-				if (!unavailable.contains(name)) {
-					builder.append("\n*[[");
-					builder.append(name);
-					builder.append("]]");
-				}
+		PixelmonSnapshot snapshot = database.getSnapshot();
+		int[] moves = snapshot.getMovesByName();
+		builder.append("===Tutor moves===");
+		for (int move : moves) {
+			String name = Move.translate(snapshot.getMoveName(move));
+			if (snapshot.getTutorType(move) == 1 && !unavailable.contains(name)) {
+				builder.append("\n*[[");
+				builder.append(name);
+				builder.append("]]");
 			}
-			result = database.executeQuery("SELECT NAME FROM MOVES WHERE TUTORTYPE = 2 ORDER BY NAME");
-			builder.append("\n===Event tutor moves===");
-			while (result.next()) {
-				String name = Move.translate(result.getString("NAME"));
-				if (!unavailable.contains(name)) {
-					builder.append("\n*[[");
-					builder.append(name);
-					if (name.equals("Growth")) {
-						builder.append(" (move)|Growth");
-					}
-					builder.append("]]");
+		}
+		builder.append("\n===Event tutor moves===");
+		for (int move : moves) {
+			String name = Move.translate(snapshot.getMoveName(move));
+			if (snapshot.getTutorType(move) == 2 && !unavailable.contains(name)) {
+				builder.append("\n*[[");
+				builder.append(name);
+				if (name.equals("Growth")) {
+					builder.append(" (move)|Growth");
 				}
+				builder.append("]]");
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
 		}
 
 		return builder.toString();
@@ -459,26 +442,19 @@ public class ListMiner extends Miner {
 	 */
 	private void addLocationSpawns(String location) {
 		DexNumberContainer dexContainer = database.getDexContainer();
+		PixelmonSnapshot snapshot = database.getSnapshot();
 
-		StringBuilder query = new StringBuilder();
-		query.append(
-				"SELECT DISTINCT b.NATIONALPOKEDEXNUMBER, b.PIXELMONNAME, a.LOCATION FROM PIXELMONSPAWNLOCATIONS a ");
-		query.append("JOIN PIXELMON b ON a.PIXELMONID = b.PIXELMONID ");
-		query.append("WHERE a.LOCATION = '");
-		query.append(location);
-		query.append("' ORDER BY b.PIXELMONNAME");
-		ResultSet result = database.executeQuery(query);
-
-		try {
-			while (result.next()) {
-				if (dexContainer.hasDexNumber(result.getInt("NATIONALPOKEDEXNUMBER"))) {
-					builder.append("\n*{{p|");
-					builder.append(Pokemon.getTranslatedName(result.getString("PIXELMONNAME")));
-					builder.append("}}");
-				}
+		Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		for (int row = 0; row < snapshot.getPokemonCount(); row++) {
+			if (dexContainer.hasDexNumber(snapshot.getDexNumber(row))
+					&& snapshot.getSpawnLocations(row).contains(location)) {
+				names.add(snapshot.getName(row));
 			}
-		} catch (SQLException e) {
-			e.printStackTrace();
+		}
+		for (String name : names) {
+			builder.append("\n*{{p|");
+			builder.append(Pokemon.getTranslatedName(name));
+			builder.append("}}");
 		}
 	}
 }
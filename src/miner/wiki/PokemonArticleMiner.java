@@ -2,7 +2,6 @@ package miner.wiki;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -12,6 +11,8 @@ import java.util.Map;
 import java.util.Set;
 
 import database.Database;
+import database.EvolutionGraph;
+import database.PixelmonSnapshot;
 import miner.Miner;
 import miner.storage.DexNumberComparator;
 import miner.storage.DexNumberContainer;
@@ -24,6 +25,8 @@ import pixelmon.Effectiveness;
 import pixelmon.EnumPokemon;
 import pixelmon.EnumType;
 import util.APIConnection;
+import util.MultiPatternMatcher;
+import util.ParseContext;
 import util.StringUtil;
 
 /**
@@ -39,9 +42,31 @@ public class PokemonArticleMiner extends Miner {
 	private static final int EGG_FIELD = 3;
 	/** ID of the Undiscovered Egg Group. */
 	private static final int EGG_UNDISCOVERED = 14;
+	/** Abilities that change how effective types are against the Pokémon. */
+	private static final MultiPatternMatcher TYPE_ABILITIES = new MultiPatternMatcher("Delta Stream", "Desolate Land",
+			"Drizzle", "Drought", "Dry Skin", "Filter", "Flash Fire", "Heatproof", "Levitate", "Lightning Rod",
+			"Motor Drive", "Primordial Sea", "Sap Sipper", "Solid Rock", "Storm Drain", "Thick Fat", "Volt Absorb",
+			"Water Absorb", "Wonder Guard");
+	/** Gets the level-up moves of a pre-evolution by its database ID, along with its name and Pokédex number. */
+	private static final String PRE_EVOLUTION_MOVE_QUERY = "SELECT DISTINCT e.PIXELMONNAME, e.NATIONALPOKEDEXNUMBER, "
+			+ "a.LEARNLEVEL, b.NAME AS MOVE, c.NAME AS TYPE, d.NAME AS CATEGORY, b.POWER, b.ACCURACY, b.PP "
+			+ "FROM PIXELMONLEVELSKILLS a JOIN MOVES b ON a.MOVEID = b.MOVEID JOIN TYPES c ON b.TYPEID = c.TYPEID "
+			+ "JOIN MOVECATEGORIES d ON b.MOVECATEGORYID = d.MOVECATEGORYID "
+			+ "JOIN PIXELMON e ON a.PIXELMONID = e.PIXELMONID WHERE a.PIXELMONID = ? ORDER BY a.LEARNLEVEL, b.NAME";
+	/** Gets the egg moves of a Pokémon that aren't TMs or HMs, by the database ID of the Pokémon. */
+	private static final String EGG_MOVE_QUERY = "SELECT DISTINCT b.MOVEID, b.NAME AS MOVE, c.NAME AS TYPE, "
+			+ "d.NAME AS CATEGORY, b.POWER, b.ACCURACY, b.PP FROM PIXELMONEGGSKILLS a "
+			+ "JOIN MOVES b ON a.MOVEID = b.MOVEID JOIN TYPES c ON b.TYPEID = c.TYPEID "
+			+ "JOIN MOVECATEGORIES d ON b.MOVECATEGORYID = d.MOVECATEGORYID "
+			+ "WHERE a.PIXELMONID = ? AND b.TMID IS NULL AND b.HMID IS NULL ORDER BY MOVE";
+	/** Units that show a Pokédex entry uses imperial measurements. */
+	private static final MultiPatternMatcher IMPERIAL_UNITS = new MultiPatternMatcher(" mile", " mph", " feet",
+			"Fahrenheit");
 
 	/** Keeps track of the current move's chain breed inheritance. */
 	private List<EggParents> currentChainBreed = new ArrayList<>();
+	/** The infobox of the existing Pokémon article, or null if there is no existing article. */
+	private ParseContext infobox;
 
 	/**
 	 * Creates an article about a Pokémon.
@@ -75,6 +100,7 @@ public class PokemonArticleMiner extends Miner {
 		builder.append("{{PrevNext");
 
 		DexNumberContainer dexContainer = database.getDexContainer();
+		PixelmonSnapshot snapshot = database.getSnapshot();
 		Pokemon currentPokemon = dexContainer.getPokemonFromName(pokemon);
 		Pokemon nextPokemon = dexContainer.getNextPokemon(pokemon);
 		Pokemon prevPokemon = dexContainer.getPreviousPokemon(pokemon);
@@ -127,13 +153,13 @@ public class PokemonArticleMiner extends Miner {
 				return "";
 			}
 
-			StringUtil.currentRaw = null;
+			infobox = null;
 			if (!totalRaw.isEmpty()) {
 				int statIndex = totalRaw.indexOf("==Stats==");
 				if (statIndex == -1) {
 					statIndex = totalRaw.indexOf("==Base stats==");
 				}
-				StringUtil.currentRaw = totalRaw.substring(0, statIndex);
+				infobox = new ParseContext(totalRaw.substring(0, statIndex));
 
 				preserveTableEntry("altname");
 				preserveTableEntry("image");
@@ -157,6 +183,8 @@ public class PokemonArticleMiner extends Miner {
 			}
 
 			int databaseID = result.getInt("PIXELMONID");
+			int pokemonRow = snapshot.getRow(databaseID);
+			EvolutionGraph evolutionGraph = snapshot.getEvolutionGraph();
 
 			String type1 = result.getString("PIXELMONTYPE1NAME");
 			appendTableField("type1", type1);
@@ -198,12 +226,8 @@ public class PokemonArticleMiner extends Miner {
 			}
 			appendTableField("hidden", hiddenText.toString());
 			String[] abilityNames = new String[] { ability1, ability2, hiddenAbility };
-			String[] typeAbilities = new String[] { "Delta Stream", "Desolate Land", "Drizzle", "Drought", "Dry Skin",
-					"Filter", "Flash Fire", "Heatproof", "Levitate", "Lightning Rod", "Motor Drive", "Primordial Sea",
-					"Sap Sipper", "Solid Rock", "Storm Drain", "Thick Fat", "Volt Absorb", "Water Absorb",
-					"Wonder Guard" };
 			for (String abilityName : abilityNames) {
-				if (abilityName != null && StringUtil.equalsAny(abilityName, typeAbilities)) {
+				if (TYPE_ABILITIES.equalsAny(abilityName)) {
 					System.out.println("Ability modifies type effectiveness: " + abilityName);
 				}
 			}
@@ -338,10 +362,7 @@ public class PokemonArticleMiner extends Miner {
 					timeRarities[i] = result.getFloat(i + 1);
 				}
 
-				result = database
-						.executeQuery("SELECT BIOMENAME FROM PIXELMONSPAWNBIOMES WHERE PIXELMONID = " + databaseID);
-				while (result.next()) {
-					String biome = result.getString(1);
+				for (String biome : snapshot.getSpawnBiomes(pokemonRow)) {
 					switch (biome) {
 					case "BirchForest Hills M":
 						biome = "Birch Forest Hills M";
@@ -396,33 +417,19 @@ public class PokemonArticleMiner extends Miner {
 				}
 			}
 
-			List<Integer> preEvoIDs = getPreEvolutions(databaseID);
-			List<Integer> evoIDs = getEvolutions(databaseID);
+			int[] preEvoRows = evolutionGraph.getAncestors(pokemonRow);
+			int[] evoRows = evolutionGraph.getDescendants(pokemonRow);
 			List<String> evoTypes = new ArrayList<>();
-			for (Integer evoID : evoIDs) {
-				query = new StringBuilder();
-				query.append("SELECT b.NAME AS TYPE1NAME, c.NAME AS TYPE2NAME FROM PIXELMON a ");
-				query.append("LEFT JOIN TYPES b ON a.PIXELMONTYPE1ID = b.TYPEID ");
-				query.append("LEFT JOIN TYPES c ON a.PIXELMONTYPE2ID = c.TYPEID ");
-				query.append("WHERE a.PIXELMONID = " + evoID);
-				result = database.executeQuery(query);
-				while (result.next()) {
-					String evoType1 = result.getString("TYPE1NAME");
-					if (!preEvoIDs.contains(evoType1)) {
-						evoTypes.add(evoType1);
-					}
-					String evoType2 = result.getString("TYPE2NAME");
-					if (evoType2 != null && !preEvoIDs.contains(evoType2)) {
-						evoTypes.add(evoType2);
-					}
+			for (int evoRow : evoRows) {
+				evoTypes.add(snapshot.getType1(evoRow));
+				String evoType2 = snapshot.getType2(evoRow);
+				if (evoType2 != null) {
+					evoTypes.add(evoType2);
 				}
 			}
 
-			result = database
-					.executeQuery("SELECT LOCATION FROM PIXELMONSPAWNLOCATIONS WHERE PIXELMONID = " + databaseID);
 			List<String> locations = new ArrayList<>();
-			while (result.next()) {
-				String location = result.getString(1);
+			for (String location : snapshot.getSpawnLocations(pokemonRow)) {
 				if (location.equals("airpersistent")) {
 					location = "Air persistent";
 				} else {
@@ -450,8 +457,8 @@ public class PokemonArticleMiner extends Miner {
 
 			builder.append("\n}}\n");
 
-			if (StringUtil.currentRaw != null) {
-				String descriptionArea = StringUtil.currentRaw.substring(StringUtil.currentRaw.indexOf("catchrate"));
+			if (infobox != null) {
+				String descriptionArea = infobox.getRaw().substring(infobox.getRaw().indexOf("catchrate"));
 				startIndex = descriptionArea.indexOf('}') + 3;
 				startIndex = descriptionArea.indexOf(englishName, startIndex);
 				descriptionArea = descriptionArea.substring(startIndex);
@@ -526,7 +533,7 @@ public class PokemonArticleMiner extends Miner {
 			String pokedexDescription = database.getLangMap()
 					.get("pixelmon." + currentPokemon.name.toLowerCase() + ".description");
 			builder.append(pokedexDescription);
-			if (StringUtil.containsAny(pokedexDescription, " mile", " mph", " feet", "Fahrenheit")) {
+			if (IMPERIAL_UNITS.containsAny(pokedexDescription)) {
 				System.out.println("Units found in Pokédex entry.");
 			}
 
@@ -692,42 +699,35 @@ public class PokemonArticleMiner extends Miner {
 			hasSTAB = false;
 			hasEvoSTAB = false;
 			Set<String> preEvoMoves = new HashSet<>();
-			if (!preEvoIDs.isEmpty()) {
+			if (preEvoRows.length > 0) {
 				Map<String, PreEvoEntry> preEvoEntries = new HashMap<>();
 				List<PreEvoEntry> preEvoList = new ArrayList<>();
-				for (int i = preEvoIDs.size() - 1; i >= 0; i--) {
-					Integer preEvoID = preEvoIDs.get(i);
-					query = new StringBuilder();
-					query.append(
-							"SELECT DISTINCT e.PIXELMONNAME, e.NATIONALPOKEDEXNUMBER, a.LEARNLEVEL, b.NAME AS MOVE, c.NAME AS TYPE, d.NAME AS CATEGORY, b.POWER, b.ACCURACY, b.PP FROM PIXELMONLEVELSKILLS a ");
-					query.append("JOIN MOVES b ON a.MOVEID = b.MOVEID ");
-					query.append("JOIN TYPES c ON b.TYPEID = c.TYPEID ");
-					query.append("JOIN MOVECATEGORIES d ON b.MOVECATEGORYID = d.MOVECATEGORYID ");
-					query.append("JOIN PIXELMON e ON a.PIXELMONID = e.PIXELMONID ");
-					query.append("WHERE a.PIXELMONID = ");
-					query.append(preEvoID);
-					query.append(" ORDER BY a.LEARNLEVEL, b.NAME");
-					result = database.executeQuery(query);
-					while (result.next()) {
-						String moveName = result.getString("MOVE");
-						if (!levelUpMoves.contains(moveName)) {
-							PreEvoEntry entry = preEvoEntries.get(moveName);
-							if (entry == null) {
-								entry = new PreEvoEntry();
-								Move move = new Move(moveName);
-								move.type = result.getString("TYPE");
-								move.category = result.getString("CATEGORY");
-								move.power = result.getInt("POWER");
-								move.accuracy = result.getInt("ACCURACY");
-								move.pp = result.getInt("PP");
-								entry.move = move;
-								preEvoEntries.put(moveName, entry);
-								preEvoList.add(entry);
-							}
-							Pokemon preEvoPokemon = new Pokemon(result.getString("PIXELMONNAME"));
-							preEvoPokemon.nationalPokedexNumber = result.getInt("NATIONALPOKEDEXNUMBER");
-							if (!entry.preEvolutions.contains(preEvoPokemon)) {
-								entry.preEvolutions.add(preEvoPokemon);
+				for (int i = preEvoRows.length - 1; i >= 0; i--) {
+					int preEvoID = snapshot.getPixelmonID(preEvoRows[i]);
+					try (Database.Query preEvoQuery = database.prepare("preEvolutionMoves", PRE_EVOLUTION_MOVE_QUERY)
+							.bind(preEvoID).execute()) {
+						result = preEvoQuery.getResult();
+						while (result.next()) {
+							String moveName = result.getString("MOVE");
+							if (!levelUpMoves.contains(moveName)) {
+								PreEvoEntry entry = preEvoEntries.get(moveName);
+								if (entry == null) {
+									entry = new PreEvoEntry();
+									Move move = new Move(moveName);
+									move.type = result.getString("TYPE");
+									move.category = result.getString("CATEGORY");
+									move.power = result.getInt("POWER");
+									move.accuracy = result.getInt("ACCURACY");
+									move.pp = result.getInt("PP");
+									entry.move = move;
+									preEvoEntries.put(moveName, entry);
+									preEvoList.add(entry);
+								}
+								Pokemon preEvoPokemon = new Pokemon(result.getString("PIXELMONNAME"));
+								preEvoPokemon.nationalPokedexNumber = result.getInt("NATIONALPOKEDEXNUMBER");
+								if (!entry.preEvolutions.contains(preEvoPokemon)) {
+									entry.preEvolutions.add(preEvoPokemon);
+								}
 							}
 						}
 					}
@@ -971,38 +971,19 @@ public class PokemonArticleMiner extends Miner {
 				if (pokemon.equals("Nidorina") || pokemon.equals("Nidoqueen")) {
 					egg1ID = EGG_MONSTER;
 					egg2ID = EGG_FIELD;
-				} else if (!evoIDs.isEmpty()) {
-					query = new StringBuilder();
-					query.append("SELECT EGGGROUP1ID, EGGGROUP2ID FROM PIXELMON WHERE PIXELMONID = ");
-					query.append(evoIDs.get(0));
-					result = database.executeQuery(query);
-					result.next();
-					egg1ID = result.getInt("EGGGROUP1ID");
-					egg2ID = result.getInt("EGGGROUP2ID");
-					if (result.wasNull()) {
-						egg2ID = -1;
-					}
+				} else if (evoRows.length > 0) {
+					egg1ID = snapshot.getEggGroup1ID(evoRows[0]);
+					egg2ID = snapshot.getEggGroup2ID(evoRows[0]);
 				}
 			} else if (pokemon.equals("Shedinja")) {
 				egg1ID = EGG_BUG;
 			}
 
-			query = new StringBuilder();
-			query.append(
-					"SELECT DISTINCT b.MOVEID, b.NAME AS MOVE, c.NAME AS TYPE, d.NAME AS CATEGORY, b.POWER, b.ACCURACY, b.PP FROM PIXELMONEGGSKILLS a ");
-			query.append("JOIN MOVES b ON a.MOVEID = b.MOVEID ");
-			query.append("JOIN TYPES c ON b.TYPEID = c.TYPEID ");
-			query.append("JOIN MOVECATEGORIES d ON b.MOVECATEGORYID = d.MOVECATEGORYID ");
-			query.append("WHERE a.PIXELMONID = ");
-			query.append(databaseID);
-			query.append(" AND b.TMID IS NULL");
-			query.append(" AND b.HMID IS NULL");
-			query.append(" ORDER BY MOVE");
-
 			Set<String> eggMoveSet = new HashSet<>();
 			StringBuilder eggMovesTable = new StringBuilder();
-			try (Statement statement = database.createNewStatement();
-					ResultSet result2 = statement.executeQuery(query.toString())) {
+			try (Database.Query eggMoveQuery = database.prepare("eggMoves", EGG_MOVE_QUERY).bind(databaseID)
+					.execute()) {
+				ResultSet result2 = eggMoveQuery.getResult();
 
 				hasSTAB = false;
 				hasEvoSTAB = false;
@@ -1028,78 +1009,48 @@ public class PokemonArticleMiner extends Miner {
 						}
 						StringBuilder eggRow = new StringBuilder();
 						eggRow.append("\n{{learnlist/breed5|");
-						Statement eggStatement = null;
-						ResultSet eggResult = null;
 						boolean chainMove = false;
-						try {
-							eggStatement = database.createNewStatement();
-							query = new StringBuilder();
-							query.append(
-									"SELECT DISTINCT c.PIXELMONID, c.PIXELMONNAME, c.NATIONALPOKEDEXNUMBER, c.FORM FROM (SELECT a.PIXELMONID FROM PIXELMON a ");
-							query.append("WHERE (a.EGGGROUP1ID = ");
-							query.append(egg1ID);
-							query.append(" OR a.EGGGROUP2ID = ");
-							query.append(egg1ID);
-							if (egg2ID > -1) {
-								query.append(" OR a.EGGGROUP1ID = ");
-								query.append(egg2ID);
-								query.append(" OR a.EGGGROUP2ID = ");
-								query.append(egg2ID);
-							}
-							query.append(") AND a.MALEPERCENT > 0) b ");
-							query.append("JOIN PIXELMON c ON b.PIXELMONID = c.PIXELMONID ");
-							query.append("INNER JOIN (SELECT PIXELMONID FROM PIXELMONLEVELSKILLS WHERE MOVEID = ");
-							query.append(result2.getInt("MOVEID"));
-							query.append(") d ON c.PIXELMONID = d.PIXELMONID ");
-							query.append("ORDER BY c.NATIONALPOKEDEXNUMBER");
-							eggResult = database.executeQuery(query, eggStatement);
-							boolean hasPokemon = false;
-							while (eggResult.next()) {
-								String parentName = eggResult.getString("PIXELMONNAME");
-								if (availablePokemon.contains(parentName)) {
-									parentName = StringUtil.getFormName(parentName, eggResult.getInt("FORM"));
-									if (!parentName.isEmpty()) {
-										if (maleOnly && !getEvolutions(databaseID)
-												.contains(eggResult.getInt("PIXELMONID"))) {
-											continue;
-										}
-										hasPokemon = true;
-										eggRow.append("{{p|");
-										eggRow.append(Pokemon.getTranslatedName(eggResult.getString("PIXELMONNAME")));
-										eggRow.append("|1}}");
+						boolean hasPokemon = false;
+						for (int parentRow : snapshot.getEggParents(egg1ID, egg2ID, result2.getInt("MOVEID"))) {
+							String parentName = snapshot.getName(parentRow);
+							if (availablePokemon.contains(parentName)) {
+								String formName = StringUtil.getFormName(parentName, snapshot.getForm(parentRow));
+								if (!formName.isEmpty()) {
+									if (maleOnly && !evolutionGraph.isDescendant(pokemonRow, parentRow)) {
+										continue;
 									}
+									hasPokemon = true;
+									eggRow.append("{{p|");
+									eggRow.append(Pokemon.getTranslatedName(parentName));
+									eggRow.append("|1}}");
 								}
 							}
-							if (!hasPokemon) {
-								StringBuilder save = builder;
-								getMoveArticle(moveName);
-								builder = save;
-								boolean hasParents = true;
-								for (EggParents egg : currentChainBreed) {
-									if (egg.containsPokemon(pokemon)) {
-										if (egg.parents.isEmpty()) {
-											System.out.println(pokemon + " has no parents for " + moveName + ".");
-											hasParents = false;
-											break;
-										}
-										for (Pokemon parent : egg.parents) {
-											eggRow.append("{{p|");
-											eggRow.append(parent.getTranslatedName());
-											eggRow.append("|1}}");
-										}
-										chainMove = egg.chainBreed;
-										hasChainMove = hasChainMove || chainMove;
+						}
+						if (!hasPokemon) {
+							StringBuilder save = builder;
+							getMoveArticle(moveName);
+							builder = save;
+							boolean hasParents = true;
+							for (EggParents egg : currentChainBreed) {
+								if (egg.containsPokemon(pokemon)) {
+									if (egg.parents.isEmpty()) {
+										System.out.println(pokemon + " has no parents for " + moveName + ".");
+										hasParents = false;
 										break;
 									}
+									for (Pokemon parent : egg.parents) {
+										eggRow.append("{{p|");
+										eggRow.append(parent.getTranslatedName());
+										eggRow.append("|1}}");
+									}
+									chainMove = egg.chainBreed;
+									hasChainMove = hasChainMove || chainMove;
+									break;
 								}
-								if (!hasParents) {
-									continue;
-								}
 							}
-						} catch (SQLException e) {
-							e.printStackTrace();
-						} finally {
-							database.closeStatement(eggStatement, eggResult);
+							if (!hasParents) {
+								continue;
+							}
 						}
 						eggMovesTable.append(eggRow);
 						eggMovesTable.append('|');
@@ -1267,6 +1218,8 @@ public class PokemonArticleMiner extends Miner {
 				return "";
 			}
 			int moveID = result.getInt("MOVEID");
+			PixelmonSnapshot snapshot = database.getSnapshot();
+			EvolutionGraph evolutionGraph = snapshot.getEvolutionGraph();
 
 			String type = result.getString("TYPE");
 			appendTableField("type", type);
@@ -1359,8 +1312,7 @@ public class PokemonArticleMiner extends Miner {
 				totalRaw = APIConnection.getArticleSourcePixelmon(translatedMove);
 			}
 			if (!totalRaw.isEmpty()) {
-				StringUtil.currentRaw = totalRaw;
-				String externalMove = StringUtil.getTableEntry("external");
+				String externalMove = new ParseContext(totalRaw).getTableEntry("external");
 				if (externalMove != null) {
 					appendTableField("external", externalMove);
 				}
@@ -1413,7 +1365,9 @@ public class PokemonArticleMiner extends Miner {
 				if (availablePokemon.contains(pokemon)) {
 					int id = result.getInt("PIXELMONID");
 					learnIDs.add(id);
-					evolutions.addAll(getEvolutions(id));
+					for (int evoRow : evolutionGraph.getDescendants(snapshot.getRow(id))) {
+						evolutions.add(snapshot.getPixelmonID(evoRow));
+					}
 					pokemon = StringUtil.getFormName(pokemon, result.getInt("FORM"));
 					if (!"".equals(pokemon)) {
 						LevelUpEntry entry = levelUpMap.get(pokemon);
@@ -1519,48 +1473,29 @@ public class PokemonArticleMiner extends Miner {
 				}
 				for (Integer pokemonID : initEggList) {
 					if (!eggSet.contains(pokemonID)) {
-						query = new StringBuilder();
-						query.append("SELECT a.PIXELMONNAME FROM PIXELMON a ");
-						query.append("WHERE a.PIXELMONID = ");
-						query.append(pokemonID);
-						result = database.executeQuery(query);
-						result.next();
-						String pokemonName = result.getString("PIXELMONNAME");
+						String pokemonName = getPokemonName(pokemonID);
 						if (availablePokemon.contains(pokemonName)) {
 							if (pokemonName.equals("Hitmonlee")) {
-								result = database
-										.executeQuery("SELECT PIXELMONID FROM PIXELMON WHERE PIXELMONNAME = 'Tyrogue'");
-								result.next();
 								pokemonName = "Tyrogue";
-								pokemonID = result.getInt("PIXELMONID");
+								pokemonID = getPokemonID(pokemonName);
 							} else if (StringUtil.equalsAny("Hitmonchan", "Hitmontop")) {
 								continue;
 							}
 							List<Integer> familyIDs = new ArrayList<>();
-							familyIDs.add(pokemonID);
-							familyIDs.addAll(getEvolutions(pokemonID));
-							List<Integer> preEvoIDs = getPreEvolutions(pokemonID);
-							for (Integer preEvoID : preEvoIDs) {
-								familyIDs.add(0, preEvoID);
+							for (int familyRow : evolutionGraph.getFamily(snapshot.getRow(pokemonID))) {
+								familyIDs.add(snapshot.getPixelmonID(familyRow));
 							}
 							List<Pokemon> family = new ArrayList<>();
 							for (Integer id : familyIDs) {
-								query = new StringBuilder();
-								query.append(
-										"SELECT a.PIXELMONNAME, a.FORM, a.EGGGROUP1ID, a.EGGGROUP2ID, a.MALEPERCENT, a.NATIONALPOKEDEXNUMBER FROM PIXELMON a ");
-								query.append("WHERE a.PIXELMONID = ");
-								query.append(id);
-								result = database.executeQuery(query);
-								result.next();
-								String idName = result.getString("PIXELMONNAME");
-								if (availablePokemon.contains(idName)) {
-									Pokemon pokemon = new Pokemon(idName);
-									pokemon.form = result.getInt("FORM");
-									pokemon.eggGroup1ID = result.getInt("EGGGROUP1ID");
-									pokemon.eggGroup2ID = Database.getIntNull(result, "EGGGROUP2ID");
+								int row = snapshot.getRow(id);
+								if (row != -1 && availablePokemon.contains(snapshot.getName(row))) {
+									Pokemon pokemon = new Pokemon(snapshot.getName(row));
+									pokemon.form = snapshot.getForm(row);
+									pokemon.eggGroup1ID = snapshot.getEggGroup1ID(row);
+									pokemon.eggGroup2ID = snapshot.getEggGroup2ID(row);
 									pokemon.listIndex = id;
-									pokemon.genderRatio = result.getInt("MALEPERCENT");
-									pokemon.nationalPokedexNumber = result.getInt("NATIONALPOKEDEXNUMBER");
+									pokemon.genderRatio = snapshot.getMalePercent(row);
+									pokemon.nationalPokedexNumber = snapshot.getDexNumber(row);
 									family.add(pokemon);
 									eggSet.add(id);
 								}
@@ -1585,20 +1520,13 @@ public class PokemonArticleMiner extends Miner {
 
 					for (Pokemon pokemon : family) {
 						familyIDs.add(pokemon.listIndex);
-						query = new StringBuilder();
-						query.append("SELECT LEVELSKILLID FROM PIXELMONLEVELSKILLS WHERE PIXELMONID = ");
-						query.append(pokemon.listIndex);
-						query.append(" AND MOVEID = ");
-						query.append(moveID);
-						result = database.executeQuery(query);
-						if (result.next()) {
+						if (snapshot.learnsByLevelUp(snapshot.getRow(pokemon.listIndex), moveID)) {
 							canLearnMove.add(pokemon.listIndex);
 							continue;
 						} else if (!canLearnMove.isEmpty()) {
-							List<Integer> preEvoIDs = getPreEvolutions(pokemon.listIndex);
 							boolean preEvoLearnMove = false;
-							for (Integer preEvoID : preEvoIDs) {
-								if (canLearnMove.contains(preEvoID)) {
+							for (int preEvoRow : evolutionGraph.getAncestors(snapshot.getRow(pokemon.listIndex))) {
+								if (canLearnMove.contains(snapshot.getPixelmonID(preEvoRow))) {
 									preEvoLearnMove = true;
 									break;
 								}
@@ -1623,38 +1551,20 @@ public class PokemonArticleMiner extends Miner {
 							break;
 						}
 					}
-					query = new StringBuilder();
-					query.append(
-							"SELECT DISTINCT c.PIXELMONID, c.PIXELMONNAME, c.NATIONALPOKEDEXNUMBER, c.FORM FROM (SELECT a.PIXELMONID FROM PIXELMON a ");
-					query.append("WHERE (a.EGGGROUP1ID = ");
-					query.append(checkPokemon.eggGroup1ID);
-					query.append(" OR a.EGGGROUP2ID = ");
-					query.append(checkPokemon.eggGroup1ID);
-					if (checkPokemon.eggGroup2ID > -1) {
-						query.append(" OR a.EGGGROUP1ID = ");
-						query.append(checkPokemon.eggGroup2ID);
-						query.append(" OR a.EGGGROUP2ID = ");
-						query.append(checkPokemon.eggGroup2ID);
-					}
-					query.append(") AND a.MALEPERCENT > 0) b ");
-					query.append("JOIN PIXELMON c ON b.PIXELMONID = c.PIXELMONID ");
-					query.append("INNER JOIN (SELECT PIXELMONID FROM PIXELMONLEVELSKILLS WHERE MOVEID = ");
-					query.append(moveID);
-					query.append(") d ON c.PIXELMONID = d.PIXELMONID ");
-					query.append("ORDER BY c.NATIONALPOKEDEXNUMBER");
-					result = database.executeQuery(query);
 					List<Pokemon> parents = new ArrayList<>();
-					while (result.next()) {
-						String parentName = result.getString("PIXELMONNAME");
+					for (int parentRow : snapshot.getEggParents(checkPokemon.eggGroup1ID, checkPokemon.eggGroup2ID,
+							moveID)) {
+						String parentName = snapshot.getName(parentRow);
 						if (availablePokemon.contains(parentName)) {
-							if (checkPokemon.genderRatio == 100 && !familyIDs.contains(result.getInt("PIXELMONID"))
+							if (checkPokemon.genderRatio == 100
+									&& !familyIDs.contains(snapshot.getPixelmonID(parentRow))
 									&& !StringUtil.equalsAny(checkPokemon.name, "Nidoranmale", "Volbeat", "Gallade")) {
 								continue;
 							}
-							parentName = StringUtil.getFormName(parentName, result.getInt("FORM"));
+							parentName = StringUtil.getFormName(parentName, snapshot.getForm(parentRow));
 							if (!parentName.isEmpty()) {
 								Pokemon p = new Pokemon(parentName);
-								p.nationalPokedexNumber = result.getInt("NATIONALPOKEDEXNUMBER");
+								p.nationalPokedexNumber = snapshot.getDexNumber(parentRow);
 								parents.add(p);
 							}
 						}
@@ -2379,142 +2289,35 @@ public class PokemonArticleMiner extends Miner {
 	 * @param key The key of the table entry.
 	 */
 	private void preserveTableEntry(String key) {
-		if (StringUtil.currentRaw == null) {
+		if (infobox == null) {
 			return;
 		}
-		String entry = StringUtil.getTableEntry(key);
+		String entry = infobox.getTableEntry(key);
 		if (entry != null) {
 			appendTableField(key, entry.trim());
 		}
 	}
 
 	/**
-	 * Gets the database IDs of pre-evolutions of a Pokémon.
-	 * @param databaseID The database ID of the Pokémon to get pre-evolutions for.
-	 * @param name The name of the Pokémon to get pre-evolutions for.
-	 * @return The database IDs of pre-evolutions of a Pokémon.
+	 * Gets the name of a Pokémon.
+	 * @param databaseID The database ID of the Pokémon.
+	 * @return The name of the Pokémon, or null if it isn't in the database.
 	 */
-	private List<Integer> getPreEvolutions(int databaseID) {
-		List<Integer> preEvolutions = new ArrayList<>();
-
-		try {
-			ResultSet result = database
-					.executeQuery("SELECT PIXELMONNAME FROM PIXELMON WHERE PIXELMONID = " + databaseID);
-			result.next();
-			String name = result.getString(1);
-			StringBuilder query = new StringBuilder("SELECT PIXELMONFROMID FROM PIXELMONEVOLUTIONS ");
-			query.append("WHERE PIXELMONTOID = ");
-			query.append(databaseID);
-			query.append(" OR EVOLVECONDITION LIKE '%");
-			query.append(name);
-			query.append("' AND EVOLVECONDITION LIKE '%:%'");
-			result = database.executeQuery(query);
-			int preEvoID = -1;
-			if (result.next()) {
-				preEvoID = result.getInt("PIXELMONFROMID");
-			}
-			if (preEvoID == -1) {
-				String preEvoName = null;
-				if (StringUtil.equalsAny(name, "Hitmonchan", "Hitmonlee", "Hitmontop")) {
-					preEvoName = "Tyrogue";
-				} else if (name.equals("Mantine")) {
-					preEvoName = "Mantyke";
-				} else if (StringUtil.equalsAny(name, "Wormadam", "Mothim")) {
-					preEvoName = "Burmy";
-				} else if (name.equals("Shedinja")) {
-					preEvoName = "Nincada";
-				}
-				if (preEvoName != null) {
-					result = database
-							.executeQuery("SELECT PIXELMONID FROM PIXELMON WHERE PIXELMONNAME = '" + preEvoName + "'");
-					result.next();
-					preEvoID = result.getInt(1);
-				}
-			}
-			if (preEvoID != -1) {
-				preEvolutions.add(preEvoID);
-				preEvolutions.addAll(getPreEvolutions(preEvoID));
-			}
-		} catch (SQLException e) {
-			e.printStackTrace();
-		}
-		return preEvolutions;
+	private String getPokemonName(int databaseID) {
+		PixelmonSnapshot snapshot = database.getSnapshot();
+		int row = snapshot.getRow(databaseID);
+		return row == -1 ? null : snapshot.getName(row);
 	}
 
 	/**
-	 * Gets the database IDs of evolutions of a Pokémon.
-	 * @param databaseID The database ID of the Pokémon to get evolutions for.
-	 * @param name The name of the Pokémon to get evolutions for.
-	 * @return The database IDs of evolutions of a Pokémon.
+	 * Gets the database ID of a Pokémon.
+	 * @param name The name of the Pokémon.
+	 * @return The database ID of the Pokémon, or -1 if it isn't in the database.
 	 */
-	private List<Integer> getEvolutions(int databaseID) {
-		List<Integer> evolutions = new ArrayList<>();
-
-		Statement statement = null;
-		ResultSet evoResult = null;
-		Statement newStatement = null;
-		ResultSet newResult = null;
-		try {
-			StringBuilder query = new StringBuilder("SELECT PIXELMONTOID, EVOLVECONDITION FROM PIXELMONEVOLUTIONS ");
-			query.append("WHERE PIXELMONFROMID = ");
-			query.append(databaseID);
-			statement = database.createNewStatement();
-			evoResult = database.executeQuery(query, statement);
-			while (evoResult.next()) {
-				int evoID = evoResult.getInt("PIXELMONTOID");
-				if (evoID == 0) {
-					List<String> evoNames = new ArrayList<>();
-					String evoName = evoResult.getString("EVOLVECONDITION");
-					int colonIndex = evoName.lastIndexOf(':');
-					if (colonIndex > -1) {
-						evoNames.add(evoName.substring(colonIndex + 1));
-						if (evoName.contains("Silcoon")) {
-							evoNames.add("Cascoon");
-							evoNames.add("Beautifly");
-							evoNames.add("Dustox");
-						} else if (evoName.equals("Nincada")) {
-							evoNames.add("Shedinja");
-						}
-					} else if (evoName.equals("Burmy")) {
-						evoNames.add("Wormadam");
-						evoNames.add("Mothim");
-					} else if (evoName.equals("Tyrogue")) {
-						evoNames.add("Hitmonlee");
-						evoNames.add("Hitmonchan");
-						evoNames.add("Hitmontop");
-					} else if (evoName.equals("Mantyke")) {
-						evoNames.add("Mantine");
-					}
-					if (!evoNames.isEmpty()) {
-						for (String evo : evoNames) {
-							newStatement = database.createNewStatement();
-							newResult = database.executeQuery(
-									"SELECT PIXELMONID FROM PIXELMON WHERE PIXELMONNAME = '" + evo + "'", newStatement);
-							if (newResult.next()) {
-								int newEvoID = newResult.getInt(1);
-								evolutions.add(newEvoID);
-								evolutions.addAll(getEvolutions(newEvoID));
-							}
-							database.closeStatement(newStatement, newResult);
-						}
-					}
-				}
-				if (evoID != 0 && !evolutions.contains(evoID)) {
-					evolutions.add(evoID);
-					if (databaseID == 396) {
-						// Nincada->Shedinja
-						evolutions.add(398);
-					}
-					evolutions.addAll(getEvolutions(evoID));
-				}
-			}
-		} catch (SQLException e) {
-			e.printStackTrace();
-		} finally {
-			database.closeStatement(statement, evoResult);
-			database.closeStatement(newStatement, newResult);
-		}
-		return evolutions;
+	private int getPokemonID(String name) {
+		PixelmonSnapshot snapshot = database.getSnapshot();
+		int row = snapshot.getRow(name, -1);
+		return row == -1 ? -1 : snapshot.getPixelmonID(row);
 	}
 
 	/**
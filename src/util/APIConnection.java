@@ -1,13 +1,41 @@
 package util;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
+import java.io.InterruptedIOException;
 import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -17,56 +45,412 @@ import org.json.JSONObject;
  */
 public class APIConnection {
 
+	/** The base URL of Bulbapedia's scripts. Can be pointed at a local stub server. */
+	private static final String BULBAPEDIA_URL = System.getProperty("miner.bulbapedia.url",
+			"https://bulbapedia.bulbagarden.net/w/");
+	/** The base URL of the Pixelmon wiki's scripts. Can be pointed at a local stub server. */
+	private static final String PIXELMON_URL = System.getProperty("miner.pixelmon.url", "http://pixelmonmod.com/wiki/");
 	/** The base URL for querying from Bulbapedia. */
-	private static final String BULBAPEDIA_API = "https://bulbapedia.bulbagarden.net/w/api.php?action=query&format=json";
+	private static final String BULBAPEDIA_API = BULBAPEDIA_URL + "api.php?action=query&format=json";
 	/** The URL for getting raw source data from Bulbapedia. */
-	private static final String ARTICLE_URL = "https://bulbapedia.bulbagarden.net/w/index.php?action=raw&title=";
+	private static final String ARTICLE_URL = BULBAPEDIA_URL + "index.php?action=raw&title=";
 	/** The URL for getting raw source data from the Pixelmon wiki. */
-	private static final String PIXELMON_API = "http://pixelmonmod.com/wiki/index.php?action=raw&title=";
+	private static final String PIXELMON_API = PIXELMON_URL + "index.php?action=raw&title=";
 	/** The URL for querying categories on Bulbapedia. */
-	private static final String CATEGORY_API = BULBAPEDIA_API + "&list=categorymembers&&cmlimit=1000&cmtitle=Category:";
+	private static final String CATEGORY_API = BULBAPEDIA_API + "&list=categorymembers&cmlimit=max&cmtitle=Category:";
+	/** The URL for getting the source of multiple Bulbapedia articles at once. */
+	private static final String REVISIONS_API = BULBAPEDIA_API
+			+ "&formatversion=2&redirects=1&prop=revisions&rvprop=content%7Cids&rvslots=main&titles=";
+	/** The URL for getting the latest revision IDs of multiple Bulbapedia articles at once. */
+	private static final String INFO_API = BULBAPEDIA_API + "&formatversion=2&redirects=1&prop=info&titles=";
+	/** The maximum number of titles that can be queried in a single request. */
+	private static final int BATCH_SIZE = 50;
 	/** Appendage for a Pokémon's Generation 5 learnset page. */
 	public static final String GEN_5_LEARNSET = "/Generation_V_learnset";
 
+	/** The name of Bulbapedia in the article cache. */
+	private static final String BULBAPEDIA = "bulbapedia";
+	/** The name of the Pixelmon wiki in the article cache. */
+	private static final String PIXELMON = "pixelmon";
+	/** The default folder that downloaded articles are cached in. */
+	private static final String DEFAULT_CACHE_DIRECTORY = "cache";
+	/** The name of the folder in the article cache that parsed data is stored in. */
+	private static final String PARSED_FOLDER = "parsed";
+	/** The default number of hours before a cached article is downloaded again. */
+	private static final long DEFAULT_CACHE_HOURS = 24 * 7;
+
+	/** The default number of articles downloaded at the same time. */
+	private static final int DEFAULT_FETCH_THREADS = 8;
+	/** The default number of simultaneous requests allowed to a single host. */
+	private static final int DEFAULT_HOST_REQUESTS = 4;
+
+	/** The default number of requests sent to a single host per second. */
+	private static final double DEFAULT_HOST_RATE = 10;
+	/** The default highest number of requests sent to a single host per second. */
+	private static final double DEFAULT_MAX_HOST_RATE = 40;
+	/** The lowest number of requests sent to a single host per second. */
+	private static final double MIN_HOST_RATE = 0.5;
+	/** The default number of times a failed request is retried. */
+	private static final int DEFAULT_MAX_RETRIES = 5;
+	/** The default number of retries that can be made before requests start succeeding again. */
+	private static final int DEFAULT_RETRY_BUDGET = 50;
+	/** The number of retries earned back by each successful request. */
+	private static final double RETRY_DEPOSIT = 0.1;
+	/** The delay before the first retry, in milliseconds. */
+	private static final long BASE_RETRY_DELAY = 500;
+	/** The longest delay before a retry, in milliseconds. */
+	private static final long MAX_RETRY_DELAY = TimeUnit.MINUTES.toMillis(2);
+
+	/** The default largest total size of articles kept in memory, in megabytes. */
+	private static final long DEFAULT_MEMORY_CACHE_MB = 64;
+
+	/** Mode where requests are sent normally. */
+	private static final String MODE_LIVE = "live";
+	/** Mode where responses are saved to the fixture archive. */
+	private static final String MODE_RECORD = "record";
+	/** Mode where responses are read from the fixture archive instead of the network. */
+	private static final String MODE_REPLAY = "replay";
+	/** The default archive that responses are recorded to and replayed from. */
+	private static final String DEFAULT_FIXTURES = "fixtures.zip";
+
+	/** Downloads articles in parallel. */
+	private static ExecutorService fetchExecutor;
+	/** Limits the number of simultaneous requests to each host. */
+	private static Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+	/** Limits the rate of requests to each host. */
+	private static Map<String, RateLimiter> hostLimiters = new ConcurrentHashMap<>();
+	/** The number of retries that can currently be made across all hosts. */
+	private static double retryBudget = Integer.getInteger("miner.http.retryBudget", DEFAULT_RETRY_BUDGET);
+
+	/** The fixtures that responses are recorded to or replayed from, or null if requests are sent normally. */
+	private static HttpFixtures fixtures;
+	/** Whether the fixtures have been initialized. */
+	private static boolean fixturesLoaded = false;
+
+	/** Reads Bulbapedia articles from an XML dump, or null if articles are downloaded. */
+	private static DumpArticleSource dumpSource;
+	/** Whether the dump has been opened. */
+	private static boolean dumpLoaded = false;
+
+	/** Keeps recently used articles in memory and shares downloads of the same article. */
+	private static ArticleMemoryCache memoryCache;
+	/** Whether the memory cache has been initialized. */
+	private static boolean memoryCacheLoaded = false;
+
+	/** The cache that downloaded articles are stored in. */
+	private static ArticleCache articleCache;
+	/** Whether the article cache has been initialized. */
+	private static boolean cacheLoaded = false;
+	/** The cache that data parsed from articles is stored in. */
+	private static ParsedArticleCache parsedCache;
+	/** Whether the parsed article cache has been initialized. */
+	private static boolean parsedCacheLoaded = false;
+
 	/**
 	 * Gets data from a URL.
 	 * @param urlToRead The URL to get data from.
 	 * @return The data from the URL.
+	 * @throws IllegalStateException If the URL can't be reached.
 	 */
 	public static String getURL(String urlToRead) {
-		StringBuilder result = new StringBuilder();
 		try {
-			URL url = new URL(urlToRead);
-			HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-			conn.setRequestMethod("GET");
-			conn.setRequestProperty("User-Agent",
-					"Mozilla/5.0 (Macintosh; Intel Mac OS X 10_12_5) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/58.0.3029.110 Safari/537.36");
-			BufferedReader rd = null;
-			try {
-				rd = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-				String line;
-				while ((line = rd.readLine()) != null) {
-					result.append(line);
-					result.append('\n');
+			return fetchURL(urlToRead);
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not download " + urlToRead, e);
+		}
+	}
+
+	/**
+	 * Gets data from a URL, passing connection errors to the caller.
+	 * @param urlToRead The URL to get data from.
+	 * @return The data from the URL, or an empty string if the page doesn't exist.
+	 * @throws IOException If the URL can't be reached.
+	 */
+	private static String fetchURL(String urlToRead) throws IOException {
+		return getBody(urlToRead, request(urlToRead, null));
+	}
+
+	/**
+	 * Sends a request to a URL, or gets the recorded response in replay mode.
+	 * @param urlToRead The URL to request.
+	 * @param headers Extra headers to send with the request, or null if there are none.
+	 * @return The response to the request.
+	 * @throws IOException If the URL can't be reached.
+	 */
+	private static HttpTransport.Response request(String urlToRead, Map<String, String> headers) throws IOException {
+		HttpFixtures fixtures = getFixtures();
+		if (fixtures == null) {
+			return sendWithRetries(urlToRead, headers);
+		} else if (fixtures.isReplaying()) {
+			return fixtures.get(urlToRead);
+		}
+		HttpTransport.Response response = sendWithRetries(urlToRead, headers);
+		fixtures.put(urlToRead, response);
+		return response;
+	}
+
+	/**
+	 * Gets the fixtures that responses are recorded to or replayed from, depending on the miner.http.mode property.
+	 * @return The fixtures for the current mode, or null if requests are sent normally.
+	 */
+	private static synchronized HttpFixtures getFixtures() {
+		if (!fixturesLoaded) {
+			String mode = System.getProperty("miner.http.mode", MODE_LIVE);
+			File archive = new File(System.getProperty("miner.http.fixtures", DEFAULT_FIXTURES));
+			if (MODE_RECORD.equals(mode)) {
+				HttpFixtures recordFixtures = HttpFixtures.record(archive);
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+					try {
+						recordFixtures.save();
+					} catch (IOException e) {
+						e.printStackTrace();
+					}
+				}));
+				fixtures = recordFixtures;
+			} else if (MODE_REPLAY.equals(mode)) {
+				HttpFixtures replayFixtures;
+				try {
+					replayFixtures = HttpFixtures.replay(archive);
+				} catch (IOException e) {
+					throw new IllegalStateException("Could not open fixtures " + archive, e);
 				}
-			} catch (FileNotFoundException e) {
-				System.out.println("Page not found: " + urlToRead);
-			} catch (IOException e) {
-				e.printStackTrace();
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+					try {
+						replayFixtures.close();
+					} catch (IOException e) {
+						e.printStackTrace();
+					}
+				}));
+				fixtures = replayFixtures;
+			} else if (!MODE_LIVE.equals(mode)) {
+				throw new IllegalArgumentException("Invalid miner.http.mode: " + mode);
+			}
+			fixturesLoaded = true;
+		}
+		return fixtures;
+	}
+
+	/**
+	 * Sends a request to a URL, waiting until the host is ready for another request. Requests that fail because of
+	 * connection errors or server errors are retried with increasing delays.
+	 * @param urlToRead The URL to request.
+	 * @param headers Extra headers to send with the request, or null if there are none.
+	 * @return The response to the request.
+	 * @throws IOException If the URL can't be reached.
+	 */
+	private static HttpTransport.Response sendWithRetries(String urlToRead, Map<String, String> headers)
+			throws IOException {
+		String host = new URL(urlToRead).getHost();
+		Semaphore permits = getHostPermits(host);
+		RateLimiter limiter = getHostLimiter(host);
+		int maxRetries = Integer.getInteger("miner.http.maxRetries", DEFAULT_MAX_RETRIES);
+		for (int attempt = 0;; attempt++) {
+			HttpTransport.Response response = null;
+			IOException failure = null;
+			try {
+				limiter.acquire();
+				permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for " + host);
+			}
+			try {
+				response = HttpTransport.getInstance().get(urlToRead, headers);
+			} catch (InterruptedIOException e) {
 				throw e;
+			} catch (IOException e) {
+				failure = e;
 			} finally {
-				try {
-					if (rd != null) {
-						rd.close();
-					}
-				} catch (IOException e) {
-					e.printStackTrace();
+				permits.release();
+			}
+
+			if (response != null && !isRetryable(response.status)) {
+				limiter.onSuccess();
+				depositRetry();
+				return response;
+			}
+			long delay = getRetryDelay(attempt);
+			if (response != null && (response.status == 429 || response.status == 503)) {
+				limiter.onThrottled();
+				long retryAfter = getRetryAfter(response.getHeader("Retry-After"));
+				if (retryAfter >= 0) {
+					delay = Math.min(retryAfter, MAX_RETRY_DELAY);
+					limiter.pause(delay);
 				}
 			}
-		} catch (IOException e) {
-			e.printStackTrace();
+			if (attempt >= maxRetries || !withdrawRetry()) {
+				if (failure != null) {
+					throw failure;
+				}
+				return response;
+			}
+			System.out.println("Retrying " + urlToRead + " in " + delay + " ms ("
+					+ (failure != null ? failure.getMessage() : "HTTP " + response.status) + ").");
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while retrying " + urlToRead);
+			}
+		}
+	}
+
+	/**
+	 * Checks if a request should be retried after receiving a certain status code.
+	 * @param status The HTTP status code of the response.
+	 * @return Whether the request should be retried.
+	 */
+	private static boolean isRetryable(int status) {
+		return status == 429 || status >= 500;
+	}
+
+	/**
+	 * Gets how long to wait before retrying a request. The delay doubles with each attempt and is randomized so
+	 * that parallel downloads don't retry at the same time.
+	 * @param attempt The number of times the request has already been retried.
+	 * @return How long to wait before retrying, in milliseconds.
+	 */
+	private static long getRetryDelay(int attempt) {
+		long delay = Math.min(MAX_RETRY_DELAY, BASE_RETRY_DELAY << Math.min(attempt, 20));
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+
+	/**
+	 * Reads a Retry-After header.
+	 * @param retryAfter The value of the header, in seconds or as an HTTP date.
+	 * @return How long the host asked to wait, in milliseconds, or -1 if the header is missing or invalid.
+	 */
+	private static long getRetryAfter(String retryAfter) {
+		if (retryAfter == null) {
+			return -1;
+		}
+		retryAfter = retryAfter.trim();
+		try {
+			return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter));
+		} catch (NumberFormatException e) {
+			try {
+				ZonedDateTime date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+				return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+			} catch (DateTimeParseException e2) {
+				return -1;
+			}
+		}
+	}
+
+	/**
+	 * Earns back part of a retry after a request succeeds.
+	 */
+	private static synchronized void depositRetry() {
+		retryBudget = Math.min(Integer.getInteger("miner.http.retryBudget", DEFAULT_RETRY_BUDGET),
+				retryBudget + RETRY_DEPOSIT);
+	}
+
+	/**
+	 * Uses up a retry from the budget shared by all requests.
+	 * @return Whether there was a retry left to use.
+	 */
+	private static synchronized boolean withdrawRetry() {
+		if (retryBudget < 1) {
+			return false;
+		}
+		retryBudget--;
+		return true;
+	}
+
+	/**
+	 * Gets the body of a response, checking for errors.
+	 * @param urlToRead The URL that was requested.
+	 * @param response The response to the request.
+	 * @return The response body, or an empty string if the page doesn't exist.
+	 * @throws IOException If the server returned an error.
+	 */
+	private static String getBody(String urlToRead, HttpTransport.Response response) throws IOException {
+		if (response.status == 404) {
+			System.out.println("Page not found: " + urlToRead);
+			return "";
+		} else if (response.status >= 400) {
+			throw new IOException("HTTP " + response.status + " for " + urlToRead);
+		}
+		return response.body;
+	}
+
+	/**
+	 * Gets the permits limiting the number of simultaneous requests to a host.
+	 * @param host The host to get permits for.
+	 * @return The permits for the host.
+	 */
+	private static Semaphore getHostPermits(String host) {
+		return hostPermits.computeIfAbsent(host,
+				h -> new Semaphore(Integer.getInteger("miner.fetch.perHost", DEFAULT_HOST_REQUESTS), true));
+	}
+
+	/**
+	 * Gets the rate limiter for requests to a host.
+	 * @param host The host to get the rate limiter for.
+	 * @return The rate limiter for the host.
+	 */
+	private static RateLimiter getHostLimiter(String host) {
+		return hostLimiters.computeIfAbsent(host, h -> {
+			double rate = Double.parseDouble(System.getProperty("miner.http.rate", Double.toString(DEFAULT_HOST_RATE)));
+			double maxRate = Math.max(rate, Double.parseDouble(
+					System.getProperty("miner.http.maxRate", Double.toString(DEFAULT_MAX_HOST_RATE))));
+			return new RateLimiter(rate, Math.min(rate, MIN_HOST_RATE), maxRate, Math.max(1, rate));
+		});
+	}
+
+	/**
+	 * Gets the executor used to download articles in parallel.
+	 * @return The executor used to download articles in parallel.
+	 */
+	public static synchronized ExecutorService getFetchExecutor() {
+		if (fetchExecutor == null) {
+			int threads = Integer.getInteger("miner.fetch.threads", DEFAULT_FETCH_THREADS);
+			fetchExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "Fetch");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return fetchExecutor;
+	}
+
+	/**
+	 * Downloads items in parallel.
+	 * @param names The names of the items to download.
+	 * @param fetcher Downloads a single item.
+	 * @return The downloaded items, in the same order as the names.
+	 */
+	public static <S, T> List<T> fetchAll(List<S> names, Function<S, T> fetcher) {
+		ExecutorService executor = getFetchExecutor();
+		List<Future<T>> futures = new ArrayList<>(names.size());
+		for (S name : names) {
+			futures.add(executor.submit(() -> fetcher.apply(name)));
+		}
+		List<T> results = new ArrayList<>(names.size());
+		for (Future<T> future : futures) {
+			results.add(getResult(future));
+		}
+		return results;
+	}
+
+	/**
+	 * Waits for the result of a download.
+	 * @param future The pending download.
+	 * @return The downloaded data.
+	 */
+	public static <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while downloading.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IllegalStateException(cause);
 		}
-		return result.toString();
 	}
 
 	/**
@@ -79,13 +463,81 @@ public class APIConnection {
 	}
 
 	/**
-	 * Gets the source for a wiki article.
+	 * Gets the source for a wiki article, using the memory cache if possible. If the article is already being
+	 * downloaded, waits for that download instead of starting another one.
+	 * @param wiki The name of the wiki in the article cache.
 	 * @param url The base URL of the wiki API.
 	 * @param articleName The name of the article.
 	 * @return The source for the article.
+	 * @throws IllegalStateException If the article can't be downloaded and isn't cached.
 	 */
-	private static String getArticleSourceURL(String url, String articleName) {
-		return getURL(url + StringUtil.convertSpaces(articleName));
+	private static String getArticleSourceURL(String wiki, String url, String articleName) {
+		ArticleMemoryCache memory = getMemoryCache();
+		if (memory == null) {
+			return loadArticleSourceURL(wiki, url, articleName);
+		}
+		return memory.get(getMemoryKey(wiki, articleName), () -> loadArticleSourceURL(wiki, url, articleName));
+	}
+
+	/**
+	 * Gets the source for a wiki article, using the article cache if possible. Outdated cached articles are
+	 * downloaded again only if the wiki reports that they have changed.
+	 * @param wiki The name of the wiki in the article cache.
+	 * @param url The base URL of the wiki API.
+	 * @param articleName The name of the article.
+	 * @return The source for the article.
+	 * @throws IllegalStateException If the article can't be downloaded and isn't cached.
+	 */
+	private static String loadArticleSourceURL(String wiki, String url, String articleName) {
+		DumpArticleSource dump = BULBAPEDIA.equals(wiki) ? getDumpSource() : null;
+		String dumped = dump == null ? null : dump.getArticleSource(articleName);
+		if (dumped != null) {
+			return dumped;
+		}
+		ArticleCache cache = getArticleCache();
+		ArticleCache.Entry entry = cache == null ? null : cache.getEntry(wiki, articleName);
+		String cached = entry == null ? null : cache.getContents(entry);
+		if (cached != null && entry.isFresh()) {
+			return cached;
+		}
+		String articleURL = url + StringUtil.convertSpaces(articleName);
+		String source;
+		HttpTransport.Response response;
+		try {
+			response = request(articleURL, cached == null ? null : getConditionalHeaders(entry));
+			if (response.status == 304 && cached != null) {
+				cache.touch(wiki, articleName);
+				return cached;
+			}
+			source = getBody(articleURL, response);
+		} catch (IOException e) {
+			if (cached != null && cache.isStaleOk()) {
+				System.out.println("Using cached copy of " + articleName + ".");
+				return cached;
+			}
+			throw new IllegalStateException("Could not download " + articleName, e);
+		}
+		if (cache != null && !source.isEmpty()) {
+			cache.put(wiki, articleName, ArticleCache.UNKNOWN_REVISION, response.getHeader("ETag"),
+					response.getHeader("Last-Modified"), source);
+		}
+		return source;
+	}
+
+	/**
+	 * Gets the headers that ask the wiki to skip sending an article if it hasn't changed since it was cached.
+	 * @param entry The cache entry for the article.
+	 * @return The conditional request headers for the article.
+	 */
+	private static Map<String, String> getConditionalHeaders(ArticleCache.Entry entry) {
+		Map<String, String> headers = new HashMap<>();
+		if (entry.etag != null) {
+			headers.put("If-None-Match", entry.etag);
+		}
+		if (entry.lastModified != null) {
+			headers.put("If-Modified-Since", entry.lastModified);
+		}
+		return headers;
 	}
 
 	/**
@@ -94,7 +546,7 @@ public class APIConnection {
 	 * @return The source for the article.
 	 */
 	public static String getArticleSource(String articleName) {
-		return getArticleSourceURL(ARTICLE_URL, articleName);
+		return getArticleSourceURL(BULBAPEDIA, ARTICLE_URL, articleName);
 	}
 
 	/**
@@ -103,7 +555,554 @@ public class APIConnection {
 	 * @return The source for the article.
 	 */
 	public static String getArticleSourcePixelmon(String articleName) {
-		return getArticleSourceURL(PIXELMON_API, articleName);
+		return getArticleSourceURL(PIXELMON, PIXELMON_API, articleName);
+	}
+
+	/**
+	 * Gets the sources for multiple Bulbapedia articles, downloading them in parallel.
+	 * @param articleNames The names of the articles.
+	 * @return The sources for the articles, in the same order as the names.
+	 */
+	public static List<String> fetchArticleSources(List<String> articleNames) {
+		Map<String, String> sources = getArticleSources(articleNames);
+		List<String> sourceList = new ArrayList<>(articleNames.size());
+		for (String articleName : articleNames) {
+			sourceList.add(sources.get(articleName));
+		}
+		return sourceList;
+	}
+
+	/**
+	 * Gets the sources for multiple Bulbapedia articles, querying up to 50 articles per request. Articles that are
+	 * already being downloaded by another thread are not downloaded again.
+	 * @param articleNames The names of the articles.
+	 * @return A map from the requested article names to their sources, in the order the names were given.
+	 * Articles that don't exist have empty sources.
+	 */
+	public static Map<String, String> getArticleSources(Collection<String> articleNames) {
+		ArticleMemoryCache memory = getMemoryCache();
+		Map<String, String> sources = new LinkedHashMap<>();
+		Map<String, CompletableFuture<String>> claimed = new HashMap<>();
+		Map<String, CompletableFuture<String>> waiting = new HashMap<>();
+		List<String> toLoad = new ArrayList<>();
+		for (String articleName : articleNames) {
+			if (sources.containsKey(articleName)) {
+				continue;
+			}
+			String cached = memory == null ? null : memory.getIfPresent(getMemoryKey(BULBAPEDIA, articleName));
+			sources.put(articleName, cached);
+			if (cached != null) {
+				continue;
+			}
+			CompletableFuture<String> download = new CompletableFuture<>();
+			CompletableFuture<String> existing = memory == null ? null
+					: memory.claim(getMemoryKey(BULBAPEDIA, articleName), download);
+			if (existing != null) {
+				waiting.put(articleName, existing);
+			} else {
+				claimed.put(articleName, download);
+				toLoad.add(articleName);
+			}
+		}
+
+		Map<String, String> loaded;
+		try {
+			loaded = loadArticleSources(toLoad);
+		} catch (RuntimeException e) {
+			if (memory != null) {
+				claimed.forEach((articleName, download) -> memory.fail(getMemoryKey(BULBAPEDIA, articleName),
+						download, e));
+			}
+			throw e;
+		}
+		sources.putAll(loaded);
+		if (memory != null) {
+			claimed.forEach((articleName, download) -> memory.complete(getMemoryKey(BULBAPEDIA, articleName),
+					download, loaded.get(articleName)));
+		}
+		waiting.forEach((articleName, download) -> sources.put(articleName, getResult(download)));
+		return sources;
+	}
+
+	/**
+	 * Gets the sources for multiple Bulbapedia articles from the caches or from Bulbapedia.
+	 * @param articleNames The names of the articles.
+	 * @return A map from the requested article names to their sources.
+	 */
+	private static Map<String, String> loadArticleSources(List<String> articleNames) {
+		Map<String, String> sources = new HashMap<>();
+		List<String> uncached = getCachedSources(articleNames, sources);
+		List<List<String>> batches = new ArrayList<>();
+		for (int i = 0; i < uncached.size(); i += BATCH_SIZE) {
+			batches.add(uncached.subList(i, Math.min(i + BATCH_SIZE, uncached.size())));
+		}
+		for (Map<String, String> batchSources : fetchAll(batches, APIConnection::getRevisionBatch)) {
+			sources.putAll(batchSources);
+		}
+		return sources;
+	}
+
+	/**
+	 * Adds the up-to-date cached sources for Bulbapedia articles to a map, including articles in the XML dump if one
+	 * is used. Outdated cached articles with a known revision are checked against the latest revision on Bulbapedia
+	 * and used if they haven't changed.
+	 * @param articleNames The names of the articles.
+	 * @param sources The map to add sources to. Articles that aren't cached are added with null sources.
+	 * @return The names of the articles that aren't cached.
+	 */
+	private static List<String> getCachedSources(Collection<String> articleNames, Map<String, String> sources) {
+		ArticleCache cache = getArticleCache();
+		ArticleMemoryCache memory = getMemoryCache();
+		DumpArticleSource dump = getDumpSource();
+		List<String> uncached = new ArrayList<>();
+		Map<String, ArticleCache.Entry> outdated = new LinkedHashMap<>();
+		for (String articleName : articleNames) {
+			if (sources.containsKey(articleName)) {
+				continue;
+			}
+			String remembered = memory == null ? null : memory.getIfPresent(getMemoryKey(BULBAPEDIA, articleName));
+			if (remembered == null && dump != null) {
+				remembered = dump.getArticleSource(articleName);
+			}
+			if (remembered != null) {
+				sources.put(articleName, remembered);
+				continue;
+			}
+			ArticleCache.Entry entry = cache == null ? null : cache.getEntry(BULBAPEDIA, articleName);
+			String cached = null;
+			if (entry != null && entry.isFresh()) {
+				cached = cache.getContents(entry);
+				rememberSource(BULBAPEDIA, articleName, cached);
+			} else if (entry != null && entry.revision != ArticleCache.UNKNOWN_REVISION) {
+				outdated.put(articleName, entry);
+			}
+			sources.put(articleName, cached);
+			if (cached == null && !outdated.containsKey(articleName)) {
+				uncached.add(articleName);
+			}
+		}
+		if (outdated.isEmpty()) {
+			return uncached;
+		}
+
+		Map<String, Long> latestRevisions = getLatestRevisions(new ArrayList<>(outdated.keySet()));
+		for (Map.Entry<String, ArticleCache.Entry> outdatedEntry : outdated.entrySet()) {
+			String articleName = outdatedEntry.getKey();
+			Long latestRevision = latestRevisions.get(articleName);
+			String cached = null;
+			if (latestRevision != null && latestRevision == outdatedEntry.getValue().revision) {
+				cached = cache.getContents(outdatedEntry.getValue());
+			}
+			if (cached == null) {
+				uncached.add(articleName);
+			} else {
+				cache.touch(BULBAPEDIA, articleName);
+				rememberSource(BULBAPEDIA, articleName, cached);
+				sources.put(articleName, cached);
+			}
+		}
+		return uncached;
+	}
+
+	/**
+	 * Gets the latest revision IDs of Bulbapedia articles without downloading their sources.
+	 * @param articleNames The names of the articles.
+	 * @return A map from article names to their latest revision IDs. Articles that don't exist or couldn't be
+	 * checked are left out.
+	 */
+	public static Map<String, Long> getLatestRevisions(List<String> articleNames) {
+		Map<String, Long> revisions = new HashMap<>();
+		for (int i = 0; i < articleNames.size(); i += BATCH_SIZE) {
+			List<String> batch = articleNames.subList(i, Math.min(i + BATCH_SIZE, articleNames.size()));
+			Map<String, String> resolvedTitles = new HashMap<>();
+			Map<String, Long> pageRevisions = new HashMap<>();
+			String url = INFO_API + URLEncoder.encode(String.join("|", batch), StandardCharsets.UTF_8);
+			try {
+				JSONObject query = new JSONObject(fetchURL(url)).optJSONObject("query");
+				if (query == null) {
+					continue;
+				}
+				addTitleMappings(resolvedTitles, query.optJSONArray("normalized"));
+				addTitleMappings(resolvedTitles, query.optJSONArray("redirects"));
+				JSONArray pages = query.optJSONArray("pages");
+				int numPages = pages == null ? 0 : pages.length();
+				for (int j = 0; j < numPages; j++) {
+					JSONObject page = pages.getJSONObject(j);
+					if (page.has("lastrevid")) {
+						pageRevisions.put(page.getString("title"), page.getLong("lastrevid"));
+					}
+				}
+			} catch (IOException e) {
+				e.printStackTrace();
+				continue;
+			}
+			for (String articleName : batch) {
+				Long revision = pageRevisions.get(resolveTitle(resolvedTitles, articleName));
+				if (revision != null) {
+					revisions.put(articleName, revision);
+				}
+			}
+		}
+		return revisions;
+	}
+
+	/**
+	 * Gets the sources for up to 50 Bulbapedia articles in a single query.
+	 * @param articleNames The names of the articles.
+	 * @return A map from the requested article names to their sources.
+	 */
+	private static Map<String, String> getRevisionBatch(List<String> articleNames) {
+		if (articleNames.isEmpty()) {
+			return new HashMap<>();
+		}
+		Map<String, String> resolvedTitles = new HashMap<>();
+		Map<String, String> pageSources = new HashMap<>();
+		Map<String, Long> pageRevisions = new HashMap<>();
+		String url = REVISIONS_API + URLEncoder.encode(String.join("|", articleNames), StandardCharsets.UTF_8);
+		String continueParameters = "";
+		try {
+			while (continueParameters != null) {
+				JSONObject json = new JSONObject(fetchURL(url + continueParameters));
+				JSONObject query = json.optJSONObject("query");
+				if (query != null) {
+					addTitleMappings(resolvedTitles, query.optJSONArray("normalized"));
+					addTitleMappings(resolvedTitles, query.optJSONArray("redirects"));
+					JSONArray pages = query.optJSONArray("pages");
+					int numPages = pages == null ? 0 : pages.length();
+					for (int i = 0; i < numPages; i++) {
+						JSONObject page = pages.getJSONObject(i);
+						JSONArray revisions = page.optJSONArray("revisions");
+						if (revisions == null || revisions.length() == 0) {
+							continue;
+						}
+						JSONObject revision = revisions.getJSONObject(0);
+						String title = page.getString("title");
+						pageSources.put(title, revision.getJSONObject("slots").getJSONObject("main").getString("content"));
+						pageRevisions.put(title, revision.getLong("revid"));
+					}
+				}
+				continueParameters = getContinueParameters(json);
+			}
+		} catch (IOException e) {
+			return getStaleSources(articleNames, e);
+		}
+
+		ArticleCache cache = getArticleCache();
+		Map<String, String> sources = new HashMap<>();
+		for (String articleName : articleNames) {
+			String title = resolveTitle(resolvedTitles, articleName);
+			String source = pageSources.get(title);
+			if (source == null) {
+				System.out.println("Page not found: " + articleName);
+				source = "";
+			} else if (cache != null) {
+				cache.put(BULBAPEDIA, articleName, pageRevisions.get(title), source);
+			}
+			rememberSource(BULBAPEDIA, articleName, source);
+			sources.put(articleName, source);
+		}
+		return sources;
+	}
+
+	/**
+	 * Adds title mappings from a query to a map.
+	 * @param titleMap The map to add mappings to.
+	 * @param mappings The normalized or redirected titles returned by a query.
+	 */
+	private static void addTitleMappings(Map<String, String> titleMap, JSONArray mappings) {
+		int numMappings = mappings == null ? 0 : mappings.length();
+		for (int i = 0; i < numMappings; i++) {
+			JSONObject mapping = mappings.getJSONObject(i);
+			titleMap.put(mapping.getString("from"), mapping.getString("to"));
+		}
+	}
+
+	/**
+	 * Follows normalized and redirected titles to the title of the page that was returned.
+	 * @param titleMap Maps titles to their normalized or redirected forms.
+	 * @param title The title that was requested.
+	 * @return The title of the page that was returned.
+	 */
+	private static String resolveTitle(Map<String, String> titleMap, String title) {
+		for (int i = 0; i < 2 && titleMap.containsKey(title); i++) {
+			title = titleMap.get(title);
+		}
+		return title;
+	}
+
+	/**
+	 * Gets the parameters needed to continue a query.
+	 * @param json The JSON returned by the query.
+	 * @return The parameters to add to the query URL, or null if the query is complete.
+	 */
+	private static String getContinueParameters(JSONObject json) {
+		JSONObject continueJSON = json.optJSONObject("continue");
+		if (continueJSON == null) {
+			return null;
+		}
+		StringBuilder parameters = new StringBuilder();
+		for (String key : continueJSON.keySet()) {
+			parameters.append('&');
+			parameters.append(key);
+			parameters.append('=');
+			parameters.append(URLEncoder.encode(continueJSON.getString(key), StandardCharsets.UTF_8));
+		}
+		return parameters.toString();
+	}
+
+	/**
+	 * Gets cached article sources for when Bulbapedia can't be reached.
+	 * @param articleNames The names of the articles.
+	 * @param failure The error that occurred when trying to reach Bulbapedia.
+	 * @return A map from article names to their cached sources.
+	 * @throws IllegalStateException If any of the articles aren't cached.
+	 */
+	private static Map<String, String> getStaleSources(List<String> articleNames, IOException failure) {
+		ArticleCache cache = getArticleCache();
+		Map<String, String> sources = new HashMap<>();
+		for (String articleName : articleNames) {
+			String stale = cache != null && cache.isStaleOk() ? cache.getStale(BULBAPEDIA, articleName) : null;
+			if (stale == null) {
+				throw new IllegalStateException("Could not download " + articleName, failure);
+			}
+			System.out.println("Using cached copy of " + articleName + ".");
+			sources.put(articleName, stale);
+		}
+		return sources;
+	}
+
+	/**
+	 * Gets data parsed from Bulbapedia articles, reusing results cached for the articles' current revisions. Only
+	 * articles without a cached result are downloaded and parsed.
+	 * @param articleNames The names of the articles.
+	 * @param kind The name of the parsed data in the cache.
+	 * @param version The version of the parser. Results cached by other versions are parsed again.
+	 * @param codec Converts the parsed data to and from its cached form.
+	 * @param parser Parses the source of an article.
+	 * @return The parsed data for each article, in the same order as the names.
+	 */
+	public static <T> List<T> getParsedArticles(List<String> articleNames, String kind, int version,
+			ParsedArticleCache.Codec<T> codec, Function<String, T> parser) {
+		return loadParsedArticles(articleNames, kind, version, codec, (articleName, source) -> parser.apply(source));
+	}
+
+	/**
+	 * Gets data parsed from each top-level section of Bulbapedia articles. Articles whose revision hasn't changed
+	 * aren't downloaded, and only the sections that changed since the last parsed revision are parsed again.
+	 * @param articleNames The names of the articles.
+	 * @param kind The name of the parsed data in the cache.
+	 * @param version The version of the parser. Results cached by other versions are parsed again.
+	 * @param codec Converts the parsed data for a section to and from its cached form.
+	 * @param parser Parses the heading and text of a section. The heading is null for the lead section. Must not
+	 *            return null.
+	 * @return The parsed data for each section of each article, in the same order as the names.
+	 */
+	public static <T> List<List<T>> getParsedSections(List<String> articleNames, String kind, int version,
+			ParsedArticleCache.Codec<T> codec, BiFunction<String, CharSlice, T> parser) {
+		ParsedArticleCache parsed = getParsedCache();
+		ParsedArticleCache.Codec<ParsedArticleCache.SectionResults<T>> sectionCodec = ParsedArticleCache
+				.getSectionCodec(codec);
+		List<ParsedArticleCache.SectionResults<T>> articles = loadParsedArticles(articleNames, kind, version,
+				sectionCodec, (articleName, source) -> {
+					ParsedArticleCache.SectionResults<T> previous = parsed == null ? null
+							: parsed.getAnyRevision(kind, articleName, version, sectionCodec);
+					return ParsedArticleCache.parseSections(source, previous, parser);
+				});
+		List<List<T>> results = new ArrayList<>(articles.size());
+		for (ParsedArticleCache.SectionResults<T> article : articles) {
+			results.add(article.results);
+		}
+		return results;
+	}
+
+	/**
+	 * Gets data parsed from Bulbapedia articles, reusing results cached for the articles' current revisions.
+	 * @param articleNames The names of the articles.
+	 * @param kind The name of the parsed data in the cache.
+	 * @param version The version of the parser.
+	 * @param codec Converts the parsed data to and from its cached form.
+	 * @param parser Parses the name and source of an article.
+	 * @return The parsed data for each article, in the same order as the names.
+	 */
+	private static <T> List<T> loadParsedArticles(List<String> articleNames, String kind, int version,
+			ParsedArticleCache.Codec<T> codec, BiFunction<String, String, T> parser) {
+		ParsedArticleCache parsed = getParsedCache();
+		Map<String, T> results = new HashMap<>();
+		List<String> unparsed = new ArrayList<>();
+		if (parsed == null) {
+			unparsed.addAll(articleNames);
+		} else {
+			Map<String, Long> revisions = getCurrentRevisions(articleNames);
+			for (String articleName : articleNames) {
+				Long revision = revisions.get(articleName);
+				T cached = revision == null ? null : parsed.get(kind, articleName, revision, version, codec);
+				if (cached == null) {
+					unparsed.add(articleName);
+				} else {
+					results.put(articleName, cached);
+				}
+			}
+		}
+
+		List<String> sources = fetchArticleSources(unparsed);
+		ArticleCache cache = getArticleCache();
+		DumpArticleSource dump = getDumpSource();
+		for (int i = 0; i < unparsed.size(); i++) {
+			String articleName = unparsed.get(i);
+			T result;
+			try {
+				result = parser.apply(articleName, sources.get(i));
+			} catch (RuntimeException e) {
+				System.out.println("Could not parse " + articleName + ".");
+				throw e;
+			}
+			results.put(articleName, result);
+			if (parsed == null || result == null || dump != null && dump.contains(articleName)) {
+				continue;
+			}
+			ArticleCache.Entry entry = cache.getEntry(BULBAPEDIA, articleName);
+			if (entry != null && entry.revision != ArticleCache.UNKNOWN_REVISION) {
+				parsed.put(kind, articleName, entry.revision, version, codec, result);
+			}
+		}
+
+		List<T> resultList = new ArrayList<>(articleNames.size());
+		for (String articleName : articleNames) {
+			resultList.add(results.get(articleName));
+		}
+		return resultList;
+	}
+
+	/**
+	 * Gets the current revision IDs of Bulbapedia articles. Up-to-date cached articles use the revision they were
+	 * cached at, and the rest are checked against Bulbapedia without downloading their sources.
+	 * @param articleNames The names of the articles.
+	 * @return A map from article names to their current revision IDs. Articles that are read from the XML dump or
+	 * whose revision couldn't be found are left out.
+	 */
+	private static Map<String, Long> getCurrentRevisions(List<String> articleNames) {
+		ArticleCache cache = getArticleCache();
+		DumpArticleSource dump = getDumpSource();
+		Map<String, Long> revisions = new HashMap<>();
+		List<String> unknown = new ArrayList<>();
+		for (String articleName : articleNames) {
+			if (dump != null && dump.contains(articleName) || revisions.containsKey(articleName)) {
+				continue;
+			}
+			ArticleCache.Entry entry = cache.getEntry(BULBAPEDIA, articleName);
+			if (entry != null && entry.isFresh() && entry.revision != ArticleCache.UNKNOWN_REVISION) {
+				revisions.put(articleName, entry.revision);
+			} else if (!unknown.contains(articleName)) {
+				unknown.add(articleName);
+			}
+		}
+		revisions.putAll(getLatestRevisions(unknown));
+		return revisions;
+	}
+
+	/**
+	 * Gets the XML dump that Bulbapedia articles are read from, opening the dump named by the miner.dump.file
+	 * property the first time it is needed.
+	 * @return The dump that articles are read from, or null if articles are downloaded.
+	 */
+	public static synchronized DumpArticleSource getDumpSource() {
+		if (!dumpLoaded) {
+			String dumpFile = System.getProperty("miner.dump.file");
+			if (dumpFile != null) {
+				try {
+					dumpSource = new DumpArticleSource(new File(dumpFile));
+				} catch (IOException e) {
+					throw new IllegalStateException("Could not read dump " + dumpFile, e);
+				}
+			}
+			dumpLoaded = true;
+		}
+		return dumpSource;
+	}
+
+	/**
+	 * Gets the cache that keeps recently used articles in memory. Creates the cache from system properties if it
+	 * hasn't been created yet.
+	 * @return The memory cache, or null if it is disabled.
+	 */
+	public static synchronized ArticleMemoryCache getMemoryCache() {
+		if (!memoryCacheLoaded) {
+			long maxMegabytes = Long.getLong("miner.memoryCache.mb", DEFAULT_MEMORY_CACHE_MB);
+			if (maxMegabytes > 0) {
+				memoryCache = new ArticleMemoryCache(maxMegabytes << 20);
+			}
+			memoryCacheLoaded = true;
+		}
+		return memoryCache;
+	}
+
+	/**
+	 * Gets the key of an article in the memory cache.
+	 * @param wiki The name of the wiki that the article is on.
+	 * @param articleName The name of the article.
+	 * @return The key of the article in the memory cache.
+	 */
+	private static String getMemoryKey(String wiki, String articleName) {
+		return wiki + ':' + articleName;
+	}
+
+	/**
+	 * Adds an article to the memory cache if it is enabled.
+	 * @param wiki The name of the wiki that the article is on.
+	 * @param articleName The name of the article.
+	 * @param source The source of the article.
+	 */
+	private static void rememberSource(String wiki, String articleName, String source) {
+		ArticleMemoryCache memory = getMemoryCache();
+		if (memory != null && source != null) {
+			memory.put(getMemoryKey(wiki, articleName), source);
+		}
+	}
+
+	/**
+	 * Gets the cache that downloaded articles are stored in. Creates the cache from system properties if it hasn't
+	 * been set. Caching is disabled when recording or replaying so that every request goes through the fixtures.
+	 * @return The article cache, or null if caching is disabled.
+	 */
+	public static synchronized ArticleCache getArticleCache() {
+		if (!cacheLoaded) {
+			if (Boolean.parseBoolean(System.getProperty("miner.cache.enabled", "true")) && getFixtures() == null) {
+				File directory = new File(System.getProperty("miner.cache.dir", DEFAULT_CACHE_DIRECTORY));
+				long timeToLive = TimeUnit.HOURS.toMillis(
+						Long.parseLong(System.getProperty("miner.cache.ttlHours", Long.toString(DEFAULT_CACHE_HOURS))));
+				boolean staleOk = Boolean.parseBoolean(System.getProperty("miner.cache.staleOk", "true"));
+				articleCache = new ArticleCache(directory, timeToLive, staleOk);
+			}
+			cacheLoaded = true;
+		}
+		return articleCache;
+	}
+
+	/**
+	 * Gets the cache that data parsed from articles is stored in. The parsed data is stored in a folder inside the
+	 * article cache, so it is disabled whenever the article cache is.
+	 * @return The parsed article cache, or null if it is disabled.
+	 */
+	public static synchronized ParsedArticleCache getParsedCache() {
+		if (!parsedCacheLoaded) {
+			ArticleCache cache = getArticleCache();
+			if (cache != null && Boolean.parseBoolean(System.getProperty("miner.parseCache.enabled", "true"))) {
+				parsedCache = new ParsedArticleCache(new File(cache.getDirectory(), PARSED_FOLDER));
+			}
+			parsedCacheLoaded = true;
+		}
+		return parsedCache;
+	}
+
+	/**
+	 * Sets the cache that downloaded articles are stored in.
+	 * @param cache The article cache to use, or null to disable caching.
+	 */
+	public static synchronized void setArticleCache(ArticleCache cache) {
+		articleCache = cache;
+		cacheLoaded = true;
+		parsedCacheLoaded = false;
+		parsedCache = null;
 	}
 
 	/**
@@ -116,17 +1115,19 @@ public class APIConnection {
 	}
 
 	/**
-	 * Gets all elements of a certain type of item in certain Generations.
+	 * Gets all elements of a certain type of item in certain Generations. The Generation categories are downloaded
+	 * in parallel.
 	 * @param generations The Generations to get items from.
 	 * @return The names of items in certain Generations.
 	 */
 	public static List<String> getGenerationItems(String type, String... generations) {
-		List<String> pokemonList = new ArrayList<>();
+		List<String> categories = new ArrayList<>(generations.length);
 		for (String generation : generations) {
-			String[] generationList = getCategoryMembers("Generation_" + generation + "_" + type);
-			for (String pokemon : generationList) {
-				pokemonList.add(pokemon);
-			}
+			categories.add("Generation_" + generation + "_" + type);
+		}
+		List<String> pokemonList = new ArrayList<>();
+		for (String[] generationList : fetchAll(categories, APIConnection::getCategoryMembers)) {
+			Collections.addAll(pokemonList, generationList);
 		}
 		return pokemonList;
 	}
@@ -137,15 +1138,48 @@ public class APIConnection {
 	 * @return The names of articles that are members of the category.
 	 */
 	public static String[] getCategoryMembers(String categoryName) {
-		JSONObject json = getJSONFromURL(CATEGORY_API + categoryName);
-		json = json.getJSONObject("query");
-		JSONArray array = json.getJSONArray("categorymembers");
-		int numMembers = array.length();
-		String[] members = new String[numMembers];
-		for (int i = 0; i < numMembers; i++) {
-			members[i] = array.getJSONObject(i).getString("title");
+		return getCategoryMemberStream(categoryName).toArray(String[]::new);
+	}
+
+	/**
+	 * Gets the names of articles that are members of a category. Members are downloaded a page at a time as the
+	 * stream is read.
+	 * @param categoryName The name of the category to get members for.
+	 * @return The names of articles that are members of the category.
+	 */
+	public static Stream<String> getCategoryMemberStream(String categoryName) {
+		Spliterator<String> spliterator = Spliterators.spliteratorUnknownSize(new CategoryIterator(categoryName),
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(spliterator, false);
+	}
+
+	/**
+	 * Gets the sources for Bulbapedia articles as their names are read. Each group of 50 names starts downloading as
+	 * soon as it is read, so downloads overlap with reading the rest of the names.
+	 * @param articleNames The names of the articles.
+	 * @param consumer Receives each article name and its source, in the same order as the names.
+	 */
+	public static void forEachArticleSource(Iterator<String> articleNames, BiConsumer<String, String> consumer) {
+		ExecutorService executor = getFetchExecutor();
+		Deque<Future<Map<String, String>>> pending = new ArrayDeque<>();
+		while (articleNames.hasNext()) {
+			List<String> batch = new ArrayList<>(BATCH_SIZE);
+			while (batch.size() < BATCH_SIZE && articleNames.hasNext()) {
+				batch.add(articleNames.next());
+			}
+			Map<String, String> sources = new LinkedHashMap<>();
+			List<String> uncached = getCachedSources(batch, sources);
+			pending.add(CompletableFuture.supplyAsync(() -> getRevisionBatch(uncached), executor).thenApply(fetched -> {
+				sources.putAll(fetched);
+				return sources;
+			}));
+			while (!pending.isEmpty() && pending.peek().isDone()) {
+				getResult(pending.poll()).forEach(consumer);
+			}
+		}
+		while (!pending.isEmpty()) {
+			getResult(pending.poll()).forEach(consumer);
 		}
-		return members;
 	}
 
 	/**
@@ -156,4 +1190,45 @@ public class APIConnection {
 		return getCategoryMembers("Generation_VI_Pokémon");
 	}
 
+	/**
+	 * Reads the members of a category, downloading the next page of members when the current page runs out.
+	 */
+	private static class CategoryIterator implements Iterator<String> {
+
+		/** The name of the category to get members for. */
+		private String categoryName;
+		/** The members on the current page. */
+		private JSONArray members;
+		/** The index of the next member on the current page. */
+		private int memberIndex;
+		/** The parameters to get the next page with, or null if there are no more pages. */
+		private String continueParameters = "";
+
+		/**
+		 * Initializes the iterator.
+		 * @param categoryName The name of the category to get members for.
+		 */
+		private CategoryIterator(String categoryName) {
+			this.categoryName = categoryName;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ((members == null || memberIndex >= members.length()) && continueParameters != null) {
+				JSONObject json = getJSONFromURL(CATEGORY_API + categoryName + continueParameters);
+				members = json.getJSONObject("query").getJSONArray("categorymembers");
+				memberIndex = 0;
+				continueParameters = getContinueParameters(json);
+			}
+			return members != null && memberIndex < members.length();
+		}
+
+		@Override
+		public String next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return members.getJSONObject(memberIndex++).getString("title");
+		}
+	}
 }
@@ -0,0 +1,318 @@
+package util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+/**
+ * Stores downloaded wiki articles on disk so that later runs do not need to download them again.
+ * Article contents are stored by the hash of their contents, and each wiki article has an entry pointing to its
+ * current contents and revision.
+ */
+public class ArticleCache {
+
+	/** The name of the folder that article contents are stored in. */
+	private static final String OBJECT_FOLDER = "objects";
+	/** The name of the folder that article entries are stored in. */
+	private static final String ENTRY_FOLDER = "entries";
+
+	/** Entry key for the title of the article. */
+	private static final String KEY_TITLE = "title";
+	/** Entry key for the revision ID of the article. */
+	private static final String KEY_REVISION = "revision";
+	/** Entry key for the hash of the article contents. */
+	private static final String KEY_HASH = "hash";
+	/** Entry key for the time that the article was last fetched. */
+	private static final String KEY_FETCHED = "fetched";
+	/** Entry key for the ETag header sent with the article. */
+	private static final String KEY_ETAG = "etag";
+	/** Entry key for the Last-Modified header sent with the article. */
+	private static final String KEY_LAST_MODIFIED = "lastModified";
+
+	/** Revision ID used when the revision of an article is not known. */
+	public static final long UNKNOWN_REVISION = -1;
+
+	/** The folder that the cache is stored in. */
+	private File directory;
+	/** How long an entry is considered up to date, in milliseconds. */
+	private long timeToLive;
+	/** Whether outdated entries can be used if the wiki can't be reached. */
+	private boolean staleOk;
+
+	/**
+	 * Initializes the cache.
+	 * @param directory The folder to store the cache in.
+	 * @param timeToLive How long an entry is considered up to date, in milliseconds.
+	 * @param staleOk Whether outdated entries can be used if the wiki can't be reached.
+	 */
+	public ArticleCache(File directory, long timeToLive, boolean staleOk) {
+		this.directory = directory;
+		this.timeToLive = timeToLive;
+		this.staleOk = staleOk;
+	}
+
+	/**
+	 * Gets the folder that the cache is stored in.
+	 * @return The folder that the cache is stored in.
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Checks whether outdated entries can be used if the wiki can't be reached.
+	 * @return Whether outdated entries can be used if the wiki can't be reached.
+	 */
+	public boolean isStaleOk() {
+		return staleOk;
+	}
+
+	/**
+	 * Gets the cached source for an article, regardless of how old it is.
+	 * @param wiki The wiki that the article is on.
+	 * @param title The title of the article.
+	 * @return The cached source for the article, or null if the article hasn't been cached.
+	 */
+	public String getStale(String wiki, String title) {
+		Entry entry = getEntry(wiki, title);
+		return entry == null ? null : getContents(entry);
+	}
+
+	/**
+	 * Stores the source for an article.
+	 * @param wiki The wiki that the article is on.
+	 * @param title The title of the article.
+	 * @param revision The revision ID of the article, or UNKNOWN_REVISION if it isn't known.
+	 * @param contents The source for the article.
+	 */
+	public void put(String wiki, String title, long revision, String contents) {
+		put(wiki, title, revision, null, null, contents);
+	}
+
+	/**
+	 * Stores the source for an article along with the headers used to check if it has changed.
+	 * @param wiki The wiki that the article is on.
+	 * @param title The title of the article.
+	 * @param revision The revision ID of the article, or UNKNOWN_REVISION if it isn't known.
+	 * @param etag The ETag header sent with the article, or null if there wasn't one.
+	 * @param lastModified The Last-Modified header sent with the article, or null if there wasn't one.
+	 * @param contents The source for the article.
+	 */
+	public void put(String wiki, String title, long revision, String etag, String lastModified, String contents) {
+		byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+		String hash = hash(bytes);
+		try {
+			File objectFile = getObjectFile(hash);
+			if (!objectFile.exists()) {
+				writeAtomic(objectFile, bytes);
+			}
+			Properties properties = new Properties();
+			properties.setProperty(KEY_TITLE, title);
+			properties.setProperty(KEY_REVISION, Long.toString(revision));
+			properties.setProperty(KEY_HASH, hash);
+			properties.setProperty(KEY_FETCHED, Long.toString(System.currentTimeMillis()));
+			if (etag != null) {
+				properties.setProperty(KEY_ETAG, etag);
+			}
+			if (lastModified != null) {
+				properties.setProperty(KEY_LAST_MODIFIED, lastModified);
+			}
+			writeEntry(getEntryFile(wiki, title), properties);
+		} catch (IOException e) {
+			System.out.println("Could not cache " + title + ".");
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Marks a cached article as up to date after the wiki confirmed that it hasn't changed.
+	 * @param wiki The wiki that the article is on.
+	 * @param title The title of the article.
+	 */
+	public void touch(String wiki, String title) {
+		Properties properties = loadEntry(wiki, title);
+		if (properties == null) {
+			return;
+		}
+		properties.setProperty(KEY_FETCHED, Long.toString(System.currentTimeMillis()));
+		try {
+			writeEntry(getEntryFile(wiki, title), properties);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Gets the cache entry for an article.
+	 * @param wiki The wiki that the article is on.
+	 * @param title The title of the article.
+	 * @return The cache entry for the article, or null if the article hasn't been cached.
+	 */
+	public Entry getEntry(String wiki, String title) {
+		Properties properties = loadEntry(wiki, title);
+		if (properties == null) {
+			return null;
+		}
+		Entry entry = new Entry();
+		entry.revision = Long.parseLong(properties.getProperty(KEY_REVISION, Long.toString(UNKNOWN_REVISION)));
+		entry.hash = properties.getProperty(KEY_HASH);
+		entry.fetched = Long.parseLong(properties.getProperty(KEY_FETCHED, "0"));
+		entry.etag = properties.getProperty(KEY_ETAG);
+		entry.lastModified = properties.getProperty(KEY_LAST_MODIFIED);
+		return entry;
+	}
+
+	/**
+	 * Gets the source for a cache entry.
+	 * @param entry The cache entry to get the source for.
+	 * @return The cached source, or null if it can't be read.
+	 */
+	public String getContents(Entry entry) {
+		return readContents(entry.hash);
+	}
+
+	/**
+	 * Loads the stored entry for an article.
+	 * @param wiki The wiki that the article is on.
+	 * @param title The title of the article.
+	 * @return The stored entry, or null if the article hasn't been cached.
+	 */
+	private Properties loadEntry(String wiki, String title) {
+		File entryFile = getEntryFile(wiki, title);
+		if (!entryFile.exists()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream stream = new FileInputStream(entryFile)) {
+			properties.load(stream);
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+		if (!title.equals(properties.getProperty(KEY_TITLE))) {
+			return null;
+		}
+		return properties;
+	}
+
+	/**
+	 * Reads the article contents with a certain hash.
+	 * @param hash The hash of the article contents.
+	 * @return The article contents, or null if they can't be read.
+	 */
+	private String readContents(String hash) {
+		if (hash == null) {
+			return null;
+		}
+		File objectFile = getObjectFile(hash);
+		try {
+			return new String(Files.readAllBytes(objectFile.toPath()), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the file that article contents are stored in.
+	 * @param hash The hash of the article contents.
+	 * @return The file that the article contents are stored in.
+	 */
+	private File getObjectFile(String hash) {
+		File folder = new File(new File(directory, OBJECT_FOLDER), hash.substring(0, 2));
+		return new File(folder, hash.substring(2));
+	}
+
+	/**
+	 * Gets the file that an article's entry is stored in.
+	 * @param wiki The wiki that the article is on.
+	 * @param title The title of the article.
+	 * @return The file that the article's entry is stored in.
+	 */
+	private File getEntryFile(String wiki, String title) {
+		File folder = new File(new File(directory, ENTRY_FOLDER), wiki);
+		return new File(folder, hash(title.getBytes(StandardCharsets.UTF_8)) + ".properties");
+	}
+
+	/**
+	 * Writes an entry to a file.
+	 * @param file The file to write to.
+	 * @param properties The entry to write.
+	 * @throws IOException If the file can't be written.
+	 */
+	private void writeEntry(File file, Properties properties) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		properties.store(bytes, null);
+		writeAtomic(file, bytes.toByteArray());
+	}
+
+	/**
+	 * Writes data to a file so that other threads and runs never see a partially written file.
+	 * @param file The file to write to.
+	 * @param data The data to write.
+	 * @throws IOException If the file can't be written.
+	 */
+	static void writeAtomic(File file, byte[] data) throws IOException {
+		File folder = file.getParentFile();
+		folder.mkdirs();
+		File tempFile = File.createTempFile(file.getName(), ".tmp", folder);
+		try (OutputStream stream = new FileOutputStream(tempFile)) {
+			stream.write(data);
+		}
+		Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Gets the SHA-1 hash of some data.
+	 * @param data The data to hash.
+	 * @return The hash of the data as a hexadecimal string.
+	 */
+	static String hash(byte[] data) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(data);
+			StringBuilder builder = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+				builder.append(Character.forDigit(b & 0xF, 16));
+			}
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Information about a cached article.
+	 */
+	public class Entry {
+
+		/** The revision ID of the cached article. */
+		public long revision;
+		/** The hash of the cached article contents. */
+		public String hash;
+		/** The time that the article was last fetched. */
+		public long fetched;
+		/** The ETag header sent with the article, or null if there wasn't one. */
+		public String etag;
+		/** The Last-Modified header sent with the article, or null if there wasn't one. */
+		public String lastModified;
+
+		/**
+		 * Checks if the entry is young enough to be used without checking the wiki.
+		 * @return Whether the entry is up to date.
+		 */
+		public boolean isFresh() {
+			return System.currentTimeMillis() - fetched < timeToLive;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps recently used article sources in memory, up to a total size. Requests for an article that is already being
+ * downloaded wait for that download instead of starting another one.
+ */
+public class ArticleMemoryCache {
+
+	/** The estimated memory used by a cached article apart from its characters, in bytes. */
+	private static final long ENTRY_OVERHEAD = 96;
+
+	/** The largest total size of the cached articles, in bytes. */
+	private long maxBytes;
+	/** The current total size of the cached articles, in bytes. */
+	private long currentBytes;
+	/** The cached articles, from least to most recently used. */
+	private LinkedHashMap<String, String> sources = new LinkedHashMap<>(16, 0.75f, true);
+	/** Downloads that are in progress, by article key. */
+	private Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Initializes the cache.
+	 * @param maxBytes The largest total size of the cached articles, in bytes.
+	 */
+	public ArticleMemoryCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Gets an article, downloading it if it isn't cached. If the article is already being downloaded, waits for that
+	 * download to finish.
+	 * @param key The key of the article.
+	 * @param loader Downloads the article.
+	 * @return The source of the article.
+	 */
+	public String get(String key, Supplier<String> loader) {
+		String cached = getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		CompletableFuture<String> download = new CompletableFuture<>();
+		CompletableFuture<String> existing = claim(key, download);
+		if (existing != null) {
+			return APIConnection.getResult(existing);
+		}
+		cached = getIfPresent(key);
+		if (cached != null) {
+			complete(key, download, cached);
+			return cached;
+		}
+		String source;
+		try {
+			source = loader.get();
+		} catch (RuntimeException e) {
+			fail(key, download, e);
+			throw e;
+		}
+		complete(key, download, source);
+		return source;
+	}
+
+	/**
+	 * Gets an article if it is cached.
+	 * @param key The key of the article.
+	 * @return The source of the article, or null if it isn't cached.
+	 */
+	public synchronized String getIfPresent(String key) {
+		return sources.get(key);
+	}
+
+	/**
+	 * Adds an article to the cache, removing the least recently used articles if the cache is full.
+	 * @param key The key of the article.
+	 * @param source The source of the article.
+	 */
+	public synchronized void put(String key, String source) {
+		long weight = getWeight(source);
+		if (weight > maxBytes) {
+			return;
+		}
+		String previous = sources.put(key, source);
+		if (previous != null) {
+			currentBytes -= getWeight(previous);
+		}
+		currentBytes += weight;
+		Iterator<String> iterator = sources.values().iterator();
+		while (currentBytes > maxBytes && iterator.hasNext()) {
+			currentBytes -= getWeight(iterator.next());
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Marks an article as being downloaded by the caller.
+	 * @param key The key of the article.
+	 * @param download Completed by the caller when the download finishes.
+	 * @return The download already in progress for the article, or null if the caller should download it.
+	 */
+	public CompletableFuture<String> claim(String key, CompletableFuture<String> download) {
+		return inFlight.putIfAbsent(key, download);
+	}
+
+	/**
+	 * Finishes a download claimed by the caller, caching the article and passing it to anyone waiting for it.
+	 * @param key The key of the article.
+	 * @param download The download claimed by the caller.
+	 * @param source The source of the article.
+	 */
+	public void complete(String key, CompletableFuture<String> download, String source) {
+		put(key, source);
+		download.complete(source);
+		inFlight.remove(key, download);
+	}
+
+	/**
+	 * Finishes a download claimed by the caller that failed, passing the error to anyone waiting for it.
+	 * @param key The key of the article.
+	 * @param download The download claimed by the caller.
+	 * @param error The error that stopped the download.
+	 */
+	public void fail(String key, CompletableFuture<String> download, RuntimeException error) {
+		download.completeExceptionally(error);
+		inFlight.remove(key, download);
+	}
+
+	/**
+	 * Estimates the memory used by a cached article.
+	 * @param source The source of the article.
+	 * @return The estimated memory used by the article, in bytes.
+	 */
+	private static long getWeight(String source) {
+		return ENTRY_OVERHEAD + 2L * source.length();
+	}
+}
@@ -0,0 +1,128 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Splits an article into its top-level sections, which start at ==Heading== lines. The text before the first heading
+ * is the lead section. Each section is hashed so that sections that haven't changed between revisions can be found
+ * without comparing their text.
+ */
+public class ArticleSections {
+
+	/** The FNV-1a offset basis. */
+	private static final long HASH_BASIS = 0xCBF29CE484222325L;
+	/** The FNV-1a prime. */
+	private static final long HASH_PRIME = 0x100000001B3L;
+
+	/** The article being split. */
+	private String source;
+	/** The start of each section, including its heading line. */
+	private int[] starts = new int[16];
+	/** The heading of each section, or null for the lead section. */
+	private String[] headings = new String[16];
+	/** The number of sections in the article. */
+	private int numSections;
+
+	/**
+	 * Splits an article into sections.
+	 * @param source The source of the article.
+	 */
+	public ArticleSections(String source) {
+		this.source = source;
+		addSection(0, null);
+		int lineStart = 0;
+		int length = source.length();
+		while (lineStart < length) {
+			int lineEnd = source.indexOf('\n', lineStart);
+			if (lineEnd == -1) {
+				lineEnd = length;
+			}
+			String heading = getHeading(lineStart, lineEnd);
+			if (heading != null) {
+				addSection(lineStart, heading);
+			}
+			lineStart = lineEnd + 1;
+		}
+	}
+
+	/**
+	 * Gets the heading of a line if it is a top-level heading.
+	 * @param start The start of the line.
+	 * @param end The end of the line.
+	 * @return The heading text, or null if the line isn't a top-level heading.
+	 */
+	private String getHeading(int start, int end) {
+		while (end > start && Character.isWhitespace(source.charAt(end - 1))) {
+			end--;
+		}
+		if (end - start < 5 || !source.startsWith("==", start) || source.charAt(start + 2) == '='
+				|| !source.startsWith("==", end - 2) || source.charAt(end - 3) == '=') {
+			return null;
+		}
+		return source.substring(start + 2, end - 2).trim();
+	}
+
+	/**
+	 * Records the start of a section.
+	 * @param start The start of the section.
+	 * @param heading The heading of the section, or null for the lead section.
+	 */
+	private void addSection(int start, String heading) {
+		if (numSections == starts.length) {
+			starts = Arrays.copyOf(starts, numSections * 2);
+			headings = Arrays.copyOf(headings, numSections * 2);
+		}
+		starts[numSections] = start;
+		headings[numSections] = heading;
+		numSections++;
+	}
+
+	/**
+	 * Gets the number of sections in the article, including the lead section.
+	 * @return The number of sections in the article.
+	 */
+	public int size() {
+		return numSections;
+	}
+
+	/**
+	 * Gets the heading of a section.
+	 * @param section The index of the section.
+	 * @return The heading of the section, or null for the lead section.
+	 */
+	public String getHeading(int section) {
+		return headings[section];
+	}
+
+	/**
+	 * Gets the text of a section, including its heading line.
+	 * @param section The index of the section.
+	 * @return The text of the section.
+	 */
+	public CharSlice getSection(int section) {
+		return new CharSlice(source, starts[section], getEnd(section));
+	}
+
+	/**
+	 * Gets the hash of the text of a section.
+	 * @param section The index of the section.
+	 * @return The 64-bit FNV-1a hash of the section's text.
+	 */
+	public long getHash(int section) {
+		long hash = HASH_BASIS;
+		int end = getEnd(section);
+		for (int i = starts[section]; i < end; i++) {
+			hash = (hash ^ source.charAt(i)) * HASH_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * Gets the end of a section.
+	 * @param section The index of the section.
+	 * @return The start of the next section, or the end of the article for the last section.
+	 */
+	private int getEnd(int section) {
+		return section + 1 < numSections ? starts[section + 1] : source.length();
+	}
+}
@@ -0,0 +1,206 @@
+package util;
+
+/**
+ * A view of part of a string that can be searched and narrowed further without copying any characters. The
+ * characters are only copied when the slice is converted to a string.
+ */
+public class CharSlice implements CharSequence {
+
+	/** The string that the slice is part of. */
+	private final String source;
+	/** The position in the source where the slice starts. */
+	private final int start;
+	/** The position in the source where the slice ends. */
+	private final int end;
+
+	/**
+	 * Initializes a slice covering a whole string.
+	 * @param source The string to slice.
+	 */
+	public CharSlice(String source) {
+		this(source, 0, source.length());
+	}
+
+	/**
+	 * Initializes a slice.
+	 * @param source The string that the slice is part of.
+	 * @param start The position in the source where the slice starts.
+	 * @param end The position in the source where the slice ends.
+	 */
+	public CharSlice(String source, int start, int end) {
+		if (start < 0 || end > source.length() || start > end) {
+			throw new IndexOutOfBoundsException("Slice " + start + "-" + end + " out of bounds for length "
+					+ source.length() + ".");
+		}
+		this.source = source;
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * Gets a slice of a character sequence, reusing the underlying string if the sequence is already a slice.
+	 * @param sequence The character sequence to slice.
+	 * @return A slice covering the whole sequence.
+	 */
+	public static CharSlice of(CharSequence sequence) {
+		if (sequence instanceof CharSlice) {
+			return (CharSlice) sequence;
+		}
+		return new CharSlice(sequence.toString());
+	}
+
+	@Override
+	public int length() {
+		return end - start;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length()) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length() + ".");
+		}
+		return source.charAt(start + index);
+	}
+
+	@Override
+	public CharSlice subSequence(int start, int end) {
+		if (start < 0 || end > length() || start > end) {
+			throw new IndexOutOfBoundsException("Slice " + start + "-" + end + " out of bounds for length "
+					+ length() + ".");
+		}
+		return new CharSlice(source, this.start + start, this.start + end);
+	}
+
+	/**
+	 * Gets the part of the slice from a position to the end.
+	 * @param start The position to start from.
+	 * @return The part of the slice from the position to the end.
+	 */
+	public CharSlice subSequence(int start) {
+		return subSequence(start, length());
+	}
+
+	/**
+	 * Finds the first occurrence of a string in the slice.
+	 * @param string The string to find.
+	 * @return The position of the string in the slice, or -1 if the slice doesn't contain it.
+	 */
+	public int indexOf(String string) {
+		return indexOf(string, 0);
+	}
+
+	/**
+	 * Finds the first occurrence of a string in the slice after a position.
+	 * @param string The string to find.
+	 * @param fromIndex The position in the slice to start searching from.
+	 * @return The position of the string in the slice, or -1 if the slice doesn't contain it after the position.
+	 */
+	public int indexOf(String string, int fromIndex) {
+		int from = start + Math.max(fromIndex, 0);
+		int length = string.length();
+		if (length == 0) {
+			return from <= end ? from - start : -1;
+		}
+		char first = string.charAt(0);
+		int last = end - length;
+		for (int i = from; i <= last; i++) {
+			if (source.charAt(i) == first && source.regionMatches(i + 1, string, 1, length - 1)) {
+				return i - start;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the last occurrence of a string in the slice.
+	 * @param string The string to find.
+	 * @return The position of the string in the slice, or -1 if the slice doesn't contain it.
+	 */
+	public int lastIndexOf(String string) {
+		int index = source.lastIndexOf(string, end - string.length());
+		if (index < start) {
+			return -1;
+		}
+		return index - start;
+	}
+
+	/**
+	 * Finds the first occurrence of a character in the slice.
+	 * @param c The character to find.
+	 * @return The position of the character in the slice, or -1 if the slice doesn't contain it.
+	 */
+	public int indexOf(char c) {
+		for (int i = start; i < end; i++) {
+			if (source.charAt(i) == c) {
+				return i - start;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if part of the slice matches a string.
+	 * @param offset The position in the slice to compare from.
+	 * @param string The string to compare to.
+	 * @return Whether the slice contains the string at the position.
+	 */
+	public boolean regionMatches(int offset, String string) {
+		return offset >= 0 && offset + string.length() <= length()
+				&& source.regionMatches(start + offset, string, 0, string.length());
+	}
+
+	/**
+	 * Checks if the slice starts with a string.
+	 * @param prefix The string to check for.
+	 * @return Whether the slice starts with the string.
+	 */
+	public boolean startsWith(String prefix) {
+		return regionMatches(0, prefix);
+	}
+
+	/**
+	 * Checks if the slice contains a string.
+	 * @param string The string to check for.
+	 * @return Whether the slice contains the string.
+	 */
+	public boolean contains(String string) {
+		return indexOf(string) != -1;
+	}
+
+	/**
+	 * Removes whitespace from both ends of the slice.
+	 * @return The slice without leading or trailing whitespace.
+	 */
+	public CharSlice trim() {
+		int newStart = start;
+		int newEnd = end;
+		while (newStart < newEnd && source.charAt(newStart) <= ' ') {
+			newStart++;
+		}
+		while (newEnd > newStart && source.charAt(newEnd - 1) <= ' ') {
+			newEnd--;
+		}
+		return newStart == start && newEnd == end ? this : new CharSlice(source, newStart, newEnd);
+	}
+
+	/**
+	 * Adds the slice to a string builder without creating an intermediate string.
+	 * @param builder The string builder to add to.
+	 */
+	public void appendTo(StringBuilder builder) {
+		builder.append(source, start, end);
+	}
+
+	/**
+	 * Checks if the slice has no characters.
+	 * @return Whether the slice is empty.
+	 */
+	public boolean isEmpty() {
+		return start == end;
+	}
+
+	@Override
+	public String toString() {
+		return source.substring(start, end);
+	}
+}
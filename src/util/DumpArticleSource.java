@@ -0,0 +1,315 @@
+package util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads article sources from a MediaWiki XML dump instead of the wiki. The first time a dump is used, the text of
+ * each page is copied to a side file next to the dump and the position of each page is saved in an index. Later
+ * lookups read single pages from the side file, so the dump is never held in memory.
+ */
+public class DumpArticleSource {
+
+	/** Identifies index files written by this class. */
+	private static final int INDEX_MAGIC = 0x50444D50;
+	/** The class that reads bzip2 streams, if Commons Compress is available. */
+	private static final String BZIP2_CLASS = "org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream";
+	/** The size of the buffers used for reading and writing files. */
+	private static final int BUFFER_SIZE = 1 << 16;
+	/** The JDK property that limits the total size of expanded entities in a document. */
+	private static final String ENTITY_SIZE_LIMIT = "http://www.oracle.com/xml/jaxp/properties/totalEntitySizeLimit";
+	/** Creates the readers used to parse dumps. */
+	private static final XMLInputFactory XML_FACTORY = createXMLFactory();
+
+	/** The file containing the text of every page. */
+	private File pageFile;
+	/** The file containing the position of every page. */
+	private File indexFile;
+	/** Reads page text from the page file. */
+	private FileChannel pageChannel;
+	/** Maps page titles to their positions in the index arrays. */
+	private Map<String, Integer> titleIndex = new HashMap<>();
+	/** The position of each page in the page file. */
+	private long[] offsets = new long[1024];
+	/** The length of each page in the page file, in bytes. */
+	private int[] lengths = new int[1024];
+	/** Maps redirect titles to the titles of the pages they redirect to. */
+	private Map<String, String> redirects = new HashMap<>();
+
+	/**
+	 * Opens a dump, indexing it if it hasn't been indexed since it was last changed.
+	 * @param dump The XML dump. Can be compressed with gzip (.gz) or bzip2 (.bz2).
+	 * @throws IOException If the dump can't be read.
+	 */
+	public DumpArticleSource(File dump) throws IOException {
+		pageFile = new File(dump.getPath() + ".pages");
+		indexFile = new File(dump.getPath() + ".index");
+		if (indexFile.lastModified() < dump.lastModified() || !pageFile.exists() || !readIndex()) {
+			System.out.println("Indexing " + dump + ".");
+			buildIndex(dump);
+			writeIndex();
+		}
+		pageChannel = FileChannel.open(pageFile.toPath(), StandardOpenOption.READ);
+		System.out.println("Loaded " + titleIndex.size() + " pages from " + dump + ".");
+	}
+
+	/**
+	 * Gets the source for an article, following redirects.
+	 * @param articleName The name of the article.
+	 * @return The source for the article, or null if the article isn't in the dump.
+	 */
+	public String getArticleSource(String articleName) {
+		Integer index = titleIndex.get(resolveTitle(articleName));
+		if (index == null) {
+			return null;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(lengths[index]);
+		try {
+			long position = offsets[index];
+			while (buffer.hasRemaining()) {
+				int read = pageChannel.read(buffer, position + buffer.position());
+				if (read < 0) {
+					throw new IOException("Unexpected end of " + pageFile);
+				}
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+		return new String(buffer.array(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Checks if an article is in the dump.
+	 * @param articleName The name of the article.
+	 * @return Whether the article or the page it redirects to is in the dump.
+	 */
+	public boolean contains(String articleName) {
+		return titleIndex.containsKey(resolveTitle(articleName));
+	}
+
+	/**
+	 * Gets the title of the page that an article name refers to, following redirects.
+	 * @param articleName The name of the article.
+	 * @return The title of the page in the dump.
+	 */
+	private String resolveTitle(String articleName) {
+		String title = normalizeTitle(articleName);
+		for (int i = 0; i < 2 && redirects.containsKey(title); i++) {
+			title = redirects.get(title);
+		}
+		return title;
+	}
+
+	/**
+	 * Converts an article name to the form used for titles in dumps.
+	 * @param articleName The name of the article.
+	 * @return The article name with spaces instead of underscores and a capitalized first letter.
+	 */
+	private static String normalizeTitle(String articleName) {
+		String title = articleName.replace('_', ' ').trim();
+		if (title.isEmpty()) {
+			return title;
+		}
+		return Character.toUpperCase(title.charAt(0)) + title.substring(1);
+	}
+
+	/**
+	 * Reads the dump, copying each page's text to the page file and recording where it was written.
+	 * @param dump The XML dump.
+	 * @throws IOException If the dump can't be read or the page file can't be written.
+	 */
+	private void buildIndex(File dump) throws IOException {
+		File tempFile = File.createTempFile(pageFile.getName(), ".tmp", pageFile.getAbsoluteFile().getParentFile());
+		try (InputStream input = openDump(dump);
+				OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile), BUFFER_SIZE)) {
+			XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(input);
+			long offset = 0;
+			String title = null;
+			String redirect = null;
+			StringBuilder text = new StringBuilder();
+			boolean inText = false;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					switch (reader.getLocalName()) {
+					case "page":
+						title = null;
+						redirect = null;
+						text.setLength(0);
+						break;
+					case "title":
+						title = reader.getElementText();
+						break;
+					case "redirect":
+						redirect = reader.getAttributeValue(null, "title");
+						break;
+					case "text":
+						text.setLength(0);
+						inText = true;
+						break;
+					}
+				} else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+					text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					if ("text".equals(reader.getLocalName())) {
+						inText = false;
+					} else if ("page".equals(reader.getLocalName()) && title != null) {
+						byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+						output.write(bytes);
+						addPage(title, offset, bytes.length);
+						offset += bytes.length;
+						if (redirect != null) {
+							redirects.put(title, redirect);
+						}
+					}
+				}
+			}
+			reader.close();
+		} catch (XMLStreamException e) {
+			throw new IOException("Could not read " + dump, e);
+		}
+		Files.move(tempFile.toPath(), pageFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Creates the factory used to read dumps. Dumps escape every bit of markup in their page text, so the limit on
+	 * expanded entities is removed. DTDs and external entities are turned off since dumps don't need them.
+	 * @return The factory used to read dumps.
+	 */
+	private static XMLInputFactory createXMLFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		try {
+			factory.setProperty(ENTITY_SIZE_LIMIT, 0);
+		} catch (IllegalArgumentException e) {
+			// Only the JDK's own reader has this limit.
+		}
+		return factory;
+	}
+
+	/**
+	 * Opens a dump, decompressing it based on its file extension.
+	 * @param dump The XML dump.
+	 * @return A stream of the uncompressed dump.
+	 * @throws IOException If the dump can't be opened.
+	 */
+	private static InputStream openDump(File dump) throws IOException {
+		InputStream input = new BufferedInputStream(new FileInputStream(dump), BUFFER_SIZE);
+		String name = dump.getName().toLowerCase();
+		if (name.endsWith(".gz")) {
+			return new GZIPInputStream(input, BUFFER_SIZE);
+		} else if (name.endsWith(".bz2")) {
+			try {
+				return (InputStream) Class.forName(BZIP2_CLASS).getConstructor(InputStream.class, boolean.class)
+						.newInstance(input, true);
+			} catch (ReflectiveOperationException e) {
+				input.close();
+				throw new IllegalStateException("Reading .bz2 dumps requires Apache Commons Compress on the classpath.",
+						e);
+			}
+		}
+		return input;
+	}
+
+	/**
+	 * Records the position of a page in the page file.
+	 * @param title The title of the page.
+	 * @param offset The position of the page text in the page file.
+	 * @param length The length of the page text in bytes.
+	 */
+	private void addPage(String title, long offset, int length) {
+		Integer index = titleIndex.get(title);
+		if (index == null) {
+			index = titleIndex.size();
+			if (index == offsets.length) {
+				int newLength = offsets.length * 2;
+				offsets = Arrays.copyOf(offsets, newLength);
+				lengths = Arrays.copyOf(lengths, newLength);
+			}
+			titleIndex.put(title, index);
+		}
+		offsets[index] = offset;
+		lengths[index] = length;
+	}
+
+	/**
+	 * Saves the page positions and redirects to the index file.
+	 * @throws IOException If the index file can't be written.
+	 */
+	private void writeIndex() throws IOException {
+		String[] titles = new String[titleIndex.size()];
+		for (Map.Entry<String, Integer> entry : titleIndex.entrySet()) {
+			titles[entry.getValue()] = entry.getKey();
+		}
+		File tempFile = File.createTempFile(indexFile.getName(), ".tmp", indexFile.getAbsoluteFile().getParentFile());
+		try (DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tempFile), BUFFER_SIZE))) {
+			output.writeInt(INDEX_MAGIC);
+			output.writeInt(titles.length);
+			for (int i = 0; i < titles.length; i++) {
+				output.writeUTF(titles[i]);
+				output.writeLong(offsets[i]);
+				output.writeInt(lengths[i]);
+			}
+			output.writeInt(redirects.size());
+			for (Map.Entry<String, String> redirect : redirects.entrySet()) {
+				output.writeUTF(redirect.getKey());
+				output.writeUTF(redirect.getValue());
+			}
+		}
+		Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Loads the page positions and redirects from the index file.
+	 * @return Whether the index file was loaded.
+	 */
+	private boolean readIndex() {
+		try (DataInputStream input = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(indexFile), BUFFER_SIZE))) {
+			if (input.readInt() != INDEX_MAGIC) {
+				return false;
+			}
+			int numPages = input.readInt();
+			offsets = new long[Math.max(numPages, 1)];
+			lengths = new int[Math.max(numPages, 1)];
+			for (int i = 0; i < numPages; i++) {
+				addPage(input.readUTF(), input.readLong(), input.readInt());
+			}
+			int numRedirects = input.readInt();
+			for (int i = 0; i < numRedirects; i++) {
+				redirects.put(input.readUTF(), input.readUTF());
+			}
+			return true;
+		} catch (IOException e) {
+			titleIndex.clear();
+			redirects.clear();
+			return false;
+		}
+	}
+}
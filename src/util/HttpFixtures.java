@@ -0,0 +1,177 @@
+package util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Stores wiki responses in a compressed archive so that runs can be repeated later without network access.
+ * Each response is stored in its own archive entry, named by the hash of its URL.
+ */
+public class HttpFixtures {
+
+	/** The archive that responses are stored in. */
+	private File archive;
+	/** Whether responses are being recorded rather than replayed. */
+	private boolean recording;
+	/** Responses recorded during this run, sorted by entry name so that archives are reproducible. */
+	private Map<String, Recording> recorded = new TreeMap<>();
+	/** The archive being replayed from. */
+	private ZipFile replayArchive;
+
+	/**
+	 * Initializes the fixtures.
+	 * @param archive The archive that responses are stored in.
+	 * @param recording Whether responses are being recorded rather than replayed.
+	 */
+	private HttpFixtures(File archive, boolean recording) {
+		this.archive = archive;
+		this.recording = recording;
+	}
+
+	/**
+	 * Creates fixtures that record responses to an archive.
+	 * @param archive The archive to save responses to.
+	 * @return Fixtures that record responses.
+	 */
+	public static HttpFixtures record(File archive) {
+		return new HttpFixtures(archive, true);
+	}
+
+	/**
+	 * Creates fixtures that replay responses from an archive.
+	 * @param archive The archive to read responses from.
+	 * @return Fixtures that replay responses.
+	 * @throws IOException If the archive can't be opened.
+	 */
+	public static HttpFixtures replay(File archive) throws IOException {
+		HttpFixtures fixtures = new HttpFixtures(archive, false);
+		fixtures.replayArchive = new ZipFile(archive);
+		return fixtures;
+	}
+
+	/**
+	 * Checks if responses are being replayed instead of downloaded.
+	 * @return Whether responses are being replayed.
+	 */
+	public boolean isReplaying() {
+		return !recording;
+	}
+
+	/**
+	 * Gets a recorded response.
+	 * @param url The URL that was requested.
+	 * @return The response recorded for the URL.
+	 * @throws IOException If no response was recorded for the URL.
+	 */
+	public HttpTransport.Response get(String url) throws IOException {
+		ZipEntry entry = replayArchive.getEntry(getEntryName(url));
+		if (entry == null) {
+			throw new IOException("No recorded response for " + url);
+		}
+		try (DataInputStream stream = new DataInputStream(replayArchive.getInputStream(entry))) {
+			if (!url.equals(stream.readUTF())) {
+				throw new IOException("No recorded response for " + url);
+			}
+			int status = stream.readInt();
+			String body = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+			return new HttpTransport.Response(status, body);
+		}
+	}
+
+	/**
+	 * Records a response.
+	 * @param url The URL that was requested.
+	 * @param response The response to the request.
+	 */
+	public synchronized void put(String url, HttpTransport.Response response) {
+		recorded.put(getEntryName(url), new Recording(url, response));
+	}
+
+	/**
+	 * Writes the recorded responses to the archive.
+	 * @throws IOException If the archive can't be written.
+	 */
+	public synchronized void save() throws IOException {
+		File folder = archive.getAbsoluteFile().getParentFile();
+		folder.mkdirs();
+		File tempFile = File.createTempFile(archive.getName(), ".tmp", folder);
+		try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(tempFile))) {
+			for (Map.Entry<String, Recording> recording : recorded.entrySet()) {
+				ZipEntry entry = new ZipEntry(recording.getKey());
+				entry.setTime(0);
+				zip.putNextEntry(entry);
+				zip.write(recording.getValue().toBytes());
+				zip.closeEntry();
+			}
+		}
+		Files.move(tempFile.toPath(), archive.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		System.out.println("Recorded " + recorded.size() + " responses to " + archive + ".");
+	}
+
+	/**
+	 * Closes the archive being replayed from.
+	 * @throws IOException If the archive can't be closed.
+	 */
+	public void close() throws IOException {
+		if (replayArchive != null) {
+			replayArchive.close();
+		}
+	}
+
+	/**
+	 * Gets the name of the archive entry for a URL.
+	 * @param url The URL that was requested.
+	 * @return The name of the archive entry for the URL.
+	 */
+	private static String getEntryName(String url) {
+		return ArticleCache.hash(url.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * A response waiting to be saved.
+	 */
+	private static class Recording {
+
+		/** The URL that was requested. */
+		private String url;
+		/** The response to the request. */
+		private HttpTransport.Response response;
+
+		/**
+		 * Initializes the recording.
+		 * @param url The URL that was requested.
+		 * @param response The response to the request.
+		 */
+		private Recording(String url, HttpTransport.Response response) {
+			this.url = url;
+			this.response = response;
+		}
+
+		/**
+		 * Converts the recording to the format stored in the archive.
+		 * @return The URL, status code and body of the response.
+		 * @throws IOException If the recording can't be converted.
+		 */
+		private byte[] toBytes() throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream stream = new DataOutputStream(bytes)) {
+				stream.writeUTF(url);
+				stream.writeInt(response.status);
+				stream.write(response.body.getBytes(StandardCharsets.UTF_8));
+			}
+			return bytes.toByteArray();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Sends HTTP requests through a shared client that keeps connections open between requests.
+ */
+public class HttpTransport {
+
+	/** The user agent sent with every request. */
+	private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_12_5) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/58.0.3029.110 Safari/537.36";
+	/** The default number of seconds to wait for a connection. */
+	private static final long DEFAULT_CONNECT_TIMEOUT = 10;
+	/** The default number of seconds to wait for a response. */
+	private static final long DEFAULT_READ_TIMEOUT = 60;
+	/** The size of the buffer used when the response length isn't known. */
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+	/** The largest buffer that a response body can be read into. */
+	private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+	/** The expected ratio between the decompressed and compressed sizes of wikicode. */
+	private static final int COMPRESSION_RATIO = 5;
+
+	/** The singleton instance of the transport. */
+	private static HttpTransport instance;
+
+	/** The client that requests are sent through. */
+	private HttpClient client;
+	/** How long to wait for a response. */
+	private Duration readTimeout;
+
+	/**
+	 * Initializes the transport.
+	 * @param connectTimeout How long to wait for a connection.
+	 * @param readTimeout How long to wait for a response.
+	 */
+	public HttpTransport(Duration connectTimeout, Duration readTimeout) {
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).connectTimeout(connectTimeout)
+				.followRedirects(HttpClient.Redirect.NORMAL).build();
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * Gets the shared transport. Timeouts are read from system properties when it is first created.
+	 * @return The shared transport.
+	 */
+	public static synchronized HttpTransport getInstance() {
+		if (instance == null) {
+			Duration connectTimeout = Duration
+					.ofSeconds(Long.getLong("miner.http.connectTimeout", DEFAULT_CONNECT_TIMEOUT));
+			Duration readTimeout = Duration.ofSeconds(Long.getLong("miner.http.readTimeout", DEFAULT_READ_TIMEOUT));
+			instance = new HttpTransport(connectTimeout, readTimeout);
+		}
+		return instance;
+	}
+
+	/**
+	 * Sends a GET request.
+	 * @param url The URL to request.
+	 * @param headers Extra headers to send with the request.
+	 * @return The response to the request.
+	 * @throws IOException If the URL can't be reached.
+	 */
+	public Response get(String url, Map<String, String> headers) throws IOException {
+		URI uri = URI.create(URI.create(url).toASCIIString());
+		HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(readTimeout).GET()
+				.header("User-Agent", USER_AGENT).header("Accept-Encoding", "gzip, deflate");
+		if (headers != null) {
+			headers.forEach(requestBuilder::header);
+		}
+		HttpResponse<InputStream> httpResponse;
+		try {
+			httpResponse = client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while requesting " + url);
+		}
+
+		Response response = new Response();
+		response.status = httpResponse.statusCode();
+		response.headers = httpResponse.headers().map();
+		OptionalLong contentLength = httpResponse.headers().firstValueAsLong("Content-Length");
+		String encoding = httpResponse.headers().firstValue("Content-Encoding").orElse("");
+		try (InputStream body = decode(httpResponse.body(), encoding)) {
+			response.body = readBody(body, contentLength, !encoding.isEmpty());
+		}
+		return response;
+	}
+
+	/**
+	 * Wraps a response body in a decompressing stream if needed.
+	 * @param body The raw response body.
+	 * @param encoding The content encoding of the response.
+	 * @return A stream of the decoded response body.
+	 * @throws IOException If the compressed body can't be read.
+	 */
+	private static InputStream decode(InputStream body, String encoding) throws IOException {
+		switch (encoding.toLowerCase()) {
+		case "gzip":
+			return new GZIPInputStream(body, DEFAULT_BUFFER_SIZE);
+		case "deflate":
+			return new InflaterInputStream(body);
+		default:
+			return body;
+		}
+	}
+
+	/**
+	 * Reads a response body into a string.
+	 * @param body The decoded response body.
+	 * @param contentLength The length of the response body as it was sent, if known.
+	 * @param compressed Whether the response body was compressed.
+	 * @return The response body as a string.
+	 * @throws IOException If the body can't be read.
+	 */
+	private static String readBody(InputStream body, OptionalLong contentLength, boolean compressed)
+			throws IOException {
+		if (!contentLength.isPresent()) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+			body.transferTo(bytes);
+			return bytes.toString(StandardCharsets.UTF_8);
+		}
+		long length = contentLength.getAsLong();
+		if (!compressed && length <= MAX_BUFFER_SIZE) {
+			return new String(body.readNBytes((int) length), StandardCharsets.UTF_8);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+				(int) Math.min(length * COMPRESSION_RATIO, MAX_BUFFER_SIZE));
+		body.transferTo(bytes);
+		return bytes.toString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * The result of an HTTP request.
+	 */
+	public static class Response {
+
+		/** The HTTP status code. */
+		public int status;
+		/** The decoded response body. */
+		public String body;
+		/** The response headers. */
+		private Map<String, List<String>> headers;
+
+		/**
+		 * Initializes an empty response to fill in from a request.
+		 */
+		private Response() {
+		}
+
+		/**
+		 * Initializes a response without headers.
+		 * @param status The HTTP status code.
+		 * @param body The decoded response body.
+		 */
+		public Response(int status, String body) {
+			this.status = status;
+			this.body = body;
+			headers = Collections.emptyMap();
+		}
+
+		/**
+		 * Gets the first value of a response header.
+		 * @param name The name of the header.
+		 * @return The first value of the header, or null if the header wasn't sent.
+		 */
+		public String getHeader(String name) {
+			for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+				if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+					return header.getValue().get(0);
+				}
+			}
+			return null;
+		}
+	}
+}
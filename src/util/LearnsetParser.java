@@ -0,0 +1,394 @@
+package util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import miner.storage.LearnsetRow;
+import miner.storage.LearnsetRow.Method;
+
+/**
+ * Reads the learnlist tables on a learnset page in a single pass. Each row template is split into its parameters
+ * in place, respecting nested templates and links, and only the parameters that are used are copied out.
+ */
+public class LearnsetParser {
+
+	/** The prefix of learnlist template names. */
+	private static final String TEMPLATE_PREFIX = "learnlist/";
+
+	/** The version of the parser. Increase this when the rows read from a page change. */
+	public static final int VERSION = 2;
+
+	/** Stores the rows read from a page in the parsed article cache. */
+	public static final ParsedArticleCache.Codec<List<LearnsetRow>> ROW_CODEC =
+			new ParsedArticleCache.Codec<List<LearnsetRow>>() {
+		@Override
+		public void write(DataOutputStream out, List<LearnsetRow> rows) throws IOException {
+			out.writeInt(rows.size());
+			for (LearnsetRow row : rows) {
+				out.writeByte(row.method.ordinal());
+				out.writeInt(row.generation);
+				out.writeInt(row.level);
+				ParsedArticleCache.writeString(out, row.tmNumber);
+				ParsedArticleCache.writeString(out, row.move);
+				out.writeInt(row.table);
+				ParsedArticleCache.writeString(out, row.form);
+			}
+		}
+
+		@Override
+		public List<LearnsetRow> read(DataInputStream in) throws IOException {
+			Method[] methods = Method.values();
+			int numRows = in.readInt();
+			List<LearnsetRow> rows = new ArrayList<>(numRows);
+			for (int i = 0; i < numRows; i++) {
+				LearnsetRow row = new LearnsetRow();
+				row.method = methods[in.readByte()];
+				row.generation = in.readInt();
+				row.level = in.readInt();
+				row.tmNumber = ParsedArticleCache.readString(in);
+				row.move = ParsedArticleCache.readString(in);
+				row.table = in.readInt();
+				row.form = ParsedArticleCache.readString(in);
+				rows.add(row);
+			}
+			return rows;
+		}
+	};
+
+	/** The learnset page being read. */
+	private String source;
+	/** The start of each parameter of the current template. The first parameter is the template name. */
+	private int[] fieldStarts = new int[16];
+	/** The end of each parameter of the current template. */
+	private int[] fieldEnds = new int[16];
+	/** The number of parameters in the current template, including the template name. */
+	private int numFields;
+	/** The number of table footers read for each method. */
+	private int[] footers = new int[Method.values().length];
+	/** The heading that the current table is under. */
+	private String heading;
+	/** The position that the next heading search starts at. */
+	private int headingPosition;
+
+	/**
+	 * Initializes a parser.
+	 * @param source The learnset page to read.
+	 */
+	private LearnsetParser(String source) {
+		this.source = source;
+	}
+
+	/**
+	 * Reads every row in the learnlist tables on a page.
+	 * @param source The learnset page to read.
+	 * @param consumer Receives each row, in page order.
+	 */
+	public static void parse(String source, Consumer<LearnsetRow> consumer) {
+		new LearnsetParser(source).run(consumer);
+	}
+
+	/**
+	 * Gets the rows in the first table on a page with a certain method and generation.
+	 * @param source The learnset page to read.
+	 * @param method The way the moves are learned.
+	 * @param generation The generation of the table, or 0 for tables from any generation.
+	 * @return The rows in the table, in page order.
+	 */
+	public static List<LearnsetRow> getRows(String source, Method method, int generation) {
+		List<LearnsetRow> rows = new ArrayList<>();
+		parse(source, row -> {
+			if (isInFirstTable(row, method, generation)) {
+				rows.add(row);
+			}
+		});
+		return rows;
+	}
+
+	/**
+	 * Gets every row in the learnlist tables on a page.
+	 * @param source The learnset page to read.
+	 * @return The rows on the page, in page order.
+	 */
+	public static List<LearnsetRow> getAllRows(String source) {
+		List<LearnsetRow> rows = new ArrayList<>();
+		parse(source, rows::add);
+		return rows;
+	}
+
+	/**
+	 * Gets the rows in the first table with a certain method and generation from rows that were already read.
+	 * @param allRows The rows read from a page.
+	 * @param method The way the moves are learned.
+	 * @param generation The generation of the table, or 0 for tables from any generation.
+	 * @return The rows in the table, in page order.
+	 */
+	public static List<LearnsetRow> getRows(List<LearnsetRow> allRows, Method method, int generation) {
+		List<LearnsetRow> rows = new ArrayList<>();
+		for (LearnsetRow row : allRows) {
+			if (isInFirstTable(row, method, generation)) {
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Checks if a row is in the first table with a certain method and generation.
+	 * @param row The row to check.
+	 * @param method The way the moves are learned.
+	 * @param generation The generation of the table, or 0 for tables from any generation.
+	 * @return Whether the row is in the table.
+	 */
+	private static boolean isInFirstTable(LearnsetRow row, Method method, int generation) {
+		return row.method == method && row.table == 0 && (generation == 0 || row.generation == generation);
+	}
+
+	/**
+	 * Reads every learnlist template on the page.
+	 * @param consumer Receives each row.
+	 */
+	private void run(Consumer<LearnsetRow> consumer) {
+		int position = source.indexOf("{{");
+		while (position != -1) {
+			int nameStart = position + 2;
+			if (source.startsWith(TEMPLATE_PREFIX, nameStart)) {
+				int end = readTemplate(nameStart);
+				LearnsetRow row = readRow(position);
+				if (row != null) {
+					consumer.accept(row);
+				}
+				position = source.indexOf("{{", end);
+			} else {
+				position = source.indexOf("{{", nameStart);
+			}
+		}
+	}
+
+	/**
+	 * Splits a template into its parameters.
+	 * @param position The position just after the opening braces of the template.
+	 * @return The position just after the closing braces of the template.
+	 */
+	private int readTemplate(int position) {
+		numFields = 0;
+		int fieldStart = position;
+		int depth = 0;
+		int length = source.length();
+		while (position < length) {
+			char c = source.charAt(position);
+			char next = position + 1 < length ? source.charAt(position + 1) : 0;
+			if ((c == '{' || c == '[') && next == c) {
+				depth++;
+				position += 2;
+			} else if ((c == '}' || c == ']') && next == c && depth > 0) {
+				depth--;
+				position += 2;
+			} else if (c == '}' && next == '}') {
+				addField(fieldStart, position);
+				return position + 2;
+			} else {
+				if (c == '|' && depth == 0) {
+					addField(fieldStart, position);
+					fieldStart = position + 1;
+				}
+				position++;
+			}
+		}
+		addField(fieldStart, length);
+		return length;
+	}
+
+	/**
+	 * Records the position of a template parameter.
+	 * @param start The start of the parameter.
+	 * @param end The end of the parameter.
+	 */
+	private void addField(int start, int end) {
+		if (numFields == fieldStarts.length) {
+			fieldStarts = Arrays.copyOf(fieldStarts, numFields * 2);
+			fieldEnds = Arrays.copyOf(fieldEnds, numFields * 2);
+		}
+		fieldStarts[numFields] = start;
+		fieldEnds[numFields] = end;
+		numFields++;
+	}
+
+	/**
+	 * Converts the current template into a row, or records the end of a table if the template is a footer.
+	 * @param position The position of the template.
+	 * @return The row, or null if the template isn't a row.
+	 */
+	private LearnsetRow readRow(int position) {
+		int nameStart = fieldStarts[0] + TEMPLATE_PREFIX.length();
+		int nameEnd = fieldEnds[0];
+		int wordEnd = nameStart;
+		while (wordEnd < nameEnd && Character.isLowerCase(source.charAt(wordEnd))) {
+			wordEnd++;
+		}
+		int wordLength = wordEnd - nameStart;
+		for (Method method : Method.values()) {
+			String templateName = method.templateName;
+			if (!source.startsWith(templateName, nameStart)) {
+				continue;
+			}
+			if (wordLength == templateName.length() + 1 && source.charAt(wordEnd - 1) == 'f') {
+				footers[method.ordinal()]++;
+				return null;
+			} else if (wordLength == templateName.length()) {
+				LearnsetRow row = new LearnsetRow();
+				row.method = method;
+				row.generation = getGeneration(wordEnd, nameEnd);
+				row.table = footers[method.ordinal()];
+				row.form = getHeading(position);
+				return fillRow(row, wordEnd < nameEnd && source.charAt(wordEnd) != '/'
+						&& !Character.isDigit(source.charAt(wordEnd))) ? row : null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the move and method-specific data of a row from the template parameters.
+	 * @param row The row to fill.
+	 * @param romanGeneration Whether the template's generation is a Roman numeral. These level-up templates have an
+	 *            extra column before the level.
+	 * @return Whether the row contains a move.
+	 */
+	private boolean fillRow(LearnsetRow row, boolean romanGeneration) {
+		int moveField;
+		switch (row.method) {
+		case LEVEL:
+			int levelField = romanGeneration ? 2 : 1;
+			moveField = levelField + 1;
+			if (levelField < numFields) {
+				row.level = parseLevel(fieldStarts[levelField], fieldEnds[levelField]);
+			}
+			break;
+		case TM:
+			moveField = 2;
+			row.tmNumber = getField(1);
+			break;
+		case TUTOR:
+			moveField = 1;
+			break;
+		case PREVO:
+			for (int i = 1; i < numFields; i++) {
+				if (fieldEnds[i] - fieldStarts[i] == 1 && source.charAt(fieldStarts[i]) == 'e') {
+					return false;
+				}
+			}
+			moveField = 7;
+			break;
+		default:
+			moveField = 2;
+			break;
+		}
+		if (moveField >= numFields) {
+			return false;
+		}
+		row.move = getField(moveField);
+		return !row.move.isEmpty();
+	}
+
+	/**
+	 * Gets a parameter of the current template.
+	 * @param field The index of the parameter, where 0 is the template name.
+	 * @return The trimmed parameter.
+	 */
+	private String getField(int field) {
+		return source.substring(fieldStarts[field], fieldEnds[field]).trim();
+	}
+
+	/**
+	 * Parses a level without copying it out of the page.
+	 * @param start The start of the level.
+	 * @param end The end of the level.
+	 * @return The level, or -1 if it isn't a number.
+	 */
+	private int parseLevel(int start, int end) {
+		int level = 0;
+		boolean hasDigits = false;
+		for (int i = start; i < end; i++) {
+			char c = source.charAt(i);
+			if (c >= '0' && c <= '9') {
+				level = level * 10 + (c - '0');
+				hasDigits = true;
+			} else if (!Character.isWhitespace(c)) {
+				return -1;
+			}
+		}
+		return hasDigits ? level : -1;
+	}
+
+	/**
+	 * Reads the generation after the method in a template name, written either as a number or a Roman numeral.
+	 * @param start The position after the method in the template name.
+	 * @param end The end of the template name.
+	 * @return The generation, or 0 if the template name doesn't contain one.
+	 */
+	private int getGeneration(int start, int end) {
+		int generation = 0;
+		int previous = 0;
+		for (int i = start; i < end; i++) {
+			char c = source.charAt(i);
+			int value;
+			if (c >= '0' && c <= '9') {
+				generation = generation * 10 + (c - '0');
+				continue;
+			} else if (c == 'I') {
+				value = 1;
+			} else if (c == 'V') {
+				value = 5;
+			} else if (c == 'X') {
+				value = 10;
+			} else {
+				continue;
+			}
+			generation += value > previous && previous > 0 ? value - 2 * previous : value;
+			previous = value;
+		}
+		return generation;
+	}
+
+	/**
+	 * Gets the last heading before a position, continuing the search from the previous template.
+	 * @param position The position of the current template.
+	 * @return The text of the heading, or null if there are no headings before the template.
+	 */
+	private String getHeading(int position) {
+		int lineStart = headingPosition == 0 && source.startsWith("=") ? 0 : getNextHeading(headingPosition);
+		while (lineStart != -1 && lineStart < position) {
+			int lineEnd = source.indexOf('\n', lineStart);
+			if (lineEnd == -1 || lineEnd > position) {
+				lineEnd = position;
+			}
+			int start = lineStart;
+			int end = lineEnd;
+			while (start < end && source.charAt(start) == '=') {
+				start++;
+			}
+			while (end > start && (source.charAt(end - 1) == '=' || Character.isWhitespace(source.charAt(end - 1)))) {
+				end--;
+			}
+			heading = source.substring(start, end).trim();
+			lineStart = getNextHeading(lineEnd);
+		}
+		headingPosition = position;
+		return heading;
+	}
+
+	/**
+	 * Finds the next line that starts with a heading.
+	 * @param position The position to start searching from.
+	 * @return The start of the heading line, or -1 if there are no more headings.
+	 */
+	private int getNextHeading(int position) {
+		int lineBreak = source.indexOf("\n=", position);
+		return lineBreak == -1 ? -1 : lineBreak + 1;
+	}
+}
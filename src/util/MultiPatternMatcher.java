@@ -0,0 +1,221 @@
+package util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Finds any of a fixed set of strings in a single pass over the input, using an Aho–Corasick automaton. The
+ * automaton is built once and can be reused and shared between threads.
+ */
+public class MultiPatternMatcher {
+
+	/** The characters below this value are looked up directly instead of by search. */
+	private static final int DIRECT_CHARS = 128;
+
+	/** The strings being matched, in priority order. */
+	private final String[] patterns;
+	/** Maps ASCII characters to their column in the transition table, or -1 if no pattern contains them. */
+	private final int[] directColumns = new int[DIRECT_CHARS];
+	/** The number of columns used by ASCII characters. Columns for other characters come after them. */
+	private final int numDirectColumns;
+	/** The non-ASCII characters used by the patterns, sorted. */
+	private final char[] otherChars;
+	/** The state reached from each state by each character column. */
+	private final int[][] transitions;
+	/** The length of the pattern prefix that each state represents. */
+	private final int[] depths;
+	/** The pattern that ends at each state, or -1 if no pattern ends there. */
+	private final int[] terminals;
+	/** The next shorter suffix state where a pattern ends, or -1 if there is none. */
+	private final int[] outputLinks;
+
+	/**
+	 * Builds a matcher.
+	 * @param patterns The strings to match. When several patterns match at the same position, earlier patterns take
+	 *            priority.
+	 */
+	public MultiPatternMatcher(String... patterns) {
+		this.patterns = patterns.clone();
+		Arrays.fill(directColumns, -1);
+
+		StringBuilder others = new StringBuilder();
+		int numColumns = 0;
+		int maxStates = 1;
+		for (String pattern : patterns) {
+			if (pattern.isEmpty()) {
+				throw new IllegalArgumentException("Patterns can't be empty.");
+			}
+			maxStates += pattern.length();
+			for (char c : pattern.toCharArray()) {
+				if (c < DIRECT_CHARS) {
+					if (directColumns[c] == -1) {
+						directColumns[c] = numColumns++;
+					}
+				} else if (others.indexOf(String.valueOf(c)) == -1) {
+					others.append(c);
+				}
+			}
+		}
+		numDirectColumns = numColumns;
+		otherChars = others.toString().toCharArray();
+		Arrays.sort(otherChars);
+		numColumns += otherChars.length;
+
+		int[][] trie = new int[maxStates][numColumns];
+		int[] stateDepths = new int[maxStates];
+		int[] stateTerminals = new int[maxStates];
+		Arrays.fill(stateTerminals, -1);
+		int numStates = 1;
+		for (int i = 0; i < patterns.length; i++) {
+			int state = 0;
+			for (char c : patterns[i].toCharArray()) {
+				int column = getColumn(c);
+				if (trie[state][column] == 0) {
+					trie[state][column] = numStates;
+					stateDepths[numStates] = stateDepths[state] + 1;
+					numStates++;
+				}
+				state = trie[state][column];
+			}
+			if (stateTerminals[state] == -1) {
+				stateTerminals[state] = i;
+			}
+		}
+
+		transitions = Arrays.copyOf(trie, numStates);
+		depths = Arrays.copyOf(stateDepths, numStates);
+		terminals = Arrays.copyOf(stateTerminals, numStates);
+		outputLinks = new int[numStates];
+		int[] failures = new int[numStates];
+		outputLinks[0] = -1;
+
+		Deque<Integer> queue = new ArrayDeque<>();
+		for (int column = 0; column < numColumns; column++) {
+			int child = transitions[0][column];
+			if (child != 0) {
+				outputLinks[child] = -1;
+				queue.add(child);
+			}
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			for (int column = 0; column < numColumns; column++) {
+				int child = transitions[state][column];
+				int fallback = transitions[failures[state]][column];
+				if (child == 0) {
+					transitions[state][column] = fallback;
+				} else {
+					failures[child] = fallback;
+					outputLinks[child] = terminals[fallback] != -1 ? fallback : outputLinks[fallback];
+					queue.add(child);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the transition table column for a character.
+	 * @param c The character to look up.
+	 * @return The column for the character, or -1 if no pattern contains it.
+	 */
+	private int getColumn(char c) {
+		if (c < DIRECT_CHARS) {
+			return directColumns[c];
+		}
+		int index = Arrays.binarySearch(otherChars, c);
+		return index < 0 ? -1 : numDirectColumns + index;
+	}
+
+	/**
+	 * Moves the automaton forward by one character.
+	 * @param state The current state.
+	 * @param c The next character.
+	 * @return The new state.
+	 */
+	private int step(int state, char c) {
+		int column = getColumn(c);
+		return column == -1 ? 0 : transitions[state][column];
+	}
+
+	/**
+	 * Checks if a string contains any of the patterns.
+	 * @param string The string to search in.
+	 * @return Whether the string contains any of the patterns.
+	 */
+	public boolean containsAny(CharSequence string) {
+		int state = 0;
+		for (int i = 0; i < string.length(); i++) {
+			state = step(state, string.charAt(i));
+			if (terminals[state] != -1 || outputLinks[state] != -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if a string is equal to any of the patterns.
+	 * @param string The string to check.
+	 * @return Whether the string is equal to any of the patterns.
+	 */
+	public boolean equalsAny(CharSequence string) {
+		if (string == null) {
+			return false;
+		}
+		int state = 0;
+		for (int i = 0; i < string.length(); i++) {
+			state = step(state, string.charAt(i));
+			if (depths[state] != i + 1) {
+				return false;
+			}
+		}
+		return terminals[state] != -1;
+	}
+
+	/**
+	 * Removes every occurrence of the patterns from a string. Like a regular expression alternation, the leftmost
+	 * occurrence is removed first, and earlier patterns win when several start at the same position.
+	 * @param string The string to remove patterns from.
+	 * @return The string without the patterns.
+	 */
+	public String strip(CharSequence string) {
+		StringBuilder result = null;
+		int length = string.length();
+		int copied = 0;
+		int position = 0;
+		while (position < length) {
+			int state = 0;
+			int bestStart = -1;
+			int bestPattern = -1;
+			for (int i = position; i < length; i++) {
+				state = step(state, string.charAt(i));
+				for (int output = terminals[state] != -1 ? state : outputLinks[state]; output != -1;
+						output = outputLinks[output]) {
+					int pattern = terminals[output];
+					int start = i + 1 - depths[output];
+					if (bestStart == -1 || start < bestStart || start == bestStart && pattern < bestPattern) {
+						bestStart = start;
+						bestPattern = pattern;
+					}
+				}
+				if (bestStart != -1 && i + 1 - depths[state] > bestStart) {
+					break;
+				}
+			}
+			if (bestStart == -1) {
+				break;
+			}
+			if (result == null) {
+				result = new StringBuilder(length);
+			}
+			result.append(string, copied, bestStart);
+			copied = position = bestStart + patterns[bestPattern].length();
+		}
+		if (result == null) {
+			return string.toString();
+		}
+		result.append(string, copied, length);
+		return result.toString();
+	}
+}
@@ -0,0 +1,318 @@
+package util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The wikicode being parsed from a single article. Each thread parsing an article uses its own context, so articles
+ * can be parsed in parallel.
+ * The first table lookup walks every template in the raw data once and indexes its named parameters, so later
+ * lookups don't need to search the raw data again.
+ */
+public class ParseContext {
+
+	/** The raw data to be processed. */
+	private String raw;
+	/** Maps template parameter names to the start and end of their first value, or null if not indexed yet. */
+	private Map<String, int[]> index;
+	/** Entries that were read earlier and are used instead of the raw data, or null if they come from the raw data. */
+	private Map<String, String> entries;
+
+	/**
+	 * Initializes a parse context.
+	 * @param raw The raw data to be processed.
+	 */
+	public ParseContext(String raw) {
+		this.raw = raw;
+	}
+
+	/**
+	 * Initializes a parse context from entries that were read earlier, such as ones loaded from the parsed article
+	 * cache.
+	 * @param entries Maps the sections of a Pokémon table to their entries.
+	 */
+	public ParseContext(Map<String, String> entries) {
+		this.raw = "";
+		this.entries = entries;
+	}
+
+	/**
+	 * Gets the raw data being processed.
+	 * @return The raw data being processed.
+	 */
+	public String getRaw() {
+		return raw;
+	}
+
+	/**
+	 * Changes the raw data being processed.
+	 * @param raw The new raw data to process.
+	 */
+	public void setRaw(String raw) {
+		this.raw = raw;
+		index = null;
+		entries = null;
+	}
+
+	/**
+	 * Narrows the raw data to the part between two strings.
+	 * @param start The start of the part to keep, or null to keep from the start.
+	 * @param end The end of the part to keep, or null to keep until the end.
+	 */
+	public void narrow(String start, String end) {
+		setRaw(StringUtil.getSubstringBetween(raw, start, end));
+	}
+
+	/**
+	 * Gets an entry in a Pokémon table.
+	 * @param section The section to get an entry from.
+	 * @return The entry in the Pokémon table, or null if the entry doesn't exist.
+	 */
+	public String getTableEntry(String section) {
+		if (entries != null) {
+			return entries.get(section);
+		}
+		if (index == null) {
+			buildIndex();
+		}
+		int[] value = index.get(section);
+		if (value != null) {
+			return raw.substring(value[0], value[1]).trim();
+		}
+		return findTableEntry(section);
+	}
+
+	/**
+	 * Adds entries in a Pokémon table to a map.
+	 * @param map The map to add entries to.
+	 * @param sections The sections to get entries from. Sections without an entry are added with null values.
+	 */
+	public void getTableEntries(Map<String, String> map, String... sections) {
+		for (String section : sections) {
+			map.put(section, getTableEntry(section));
+		}
+	}
+
+	/**
+	 * Searches the raw data for an entry that isn't a template parameter.
+	 * @param section The section to get an entry from.
+	 * @return The entry in the Pokémon table, or null if the entry doesn't exist.
+	 */
+	private String findTableEntry(String section) {
+		int startIndex = raw.indexOf(section);
+		while (startIndex > 0 && Character.isAlphabetic(raw.charAt(startIndex - 1))) {
+			startIndex = raw.indexOf(section, startIndex + 1);
+		}
+		if (startIndex == -1) {
+			return null;
+		}
+		startIndex += section.length() + 1;
+		if (startIndex > raw.length()) {
+			return null;
+		}
+		int endIndex = raw.indexOf("|", startIndex);
+		int newLineIndex = raw.indexOf("\n", startIndex);
+		int indexBreak = raw.indexOf("}}", startIndex);
+		int startBrace = raw.indexOf("{{", startIndex);
+		if (startBrace != -1 && startBrace < indexBreak && startBrace < newLineIndex) {
+			int newEndIndex = raw.indexOf("|", indexBreak);
+			if (newEndIndex > -1) {
+				endIndex = newEndIndex;
+				indexBreak = raw.indexOf("}}", indexBreak + 2);
+			}
+		}
+		if (endIndex == -1 || indexBreak < endIndex && indexBreak != -1) {
+			endIndex = indexBreak;
+		}
+		if (endIndex == -1) {
+			endIndex = raw.length();
+		}
+		if (endIndex > startIndex && raw.charAt(endIndex - 1) == '\n') {
+			endIndex--;
+		}
+		String entry = raw.substring(startIndex, endIndex);
+		if (!entry.isEmpty() && entry.charAt(0) == '=') {
+			entry = entry.replaceFirst("= ", "");
+		}
+		return entry;
+	}
+
+	/**
+	 * Indexes the named parameters of every template in the raw data.
+	 */
+	private void buildIndex() {
+		index = new HashMap<>();
+		int position = raw.indexOf("{{");
+		while (position != -1) {
+			position = raw.indexOf("{{", indexTemplate(position + 2));
+		}
+	}
+
+	/**
+	 * Indexes the named parameters of a template and any templates nested in it.
+	 * @param position The position just after the opening braces of the template.
+	 * @return The position just after the closing braces of the template.
+	 */
+	private int indexTemplate(int position) {
+		position = indexPart(position, false);
+		while (position < raw.length() && raw.charAt(position) == '|') {
+			position = indexPart(position + 1, true);
+		}
+		return Math.min(raw.length(), position + 2);
+	}
+
+	/**
+	 * Reads the name or a parameter of a template, indexing the parameter if it is named.
+	 * @param position The start of the name or parameter.
+	 * @param parameter Whether a parameter is being read.
+	 * @return The position of the pipe or closing braces after the name or parameter.
+	 */
+	private int indexPart(int position, boolean parameter) {
+		int start = position;
+		int[] value = null;
+		int length = raw.length();
+		while (position < length) {
+			char c = raw.charAt(position);
+			char next = position + 1 < length ? raw.charAt(position + 1) : 0;
+			if (c == '{' && next == '{') {
+				position = indexTemplate(position + 2);
+			} else if (c == '[' && next == '[') {
+				position = skipLink(position + 2);
+			} else if (c == '|' || c == '}' && next == '}') {
+				break;
+			} else {
+				if (c == '=' && parameter && value == null) {
+					String key = raw.substring(start, position).trim();
+					value = new int[] { position + 1, length };
+					if (!key.isEmpty()) {
+						index.putIfAbsent(key, value);
+					}
+				}
+				position++;
+			}
+		}
+		if (value != null) {
+			value[1] = position;
+		}
+		return position;
+	}
+
+	/**
+	 * Skips past a link, which can contain pipes that don't separate template parameters.
+	 * @param position The position just after the opening brackets of the link.
+	 * @return The position just after the closing brackets of the link.
+	 */
+	private int skipLink(int position) {
+		int depth = 1;
+		int length = raw.length();
+		while (position < length) {
+			if (raw.startsWith("[[", position)) {
+				depth++;
+				position += 2;
+			} else if (raw.startsWith("]]", position)) {
+				position += 2;
+				if (--depth == 0) {
+					break;
+				}
+			} else {
+				position++;
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Gets an entry in a Pokémon table, with backup entries for nonexistence.
+	 * @param sections The sections to try getting an entry from, in order.
+	 * @return The entry in the Pokémon table, or null if the entry doesn't exist.
+	 */
+	public String getTableEntryFallback(String... sections) {
+		for (String section : sections) {
+			String entry = getTableEntry(section);
+			if (entry != null) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets an entry in a Pokémon table as a boolean.
+	 * @param section The section to get an entry from.
+	 * @return The entry in the Pokémon table as a boolean.
+	 */
+	public boolean getTableEntryBoolean(String section) {
+		String tableEntry = getTableEntry(section);
+		return "yes".equals(tableEntry);
+	}
+
+	/**
+	 * Gets an entry in a Pokémon table as an integer.
+	 * @param section The section to get an entry from.
+	 * @return The entry in the Pokémon table as an integer.
+	 */
+	public int getTableEntryInt(String section) {
+		String tableEntry = getTableEntry(section);
+		return tableEntry == null ? 0 : parseInt(tableEntry);
+	}
+
+	/**
+	 * Parses an integer, ignoring commas and spaces.
+	 * @param entry The string to parse.
+	 * @return The parsed integer.
+	 * @throws NumberFormatException If the string isn't an integer.
+	 */
+	private static int parseInt(String entry) {
+		long value = 0;
+		boolean negative = false;
+		boolean hasDigits = false;
+		for (int i = 0; i < entry.length(); i++) {
+			char c = entry.charAt(i);
+			if (c == ',' || Character.isWhitespace(c)) {
+				continue;
+			} else if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				hasDigits = true;
+				if (value > (long) Integer.MAX_VALUE + 1) {
+					throw new NumberFormatException("For input string: \"" + entry + "\"");
+				}
+			} else if ((c == '-' || c == '+') && !hasDigits && !negative) {
+				negative = c == '-';
+			} else {
+				throw new NumberFormatException("For input string: \"" + entry + "\"");
+			}
+		}
+		value = negative ? -value : value;
+		if (!hasDigits || value > Integer.MAX_VALUE) {
+			throw new NumberFormatException("For input string: \"" + entry + "\"");
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Gets an entry in a Pokémon table as an integer.
+	 * @param section The section to get an entry from.
+	 * @return The entry in the Pokémon table as an integer, or null if the entry isn't a number.
+	 */
+	public Integer getTableEntryInteger(String section) {
+		try {
+			return getTableEntryInt(section);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets an entry in a Pokémon table as a float.
+	 * @param section The section to get an entry from.
+	 * @return The entry in the Pokémon table as a float.
+	 */
+	public float getTableEntryFloat(String section) {
+		String tableEntry = getTableEntry(section);
+		if (tableEntry == null) {
+			return 0;
+		} else {
+			return Float.parseFloat(tableEntry);
+		}
+	}
+}
@@ -0,0 +1,316 @@
+package util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Stores data parsed from wiki articles on disk in a compact binary form, so that later runs can skip downloading
+ * and parsing articles that haven't changed. Results are stored by the revision of the article they were parsed from
+ * and the version of the parser, so a new revision or a parser change causes the article to be parsed again.
+ * Articles can also be parsed a section at a time, so that only the sections that changed in a new revision are
+ * parsed again.
+ */
+public class ParsedArticleCache {
+
+	/** Identifies files written by this class. */
+	private static final int MAGIC = 0x504D5052;
+
+	/** Stores a single string. */
+	public static final Codec<String> STRING = new Codec<String>() {
+		@Override
+		public void write(DataOutputStream out, String value) throws IOException {
+			writeString(out, value);
+		}
+
+		@Override
+		public String read(DataInputStream in) throws IOException {
+			return readString(in);
+		}
+	};
+
+	/** Stores a map of strings, such as the entries read from an infobox. Values can be null. */
+	public static final Codec<Map<String, String>> STRING_MAP = new Codec<Map<String, String>>() {
+		@Override
+		public void write(DataOutputStream out, Map<String, String> value) throws IOException {
+			out.writeInt(value.size());
+			for (Map.Entry<String, String> entry : value.entrySet()) {
+				writeString(out, entry.getKey());
+				writeString(out, entry.getValue());
+			}
+		}
+
+		@Override
+		public Map<String, String> read(DataInputStream in) throws IOException {
+			int size = in.readInt();
+			Map<String, String> map = new LinkedHashMap<>();
+			for (int i = 0; i < size; i++) {
+				map.put(readString(in), readString(in));
+			}
+			return map;
+		}
+	};
+
+	/** The folder that the cache is stored in. */
+	private File directory;
+
+	/**
+	 * Initializes the cache.
+	 * @param directory The folder to store the cache in.
+	 */
+	public ParsedArticleCache(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Gets the cached result of parsing a revision of an article.
+	 * @param kind The name of the parsed data.
+	 * @param title The title of the article.
+	 * @param revision The revision ID of the article.
+	 * @param version The version of the parser.
+	 * @param codec Reads the parsed data.
+	 * @return The parsed data, or null if it hasn't been cached for the revision and parser version.
+	 */
+	public <T> T get(String kind, String title, long revision, int version, Codec<T> codec) {
+		return read(kind, title, revision, version, codec);
+	}
+
+	/**
+	 * Gets the cached result of parsing the last revision of an article that was parsed, which may be older than
+	 * the current revision.
+	 * @param kind The name of the parsed data.
+	 * @param title The title of the article.
+	 * @param version The version of the parser.
+	 * @param codec Reads the parsed data.
+	 * @return The parsed data, or null if the article hasn't been parsed with the parser version.
+	 */
+	public <T> T getAnyRevision(String kind, String title, int version, Codec<T> codec) {
+		return read(kind, title, null, version, codec);
+	}
+
+	/**
+	 * Reads cached parsed data for an article.
+	 * @param kind The name of the parsed data.
+	 * @param title The title of the article.
+	 * @param revision The revision ID that the data must have been parsed from, or null for any revision.
+	 * @param version The version of the parser.
+	 * @param codec Reads the parsed data.
+	 * @return The parsed data, or null if there is no matching data.
+	 */
+	private <T> T read(String kind, String title, Long revision, int version, Codec<T> codec) {
+		File file = getFile(kind, title);
+		if (!file.exists()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != version) {
+				return null;
+			}
+			long storedRevision = in.readLong();
+			if (revision != null && storedRevision != revision || !title.equals(readString(in))) {
+				return null;
+			}
+			return codec.read(in);
+		} catch (IOException e) {
+			System.out.println("Could not read parsed " + kind + " for " + title + ".");
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the result of parsing a revision of an article, replacing any result for an older revision.
+	 * @param kind The name of the parsed data.
+	 * @param title The title of the article.
+	 * @param revision The revision ID of the article.
+	 * @param version The version of the parser.
+	 * @param codec Writes the parsed data.
+	 * @param value The parsed data.
+	 */
+	public <T> void put(String kind, String title, long revision, int version, Codec<T> codec, T value) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeInt(version);
+			out.writeLong(revision);
+			writeString(out, title);
+			codec.write(out, value);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		try {
+			ArticleCache.writeAtomic(getFile(kind, title), bytes.toByteArray());
+		} catch (IOException e) {
+			System.out.println("Could not cache parsed " + kind + " for " + title + ".");
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Parses each top-level section of an article separately, reusing the results for sections that are unchanged
+	 * since an earlier revision.
+	 * @param source The source of the article.
+	 * @param previous The section results from an earlier revision, or null if the article hasn't been parsed.
+	 * @param parser Parses the heading and text of a section. The heading is null for the lead section. Must not
+	 *            return null.
+	 * @return The results for each section of the article.
+	 */
+	public static <T> SectionResults<T> parseSections(String source, SectionResults<T> previous,
+			BiFunction<String, CharSlice, T> parser) {
+		ArticleSections sections = new ArticleSections(source);
+		int numSections = sections.size();
+		long[] hashes = new long[numSections];
+		List<T> results = new ArrayList<>(numSections);
+		for (int i = 0; i < numSections; i++) {
+			hashes[i] = sections.getHash(i);
+			int previousIndex = previous == null ? -1 : previous.indexOf(hashes[i]);
+			if (previousIndex == -1) {
+				results.add(parser.apply(sections.getHeading(i), sections.getSection(i)));
+			} else {
+				results.add(previous.results.get(previousIndex));
+			}
+		}
+		return new SectionResults<>(hashes, results);
+	}
+
+	/**
+	 * Gets a codec that stores the results of parsing each section of an article.
+	 * @param codec Stores the result for a single section.
+	 * @return A codec for the results of every section.
+	 */
+	public static <T> Codec<SectionResults<T>> getSectionCodec(Codec<T> codec) {
+		return new Codec<SectionResults<T>>() {
+			@Override
+			public void write(DataOutputStream out, SectionResults<T> value) throws IOException {
+				out.writeInt(value.hashes.length);
+				for (int i = 0; i < value.hashes.length; i++) {
+					out.writeLong(value.hashes[i]);
+					codec.write(out, value.results.get(i));
+				}
+			}
+
+			@Override
+			public SectionResults<T> read(DataInputStream in) throws IOException {
+				int numSections = in.readInt();
+				long[] hashes = new long[numSections];
+				List<T> results = new ArrayList<>(numSections);
+				for (int i = 0; i < numSections; i++) {
+					hashes[i] = in.readLong();
+					results.add(codec.read(in));
+				}
+				return new SectionResults<>(hashes, results);
+			}
+		};
+	}
+
+	/**
+	 * Gets the file that parsed data for an article is stored in.
+	 * @param kind The name of the parsed data.
+	 * @param title The title of the article.
+	 * @return The file that the parsed data is stored in.
+	 */
+	private File getFile(String kind, String title) {
+		File folder = new File(directory, kind);
+		return new File(folder, ArticleCache.hash(title.getBytes(StandardCharsets.UTF_8)) + ".bin");
+	}
+
+	/**
+	 * Writes a string that may be null.
+	 * @param out The stream to write to.
+	 * @param value The string to write.
+	 * @throws IOException If the string can't be written.
+	 */
+	public static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by writeString.
+	 * @param in The stream to read from.
+	 * @return The string that was read.
+	 * @throws IOException If the string can't be read.
+	 */
+	public static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * The results of parsing each top-level section of an article, along with the hash of each section.
+	 * @param <T> The type of the parsed data for a section.
+	 */
+	public static class SectionResults<T> {
+
+		/** The hash of each section, in page order. */
+		public final long[] hashes;
+		/** The parsed data for each section, in page order. */
+		public final List<T> results;
+
+		/**
+		 * Initializes the section results.
+		 * @param hashes The hash of each section, in page order.
+		 * @param results The parsed data for each section, in page order.
+		 */
+		public SectionResults(long[] hashes, List<T> results) {
+			this.hashes = hashes;
+			this.results = results;
+		}
+
+		/**
+		 * Finds a section by its hash.
+		 * @param hash The hash of the section.
+		 * @return The index of the section, or -1 if no section has the hash.
+		 */
+		public int indexOf(long hash) {
+			for (int i = 0; i < hashes.length; i++) {
+				if (hashes[i] == hash) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * Converts parsed data to and from its cached form.
+	 * @param <T> The type of the parsed data.
+	 */
+	public interface Codec<T> {
+
+		/**
+		 * Writes parsed data.
+		 * @param out The stream to write to.
+		 * @param value The parsed data.
+		 * @throws IOException If the data can't be written.
+		 */
+		void write(DataOutputStream out, T value) throws IOException;
+
+		/**
+		 * Reads parsed data.
+		 * @param in The stream to read from.
+		 * @return The parsed data.
+		 * @throws IOException If the data can't be read.
+		 */
+		T read(DataInputStream in) throws IOException;
+	}
+}
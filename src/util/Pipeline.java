@@ -0,0 +1,151 @@
+package util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Processes a list of items in three overlapping stages. Items are downloaded in parallel ahead of the item being
+ * parsed, parsed one at a time on a separate thread, and rendered on the calling thread in their original order.
+ * Each stage can only get a limited number of items ahead of the next one.
+ */
+public class Pipeline {
+
+	/** The default number of items that are downloaded or parsed ahead of the item being rendered. */
+	private static final int DEFAULT_PREFETCH = 8;
+
+	/**
+	 * Parses a downloaded item.
+	 * @param <I> The type of the items.
+	 * @param <S> The type of the downloaded data.
+	 * @param <P> The type of the parsed data.
+	 */
+	public interface Parser<I, S, P> {
+
+		/**
+		 * Parses a downloaded item.
+		 * @param index The position of the item in the list.
+		 * @param item The item to parse.
+		 * @param source The data downloaded for the item.
+		 * @return The parsed data.
+		 */
+		P parse(int index, I item, S source);
+	}
+
+	/**
+	 * Renders a parsed item.
+	 * @param <P> The type of the parsed data.
+	 */
+	public interface Renderer<P> {
+
+		/**
+		 * Renders a parsed item.
+		 * @param index The position of the item in the list.
+		 * @param parsed The parsed data for the item.
+		 */
+		void render(int index, P parsed);
+	}
+
+	/**
+	 * Processes items with the prefetch depth from the miner.pipeline.prefetch property.
+	 * @param items The items to process.
+	 * @param fetcher Downloads the data for an item. Called on the download threads.
+	 * @param parser Parses the data for an item. Called on a single parsing thread.
+	 * @param renderer Renders the parsed data for an item. Called on the calling thread, in the order of the items.
+	 */
+	public static <I, S, P> void run(List<I> items, Function<I, S> fetcher, Parser<I, S, P> parser,
+			Renderer<P> renderer) {
+		run(items, fetcher, parser, renderer, Integer.getInteger("miner.pipeline.prefetch", DEFAULT_PREFETCH));
+	}
+
+	/**
+	 * Processes items.
+	 * @param items The items to process.
+	 * @param fetcher Downloads the data for an item. Called on the download threads.
+	 * @param parser Parses the data for an item. Called on a single parsing thread.
+	 * @param renderer Renders the parsed data for an item. Called on the calling thread, in the order of the items.
+	 * @param prefetch The number of items that can be downloaded or parsed ahead of the item being rendered.
+	 */
+	public static <I, S, P> void run(List<I> items, Function<I, S> fetcher, Parser<I, S, P> parser,
+			Renderer<P> renderer, int prefetch) {
+		if (prefetch < 1) {
+			throw new IllegalArgumentException("Prefetch depth must be at least 1.");
+		}
+		BlockingQueue<Result<P>> parsed = new ArrayBlockingQueue<>(prefetch);
+		Thread parseThread = new Thread(() -> parseAll(items, fetcher, parser, parsed, prefetch), "Parse");
+		parseThread.setDaemon(true);
+		parseThread.start();
+		try {
+			for (int i = 0; i < items.size(); i++) {
+				Result<P> result = parsed.take();
+				if (result.error instanceof Error) {
+					throw (Error) result.error;
+				} else if (result.error != null) {
+					throw (RuntimeException) result.error;
+				}
+				renderer.render(i, result.value);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while processing.", e);
+		} finally {
+			parseThread.interrupt();
+		}
+	}
+
+	/**
+	 * Parses each item once it has been downloaded, keeping a limited number of downloads ahead of the parser.
+	 * @param items The items to process.
+	 * @param fetcher Downloads the data for an item.
+	 * @param parser Parses the data for an item.
+	 * @param parsed Receives the parsed items in order. Blocks when the renderer falls behind.
+	 * @param prefetch The number of items that can be downloaded ahead of the item being parsed.
+	 */
+	private static <I, S, P> void parseAll(List<I> items, Function<I, S> fetcher, Parser<I, S, P> parser,
+			BlockingQueue<Result<P>> parsed, int prefetch) {
+		ExecutorService executor = APIConnection.getFetchExecutor();
+		Deque<Future<S>> downloads = new ArrayDeque<>(prefetch);
+		int nextDownload = 0;
+		try {
+			for (int i = 0; i < items.size(); i++) {
+				while (nextDownload < items.size() && downloads.size() < prefetch) {
+					I item = items.get(nextDownload++);
+					downloads.add(executor.submit(() -> fetcher.apply(item)));
+				}
+				Result<P> result = new Result<>();
+				try {
+					result.value = parser.parse(i, items.get(i), APIConnection.getResult(downloads.poll()));
+				} catch (RuntimeException | Error e) {
+					result.error = e;
+				}
+				parsed.put(result);
+				if (result.error != null) {
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			// The renderer stopped early.
+		} finally {
+			for (Future<S> download : downloads) {
+				download.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * The outcome of parsing an item.
+	 * @param <P> The type of the parsed data.
+	 */
+	private static class Result<P> {
+
+		/** The parsed data, if parsing succeeded. */
+		private P value;
+		/** The exception or error that stopped parsing, or null if parsing succeeded. */
+		private Throwable error;
+	}
+}
@@ -0,0 +1,97 @@
+package util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how often requests are sent to a host using a token bucket. The rate rises slowly while requests succeed
+ * and is halved whenever the host says that it is being sent too many requests.
+ */
+public class RateLimiter {
+
+	/** The amount that the rate rises by after each successful request, in requests per second. */
+	private static final double RATE_INCREASE = 0.1;
+	/** The factor that the rate is multiplied by when the host is overloaded. */
+	private static final double RATE_DECREASE = 0.5;
+
+	/** The current number of requests allowed per second. */
+	private double rate;
+	/** The lowest number of requests allowed per second. */
+	private double minRate;
+	/** The highest number of requests allowed per second. */
+	private double maxRate;
+	/** The largest number of requests that can be sent at once after the host has been idle. */
+	private double burst;
+	/** The number of requests that can be sent right now. Negative if requests are waiting for tokens. */
+	private double tokens;
+	/** The last time that tokens were added, in nanoseconds. */
+	private long lastRefill;
+	/** The time until which no requests can be sent, in nanoseconds. */
+	private long pausedUntil;
+
+	/**
+	 * Initializes the rate limiter.
+	 * @param rate The starting number of requests allowed per second.
+	 * @param minRate The lowest number of requests allowed per second.
+	 * @param maxRate The highest number of requests allowed per second.
+	 * @param burst The largest number of requests that can be sent at once after the host has been idle.
+	 */
+	public RateLimiter(double rate, double minRate, double maxRate, double burst) {
+		if (minRate <= 0 || rate < minRate || maxRate < rate || burst < 1) {
+			throw new IllegalArgumentException("Invalid rate limits.");
+		}
+		this.rate = rate;
+		this.minRate = minRate;
+		this.maxRate = maxRate;
+		this.burst = burst;
+		tokens = burst;
+		lastRefill = System.nanoTime();
+		pausedUntil = lastRefill;
+	}
+
+	/**
+	 * Waits until a request can be sent.
+	 * @throws InterruptedException If the thread is interrupted while waiting.
+	 */
+	public void acquire() throws InterruptedException {
+		long wait = reserve();
+		if (wait > 0) {
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+
+	/**
+	 * Takes a token for a request.
+	 * @return How long the request must wait before being sent, in nanoseconds.
+	 */
+	private synchronized long reserve() {
+		long now = System.nanoTime();
+		tokens = Math.min(burst, tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1));
+		lastRefill = now;
+		tokens--;
+		long wait = tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+		return Math.max(wait, pausedUntil - now);
+	}
+
+	/**
+	 * Raises the rate after a request succeeds.
+	 */
+	public synchronized void onSuccess() {
+		rate = Math.min(maxRate, rate + RATE_INCREASE);
+	}
+
+	/**
+	 * Lowers the rate after the host says that it is overloaded.
+	 */
+	public synchronized void onThrottled() {
+		rate = Math.max(minRate, rate * RATE_DECREASE);
+		tokens = Math.min(tokens, 0);
+	}
+
+	/**
+	 * Stops requests from being sent for a while.
+	 * @param millis How long to stop sending requests, in milliseconds.
+	 */
+	public synchronized void pause(long millis) {
+		pausedUntil = Math.max(pausedUntil, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+}
@@ -0,0 +1,150 @@
+package util;
+
+/**
+ * Writes comma-separated column lists and rows of values for SQL insert queries directly to a string builder.
+ * String values are always quoted and escaped.
+ */
+public class SqlRowWriter {
+
+	/** The string builder being written to. */
+	private StringBuilder builder;
+	/** Whether the next item is the first in the current list. */
+	private boolean first = true;
+
+	/**
+	 * Initializes a writer.
+	 * @param builder The string builder to write to.
+	 */
+	public SqlRowWriter(StringBuilder builder) {
+		this.builder = builder;
+	}
+
+	/**
+	 * Writes a parenthesized list of column names.
+	 * @param columns The column names.
+	 * @return This writer.
+	 */
+	public SqlRowWriter columns(String... columns) {
+		begin();
+		for (String column : columns) {
+			separate();
+			builder.append(column);
+		}
+		return end();
+	}
+
+	/**
+	 * Starts a row of values.
+	 * @return This writer.
+	 */
+	public SqlRowWriter begin() {
+		builder.append('(');
+		first = true;
+		return this;
+	}
+
+	/**
+	 * Finishes a row of values.
+	 * @return This writer.
+	 */
+	public SqlRowWriter end() {
+		builder.append(')');
+		return this;
+	}
+
+	/**
+	 * Adds an integer value.
+	 * @param value The value to add.
+	 * @return This writer.
+	 */
+	public SqlRowWriter add(int value) {
+		separate();
+		builder.append(value);
+		return this;
+	}
+
+	/**
+	 * Adds an integer value that may be missing.
+	 * @param value The value to add, or null to add NULL.
+	 * @return This writer.
+	 */
+	public SqlRowWriter add(Integer value) {
+		return value == null ? addNull() : add(value.intValue());
+	}
+
+	/**
+	 * Adds a decimal value.
+	 * @param value The value to add.
+	 * @return This writer.
+	 */
+	public SqlRowWriter add(float value) {
+		separate();
+		builder.append(value);
+		return this;
+	}
+
+	/**
+	 * Adds a decimal value.
+	 * @param value The value to add.
+	 * @return This writer.
+	 */
+	public SqlRowWriter add(double value) {
+		separate();
+		builder.append(value);
+		return this;
+	}
+
+	/**
+	 * Adds a boolean value.
+	 * @param value The value to add.
+	 * @return This writer.
+	 */
+	public SqlRowWriter add(boolean value) {
+		separate();
+		builder.append(value);
+		return this;
+	}
+
+	/**
+	 * Adds a string value as a quoted literal, doubling any quotes in it.
+	 * @param value The value to add, or null to add NULL.
+	 * @return This writer.
+	 */
+	public SqlRowWriter add(String value) {
+		if (value == null) {
+			return addNull();
+		}
+		separate();
+		builder.append('\'');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\'') {
+				builder.append('\'');
+			}
+			builder.append(c);
+		}
+		builder.append('\'');
+		return this;
+	}
+
+	/**
+	 * Adds a NULL value.
+	 * @return This writer.
+	 */
+	public SqlRowWriter addNull() {
+		separate();
+		builder.append("null");
+		return this;
+	}
+
+	/**
+	 * Adds a comma before every item except the first in a list.
+	 */
+	private void separate() {
+		if (first) {
+			first = false;
+		} else {
+			builder.append(',');
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package util;
+
+/**
+ * Maps strings to ints using open addressing with linear probing. Values are stored in a plain int array, so lookups
+ * don't box or allocate. Keys can't be null and entries can't be removed.
+ */
+public class StringIntMap {
+
+	/** The largest fraction of slots that can be filled before the table grows. */
+	private static final float LOAD_FACTOR = 0.5f;
+
+	/** The key in each slot, or null if the slot is empty. */
+	private String[] keys;
+	/** The value in each slot. */
+	private int[] values;
+	/** The number of entries in the map. */
+	private int size;
+
+	/**
+	 * Initializes an empty map.
+	 * @param expectedSize The number of entries that the map should hold without growing.
+	 */
+	public StringIntMap(int expectedSize) {
+		int capacity = 16;
+		while (capacity * LOAD_FACTOR < expectedSize) {
+			capacity *= 2;
+		}
+		keys = new String[capacity];
+		values = new int[capacity];
+	}
+
+	/**
+	 * Gets the value of a key.
+	 * @param key The key to look up.
+	 * @param defaultValue The value to return if the key isn't in the map.
+	 * @return The value of the key, or the default value if the key isn't in the map.
+	 */
+	public int get(String key, int defaultValue) {
+		int slot = findSlot(keys, key);
+		return keys[slot] == null ? defaultValue : values[slot];
+	}
+
+	/**
+	 * Checks if a key is in the map.
+	 * @param key The key to check.
+	 * @return Whether the key is in the map.
+	 */
+	public boolean containsKey(String key) {
+		return keys[findSlot(keys, key)] != null;
+	}
+
+	/**
+	 * Sets the value of a key, replacing any existing value.
+	 * @param key The key to set.
+	 * @param value The value of the key.
+	 */
+	public void put(String key, int value) {
+		int slot = findSlot(keys, key);
+		if (keys[slot] == null) {
+			if (size + 1 > keys.length * LOAD_FACTOR) {
+				grow();
+				slot = findSlot(keys, key);
+			}
+			keys[slot] = key;
+			size++;
+		}
+		values[slot] = value;
+	}
+
+	/**
+	 * Doubles the number of slots, moving every entry to its new slot.
+	 */
+	private void grow() {
+		String[] oldKeys = keys;
+		int[] oldValues = values;
+		keys = new String[oldKeys.length * 2];
+		values = new int[oldKeys.length * 2];
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = findSlot(keys, oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * Finds the slot that holds a key, or the empty slot where it would be added.
+	 * @param table The keys to search.
+	 * @param key The key to find.
+	 * @return The index of the slot.
+	 */
+	private static int findSlot(String[] table, String key) {
+		int hash = key.hashCode();
+		int mask = table.length - 1;
+		int slot = (hash ^ hash >>> 16) & mask;
+		while (table[slot] != null && !table[slot].equals(key)) {
+			slot = slot + 1 & mask;
+		}
+		return slot;
+	}
+}
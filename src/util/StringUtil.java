@@ -20,9 +20,6 @@ public class StringUtil {
 	/** Map from Generation 6 to Generation 5 Pokémon spellings. */
 	private static Map<String, String> pokemonConvertMap;
 
-	/** The current raw data to be processed. */
-	public static String currentRaw;
-
 	/** An array of all existing Generations. */
 	public static final String[] ALL_GENERATIONS = { "I", "II", "III", "IV", "V", "VI" };
 
@@ -53,21 +50,33 @@ public class StringUtil {
 	 * @return The substring between the start string and the end string.
 	 */
 	public static String getSubstringBetween(String initString, String start, String end) {
+		return getSliceBetween(initString, start, end).toString();
+	}
+
+	/**
+	 * Gets the part between two parts of a string without copying it.
+	 * @param initString The string or slice to get a part from.
+	 * @param start The start of the part.
+	 * @param end The end of the part.
+	 * @return The part between the start string and the end string.
+	 */
+	public static CharSlice getSliceBetween(CharSequence initString, String start, String end) {
+		CharSlice slice = CharSlice.of(initString);
 		int startIndex = 0;
 		if (start != null) {
-			startIndex = initString.indexOf(start) + start.length();
+			startIndex = slice.indexOf(start) + start.length();
 		}
 		if (startIndex == -1) {
-			return "";
+			return slice.subSequence(0, 0);
 		}
-		int endIndex = initString.length();
+		int endIndex = slice.length();
 		if (end != null) {
-			endIndex = initString.indexOf(end, startIndex);
+			endIndex = slice.indexOf(end, startIndex);
 		}
 		if (endIndex == -1) {
-			return "";
+			return slice.subSequence(0, 0);
 		}
-		return initString.substring(startIndex, endIndex);
+		return slice.subSequence(startIndex, endIndex);
 	}
 
 	/**
@@ -116,156 +125,6 @@ public class StringUtil {
 		}
 	}
 
-	/**
-	 * Gets an entry in a Pokémon table.
-	 * @param section The section to get an entry from.
-	 * @return The entry in the Pokémon table, or null if the entry doesn't exist.
-	 */
-	public static String getTableEntry(String section) {
-		int startIndex = currentRaw.indexOf(section);
-		if (startIndex == -1) {
-			return null;
-		}
-		char beforeChar = currentRaw.charAt(startIndex - 1);
-		while (Character.isAlphabetic(beforeChar)) {
-			startIndex = currentRaw.indexOf(section, startIndex + 1);
-			if (startIndex == -1) {
-				return null;
-			}
-		}
-		startIndex += section.length() + 1;
-		int endIndex = currentRaw.indexOf("|", startIndex);
-		int newLineIndex = currentRaw.indexOf("\n", startIndex);
-		int indexBreak = currentRaw.indexOf("}}", startIndex);
-		int startBrace = currentRaw.indexOf("{{", startIndex);
-		if (startBrace != -1 && startBrace < indexBreak && startBrace < newLineIndex) {
-			int newEndIndex = currentRaw.indexOf("|", indexBreak);
-			if (newEndIndex > -1) {
-				endIndex = newEndIndex;
-				indexBreak = currentRaw.indexOf("}}", indexBreak + 2);
-			}
-		}
-		if (endIndex == -1 || indexBreak < endIndex && indexBreak != -1) {
-			endIndex = indexBreak;
-		}
-		if (currentRaw.charAt(endIndex - 1) == '\n') {
-			endIndex--;
-		}
-		String entry = currentRaw.substring(startIndex, endIndex);
-		if (!entry.isEmpty() && entry.charAt(0) == '=') {
-			entry = entry.replaceFirst("= ", "");
-		}
-		return entry;
-	}
-
-	/**
-	 * Gets an entry in a Pokémon table, with backup entries for nonexistence.
-	 * @param section The section to get an entry from.
-	 * @return The entry in the Pokémon table, or null if the entry doesn't exist.
-	 */
-	public static String getTableEntryFallback(String... sections) {
-		for (String section : sections) {
-			String entry = getTableEntry(section);
-			if (entry != null) {
-				return entry;
-			}
-		}
-		return null;
-	}
-
-	/**
-	 * Gets an entry in a Pokémon table as a boolean.
-	 * @param section The section to get an entry from.
-	 * @return The entry in the Pokémon table as a boolean.
-	 */
-	public static boolean getTableEntryBoolean(String section) {
-		String tableEntry = getTableEntry(section);
-		return "yes".equals(tableEntry);
-	}
-
-	/**
-	 * Gets an entry in a Pokémon table as an integer.
-	 * @param section The section to get an entry from.
-	 * @return The entry in the Pokémon table as an integer.
-	 */
-	public static int getTableEntryInt(String section) {
-		String tableEntry = getTableEntry(section);
-		if (tableEntry == null) {
-			return 0;
-		} else {
-			tableEntry = tableEntry.replaceAll(",", "");
-			tableEntry = removeSpaces(tableEntry);
-			return Integer.parseInt(tableEntry);
-		}
-	}
-
-	/**
-	 * Gets an entry in a Pokémon table as an integer.
-	 * @param section The section to get an entry from.
-	 * @return The entry in the Pokémon table as an integer.
-	 */
-	public static Integer getTableEntryInteger(String section) {
-		try {
-			return getTableEntryInt(section);
-		} catch (NumberFormatException e) {
-			return null;
-		}
-	}
-
-	/**
-	 * Gets an entry in a Pokémon table as a float.
-	 * @param section The section to get an entry from.
-	 * @return The entry in the Pokémon table as a float.
-	 */
-	public static float getTableEntryFloat(String section) {
-		String tableEntry = getTableEntry(section);
-		if (tableEntry == null) {
-			return 0;
-		} else {
-			return Float.parseFloat(tableEntry);
-		}
-	}
-
-	/**
-	 * Gets a table split by row.
-	 * @param totalRaw
-	 * @param header The string in the header of the table.
-	 * @param footer The string in the footer of the table.
-	 * @param split The string to split rows by.
-	 * @return The table, split by row.
-	 */
-	public static String[] getSplit6(String totalRaw, String header, String footer, String split) {
-		currentRaw = getSubstringBetween(totalRaw, header, footer);
-		return currentRaw.split(split);
-	}
-
-	/**
-	 * Gets a TM table split by row.
-	 * @param totalRaw The document to get a TM table from.
-	 * @return The TM table, split by row.
-	 */
-	public static String[] getTMSplit6(String totalRaw) {
-		return getSplit6(totalRaw, "tmh/6", "tmf/6", "tm6\\|");
-	}
-
-	/**
-	 * Gets a tutor table split by row.
-	 * @param totalRaw The document to get a tutor table from.
-	 * @return The tutor table, split by row.
-	 */
-	public static String[] getTutorSplit6(String totalRaw) {
-		return getSplit6(totalRaw, "tutorh/6", "tutorf/6", "tutor6\\|");
-	}
-
-	/**
-	 * Gets a pre-evolution table split by row.
-	 * @param totalRaw The document to get a pre-evolution table from.
-	 * @return The pre-evolution table, split by row.
-	 */
-	public static String[] getPrevoSplit6(String totalRaw) {
-		return getSplit6(totalRaw, "prevoh/6", "prevof/6", "prevo6\\|");
-	}
-
 	/**
 	 * Converts a name's spelling if needed.
 	 * @param convertMap The map of names that can be converted.
@@ -282,7 +141,7 @@ public class StringUtil {
 	 * @param pokemon The Pokémon spelling to convert.
 	 * @return The converted Pokémon spelling.
 	 */
-	public static String convertPokemonSpelling(String pokemon) {
+	public static synchronized String convertPokemonSpelling(String pokemon) {
 		if (pokemonConvertMap == null) {
 			pokemonConvertMap = new HashMap<>();
 			pokemonConvertMap.put("Mime Jr.", "Mime_Jr.");
@@ -299,7 +158,7 @@ public class StringUtil {
 	 * @param move The move spelling to convert.
 	 * @return The converted move spelling.
 	 */
-	public static String convertMoveSpelling(String move) {
+	public static synchronized String convertMoveSpelling(String move) {
 		if (moveConvertMap == null) {
 			moveConvertMap = new HashMap<>();
 			moveConvertMap.put("Ancient Power", "AncientPower");
@@ -336,74 +195,6 @@ public class StringUtil {
 		}
 	}
 
-	/**
-	 * Gets a TM move's name from a table line.
-	 * @param line The line to get a TM move from.
-	 * @return The TM move's name.
-	 */
-	public static String getTMMoveFromLine(String line) {
-		int pipeIndex1 = line.indexOf('|');
-		int linkIndex = line.lastIndexOf("]]");
-		int templateIndex = line.lastIndexOf("}}", line.lastIndexOf("}}") - 15);
-		int startIndex = Math.max(linkIndex, templateIndex);
-		if (startIndex > -1) {
-			pipeIndex1 = line.indexOf('|', startIndex);
-		}
-		int pipeIndex2 = line.indexOf('|', pipeIndex1 + 1);
-		return line.substring(pipeIndex1 + 1, pipeIndex2);
-	}
-
-	/**
-	 * Gets a tutor move's name from a table line.
-	 * @param line The line to get a tutor move from.
-	 * @return The tutor move's name.
-	 */
-	public static String getTutorMoveFromLine(String line) {
-		int pipeIndex1 = line.indexOf('|');
-		return line.substring(0, pipeIndex1);
-	}
-
-	/**
-	 * Gets a pre-evolution move's name from a table line.
-	 * @param line The line to get a pre-evolution move from.
-	 * @return The pre-evolution move's name.
-	 */
-	public static String getPrevoMoveFromLine(String line) {
-		if (line.contains("|e|")) {
-			return "";
-		}
-		int pipeIndex = 0;
-		for (int i = 0; i < 6; i++) {
-			pipeIndex = line.indexOf('|', pipeIndex + 1);
-		}
-		int pipeIndex2 = line.indexOf('|', pipeIndex + 1);
-		return line.substring(pipeIndex + 1, pipeIndex2);
-	}
-
-	/**
-	 * Excludes certain strings from a string.
-	 * @param initString The string to exclude strings from.
-	 * @param strings The strings to exclude.
-	 * @return The filtered string.
-	 */
-	public static String excludeStrings(String initString, String... strings) {
-		StringBuilder regex = new StringBuilder();
-		boolean first = true;
-		for (String string : strings) {
-			if (!first) {
-				regex.append('|');
-			}
-			for (char c : string.toCharArray()) {
-				if (c == '{' || c == '}' || c == '[' || c == ']' || c == '|') {
-					regex.append("\\");
-				}
-				regex.append(c);
-			}
-			first = false;
-		}
-		return initString.replaceAll(regex.toString(), "");
-	}
-
 	/**
 	 * Checks if a string equals any of a list of strings.
 	 * @param string The string to look for equality with.
@@ -522,7 +313,7 @@ public class StringUtil {
 	 * Gets all moves that no Pokémon can learn.
 	 * @return A set of all moves that no Pokémon can learn.
 	 */
-	public static Set<String> getUnavailableMoves() {
+	public static synchronized Set<String> getUnavailableMoves() {
 		if (unavailableMoves == null) {
 			unavailableMoves = new HashSet<>();
 			unavailableMoves.addAll(Arrays.asList("Blue Flare", "Bolt Strike", "Dark Void", "Freeze Shock",
@@ -604,7 +395,7 @@ public class StringUtil {
 	 * Gets the item name map. Initializes it if not already initialized.
 	 * @return The item name map.
 	 */
-	private static Map<String, String> getItemNameMap() {
+	private static synchronized Map<String, String> getItemNameMap() {
 		if (itemNameMap == null) {
 			itemNameMap = new HashMap<>();
 			itemNameMap.put("beef", "Raw Beef");
@@ -749,7 +540,7 @@ public class StringUtil {
 	 * Gets the Pokémon corrected name map. Loads the map if uninitialized.
 	 * @return The Pokémon corrected name map.
 	 */
-	private static Map<String, String> getPokemonCorrectMap() {
+	private static synchronized Map<String, String> getPokemonCorrectMap() {
 		if (pokemonCorrectMap == null) {
 			pokemonCorrectMap = new HashMap<>();
 			pokemonCorrectMap.put("Ho-oh", "Ho-Oh");
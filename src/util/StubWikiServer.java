@@ -0,0 +1,217 @@
+package util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local server that stands in for Bulbapedia so that downloading can be measured without network access.
+ * Start it, then run the miner with -Dminer.bulbapedia.url=http://localhost:PORT/w/
+ */
+public class StubWikiServer {
+
+	/** The default port to listen on. */
+	private static final int DEFAULT_PORT = 8089;
+	/** The default size of generated articles in bytes. */
+	private static final int DEFAULT_ARTICLE_SIZE = 100000;
+	/** The number of members generated for each category. */
+	private static final int CATEGORY_SIZE = 150;
+
+	/** The server listening for requests. */
+	private HttpServer server;
+	/** The size of generated articles in bytes. */
+	private int articleSize;
+	/** How long to wait before answering each request, in milliseconds. */
+	private long latency;
+	/** A folder containing article sources to serve instead of generated ones, or null to always generate. */
+	private File articleFolder;
+
+	/**
+	 * Starts the stub server.
+	 * @param args Argument 0: port, Argument 1: article size, Argument 2: latency in milliseconds, Argument 3: a
+	 * folder of article sources named by title.
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		int articleSize = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ARTICLE_SIZE;
+		long latency = args.length > 2 ? Long.parseLong(args[2]) : 0;
+		File articleFolder = args.length > 3 ? new File(args[3]) : null;
+		new StubWikiServer(port, articleSize, latency, articleFolder).start();
+		System.out.println("Stub wiki running at http://localhost:" + port + "/w/");
+	}
+
+	/**
+	 * Initializes the stub server.
+	 * @param port The port to listen on.
+	 * @param articleSize The size of generated articles in bytes.
+	 * @param latency How long to wait before answering each request, in milliseconds.
+	 * @param articleFolder A folder containing article sources to serve, or null to always generate articles.
+	 * @throws IOException If the port can't be opened.
+	 */
+	public StubWikiServer(int port, int articleSize, long latency, File articleFolder) throws IOException {
+		this.articleSize = articleSize;
+		this.latency = latency;
+		this.articleFolder = articleFolder;
+		server = HttpServer.create(new InetSocketAddress(port), 0);
+		server.createContext("/w/index.php", this::handleRaw);
+		server.createContext("/w/api.php", this::handleAPI);
+		server.setExecutor(Executors.newCachedThreadPool());
+	}
+
+	/**
+	 * Starts answering requests.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops answering requests.
+	 */
+	public void stop() {
+		server.stop(0);
+	}
+
+	/**
+	 * Answers a request for the raw source of an article.
+	 * @param exchange The request to answer.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private void handleRaw(HttpExchange exchange) throws IOException {
+		String title = getParameters(exchange).get("title");
+		if (title == null) {
+			send(exchange, 404, "");
+			return;
+		}
+		String article = getArticle(title);
+		String etag = '"' + ArticleCache.hash(article.getBytes(StandardCharsets.UTF_8)) + '"';
+		exchange.getResponseHeaders().set("ETag", etag);
+		if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+			send(exchange, 304, "");
+		} else {
+			send(exchange, 200, article);
+		}
+	}
+
+	/**
+	 * Answers a request to the query API.
+	 * @param exchange The request to answer.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private void handleAPI(HttpExchange exchange) throws IOException {
+		Map<String, String> parameters = getParameters(exchange);
+		JSONObject query = new JSONObject();
+		if (parameters.containsKey("cmtitle")) {
+			String category = parameters.get("cmtitle");
+			JSONArray members = new JSONArray();
+			for (int i = 0; i < CATEGORY_SIZE; i++) {
+				members.put(new JSONObject().put("title", category + " " + i + " (Pokémon)"));
+			}
+			query.put("categorymembers", members);
+		} else if (parameters.containsKey("titles") && "info".equals(parameters.get("prop"))) {
+			JSONArray pages = new JSONArray();
+			for (String title : parameters.get("titles").split("\\|")) {
+				pages.put(new JSONObject().put("title", title).put("lastrevid", 1));
+			}
+			query.put("pages", pages);
+		} else if (parameters.containsKey("titles")) {
+			JSONArray pages = new JSONArray();
+			for (String title : parameters.get("titles").split("\\|")) {
+				JSONObject content = new JSONObject().put("content", getArticle(title));
+				JSONObject revision = new JSONObject().put("revid", 1).put("slots",
+						new JSONObject().put("main", content));
+				pages.put(new JSONObject().put("title", title).put("revisions", new JSONArray().put(revision)));
+			}
+			query.put("pages", pages);
+		}
+		send(exchange, 200, new JSONObject().put("query", query).toString());
+	}
+
+	/**
+	 * Gets the source of an article.
+	 * @param title The title of the article.
+	 * @return The source of the article from the article folder, or a generated source.
+	 * @throws IOException If the article can't be read.
+	 */
+	private String getArticle(String title) throws IOException {
+		if (articleFolder != null) {
+			File articleFile = new File(articleFolder, title.replace('/', '_'));
+			if (articleFile.exists()) {
+				return new String(Files.readAllBytes(articleFile.toPath()), StandardCharsets.UTF_8);
+			}
+		}
+		StringBuilder builder = new StringBuilder(articleSize);
+		builder.append("{{Pokémon Infobox\n|name=");
+		builder.append(title);
+		builder.append("\n|ndex=001\n}}\n");
+		while (builder.length() < articleSize) {
+			builder.append("{{learnlist/level6|1|Tackle|Normal|Physical|50|100|35}}\n");
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Sends a response, compressing it if the client accepts compression.
+	 * @param exchange The request to answer.
+	 * @param status The HTTP status code.
+	 * @param body The response body.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private void send(HttpExchange exchange, int status, String body) throws IOException {
+		if (latency > 0) {
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+		if (bytes.length > 0 && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+			try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+				gzip.write(bytes);
+			}
+			bytes = compressed.toByteArray();
+			exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+		}
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		try (OutputStream stream = exchange.getResponseBody()) {
+			stream.write(bytes);
+		}
+	}
+
+	/**
+	 * Gets the query parameters of a request.
+	 * @param exchange The request to get parameters from.
+	 * @return A map from parameter names to values.
+	 */
+	private static Map<String, String> getParameters(HttpExchange exchange) {
+		Map<String, String> parameters = new HashMap<>();
+		String query = exchange.getRequestURI().getRawQuery();
+		if (query != null) {
+			for (String parameter : query.split("&")) {
+				String[] keyValue = parameter.split("=", 2);
+				if (keyValue.length == 2) {
+					parameters.put(keyValue[0], URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8));
+				}
+			}
+		}
+		return parameters;
+	}
+}
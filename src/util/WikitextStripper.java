@@ -0,0 +1,208 @@
+package util;
+
+/**
+ * Converts wikitext into plain text in a single pass. Inline templates such as {{m|Tackle}} or {{tt|a|b}} are
+ * replaced by their last parameter, links are replaced by their displayed text and comments are removed. Other
+ * templates are copied unchanged.
+ */
+public class WikitextStripper {
+
+	/** The templates that are replaced by their last parameter. */
+	private static final String[] INLINE_TEMPLATES = { "m", "tt", "p", "type", "t", "a", "wp" };
+
+	/** The builder reused for each conversion. */
+	private final StringBuilder buffer = new StringBuilder();
+
+	/**
+	 * Converts wikitext into plain text. The returned string is copied out of a builder that is reused by the next
+	 * call, so a stripper should only be used by one thread.
+	 * @param text The wikitext to convert.
+	 * @return The plain text.
+	 */
+	public String strip(CharSequence text) {
+		buffer.setLength(0);
+		strip(text, buffer);
+		return buffer.toString();
+	}
+
+	/**
+	 * Converts wikitext into plain text, adding it to a string builder.
+	 * @param text The wikitext to convert.
+	 * @param builder The string builder to add the plain text to.
+	 */
+	public void strip(CharSequence text, StringBuilder builder) {
+		render(text, 0, text.length(), builder);
+	}
+
+	/**
+	 * Converts part of a wikitext string into plain text.
+	 * @param text The wikitext to convert.
+	 * @param start The start of the part to convert.
+	 * @param end The end of the part to convert.
+	 * @param builder The string builder to add the plain text to.
+	 */
+	private void render(CharSequence text, int start, int end, StringBuilder builder) {
+		int position = start;
+		while (position < end) {
+			if (regionMatches(text, position, end, "<!--")) {
+				int close = indexOf(text, "-->", position + 4, end);
+				position = close == -1 ? end : close + 3;
+			} else if (regionMatches(text, position, end, "{{")) {
+				int close = findClose(text, position + 2, end, '{', '}');
+				if (close == -1) {
+					builder.append(text, position, end);
+					return;
+				}
+				renderTemplate(text, position, close + 2, builder);
+				position = close + 2;
+			} else if (regionMatches(text, position, end, "[[")) {
+				int close = findClose(text, position + 2, end, '[', ']');
+				if (close == -1) {
+					builder.append(text, position, end);
+					return;
+				}
+				int pipe = findLastPipe(text, position + 2, close);
+				render(text, pipe == -1 ? position + 2 : pipe + 1, close, builder);
+				position = close + 2;
+			} else {
+				builder.append(text.charAt(position));
+				position++;
+			}
+		}
+	}
+
+	/**
+	 * Converts a template into plain text.
+	 * @param text The wikitext being converted.
+	 * @param start The position of the opening braces of the template.
+	 * @param end The position after the closing braces of the template.
+	 * @param builder The string builder to add the plain text to.
+	 */
+	private void renderTemplate(CharSequence text, int start, int end, StringBuilder builder) {
+		int nameStart = start + 2;
+		int contentEnd = end - 2;
+		int nameEnd = nameStart;
+		while (nameEnd < contentEnd && text.charAt(nameEnd) != '|') {
+			nameEnd++;
+		}
+		if (!isInlineTemplate(text, nameStart, nameEnd)) {
+			builder.append(text, start, end);
+			return;
+		}
+		if (nameEnd < contentEnd) {
+			render(text, findLastPipe(text, nameStart, contentEnd) + 1, contentEnd, builder);
+		}
+	}
+
+	/**
+	 * Checks if a template name is one of the inline templates.
+	 * @param text The wikitext being converted.
+	 * @param start The start of the template name.
+	 * @param end The end of the template name.
+	 * @return Whether the template is replaced by its last parameter.
+	 */
+	private static boolean isInlineTemplate(CharSequence text, int start, int end) {
+		while (start < end && Character.isWhitespace(text.charAt(start))) {
+			start++;
+		}
+		while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+			end--;
+		}
+		for (String template : INLINE_TEMPLATES) {
+			if (end - start == template.length() && regionMatches(text, start, end, template)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the closing brackets that match an opening pair, skipping nested pairs.
+	 * @param text The wikitext being converted.
+	 * @param start The position after the opening brackets.
+	 * @param end The position to stop searching at.
+	 * @param open The opening bracket character.
+	 * @param close The closing bracket character.
+	 * @return The position of the matching closing brackets, or -1 if there are none.
+	 */
+	private static int findClose(CharSequence text, int start, int end, char open, char close) {
+		int depth = 0;
+		for (int i = start; i + 1 < end; i++) {
+			char c = text.charAt(i);
+			if (c == open && text.charAt(i + 1) == open) {
+				depth++;
+				i++;
+			} else if (c == close && text.charAt(i + 1) == close) {
+				if (depth == 0) {
+					return i;
+				}
+				depth--;
+				i++;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the last pipe that isn't inside a nested template or link.
+	 * @param text The wikitext being converted.
+	 * @param start The start of the part to search.
+	 * @param end The end of the part to search.
+	 * @return The position of the last top-level pipe, or -1 if there is none.
+	 */
+	private static int findLastPipe(CharSequence text, int start, int end) {
+		int depth = 0;
+		int lastPipe = -1;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			char next = i + 1 < end ? text.charAt(i + 1) : 0;
+			if ((c == '{' || c == '[') && next == c) {
+				depth++;
+				i++;
+			} else if ((c == '}' || c == ']') && next == c && depth > 0) {
+				depth--;
+				i++;
+			} else if (c == '|' && depth == 0) {
+				lastPipe = i;
+			}
+		}
+		return lastPipe;
+	}
+
+	/**
+	 * Checks if a string occurs at a position.
+	 * @param text The text to check.
+	 * @param position The position to check at.
+	 * @param end The end of the part of the text being checked.
+	 * @param string The string to look for.
+	 * @return Whether the string occurs at the position.
+	 */
+	private static boolean regionMatches(CharSequence text, int position, int end, String string) {
+		if (position + string.length() > end) {
+			return false;
+		}
+		for (int i = 0; i < string.length(); i++) {
+			if (text.charAt(position + i) != string.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds a string in part of a text.
+	 * @param text The text to search.
+	 * @param string The string to find.
+	 * @param start The position to start searching at.
+	 * @param end The end of the part of the text being searched.
+	 * @return The position of the string, or -1 if it isn't found.
+	 */
+	private static int indexOf(CharSequence text, String string, int start, int end) {
+		for (int i = start; i + string.length() <= end; i++) {
+			if (regionMatches(text, i, end, string)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}